@@ -0,0 +1,80 @@
+package org.example.http;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.example.domain.Match;
+import org.example.domain.Team;
+
+/**
+ * JSON encoding of the responses, written by hand so the module has no dependencies besides the score board.
+ */
+final class MatchJson {
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private MatchJson() {
+  }
+
+  /**
+   * @return {@code [{"id":"...","homeTeam":{"id":"...","name":"..."},"visitorTeam":{...},"homeTeamScore":1,
+   * "visitorTeamScore":0,"startTime":"2024-10-07T12:00:00Z"}, ...]}
+   */
+  static ByteBuffer encodeSummary(List<Match> summary) {
+    StringBuilder json = new StringBuilder(2 + summary.size() * 192);
+    json.append('[');
+    for (int i = 0; i < summary.size(); i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      appendMatch(json, summary.get(i));
+    }
+    json.append(']');
+    return ByteBuffer.wrap(json.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return {@code {"count":2}}
+   */
+  static ByteBuffer encodeCount(long count) {
+    return ByteBuffer.wrap(("{\"count\":" + count + "}").getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void appendMatch(StringBuilder json, Match match) {
+    json.append("{\"id\":\"").append(match.id()).append("\",\"homeTeam\":");
+    appendTeam(json, match.homeTeam());
+    json.append(",\"visitorTeam\":");
+    appendTeam(json, match.visitorTeam());
+    json.append(",\"homeTeamScore\":").append(match.homeTeamScore())
+        .append(",\"visitorTeamScore\":").append(match.visitorTeamScore())
+        .append(",\"startTime\":\"").append(match.startTime()).append("\"}");
+  }
+
+  private static void appendTeam(StringBuilder json, Team team) {
+    json.append("{\"id\":\"").append(team.id()).append("\",\"name\":");
+    appendString(json, team.name());
+    json.append('}');
+  }
+
+  private static void appendString(StringBuilder json, String value) {
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> json.append("\\\"");
+        case '\\' -> json.append("\\\\");
+        case '\n' -> json.append("\\n");
+        case '\r' -> json.append("\\r");
+        case '\t' -> json.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            json.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+          } else {
+            json.append(c);
+          }
+        }
+      }
+    }
+    json.append('"');
+  }
+}
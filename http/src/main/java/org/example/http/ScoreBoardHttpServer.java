@@ -0,0 +1,126 @@
+package org.example.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.example.infrastructure.cache.CachingScoreBoardService;
+import org.example.infrastructure.cache.VersionedValue;
+
+/**
+ * Read API of a score board over HTTP, served by the JDK's {@link HttpServer} with one virtual thread per exchange:
+ * <ul>
+ *   <li>{@code GET /matches/ongoing}: the ongoing match summary as JSON</li>
+ *   <li>{@code GET /matches/ongoing/count}: the number of ongoing matches</li>
+ *   <li>{@code GET /matches/finished}: the finished match summary as JSON</li>
+ * </ul>
+ * Every response is encoded once per version of the {@link CachingScoreBoardService} storage it is read from, and the
+ * encoded {@link ByteBuffer} is written to every client of that version without copying. The version is the
+ * {@code ETag} of the response, a client sending it in {@code If-None-Match} gets {@code 304 Not Modified} until the
+ * board changes.
+ */
+public final class ScoreBoardHttpServer implements Closeable {
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  private ScoreBoardHttpServer(HttpServer server, ExecutorService executor) {
+    this.server = server;
+    this.executor = executor;
+  }
+
+  /**
+   * @param address the address to listen on, port 0 picks a free port
+   */
+  public static ScoreBoardHttpServer start(CachingScoreBoardService scoreBoardService, InetSocketAddress address) {
+    HttpServer server;
+    try {
+      server = HttpServer.create(address, 0);
+    } catch (IOException e) {
+      throw new UncheckedIOException("HTTP server cannot be started on " + address, e);
+    }
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    server.setExecutor(executor);
+    server.createContext("/matches/ongoing", new CachedResponseHandler("/matches/ongoing",
+        scoreBoardService::ongoingMatchVersion,
+        () -> MatchJson.encodeSummary(scoreBoardService.getOngoingMatchSummary())));
+    server.createContext("/matches/ongoing/count", new CachedResponseHandler("/matches/ongoing/count",
+        scoreBoardService::ongoingMatchVersion,
+        () -> MatchJson.encodeCount(scoreBoardService.countOfOngoingMatches())));
+    server.createContext("/matches/finished", new CachedResponseHandler("/matches/finished",
+        scoreBoardService::finishedMatchVersion,
+        () -> MatchJson.encodeSummary(scoreBoardService.getFinishedMatchSummary())));
+    server.start();
+    return new ScoreBoardHttpServer(server, executor);
+  }
+
+  /**
+   * @return the address the server listens on
+   */
+  public InetSocketAddress address() {
+    return server.getAddress();
+  }
+
+  /**
+   * Stops accepting requests and waits for the exchanges in progress.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.close();
+  }
+
+  private static final class CachedResponseHandler implements HttpHandler {
+
+    private final String path;
+    private final LongSupplier version;
+    private final VersionedValue<EncodedResponse> response;
+
+    CachedResponseHandler(String path, LongSupplier version, Supplier<ByteBuffer> encoder) {
+      this.path = path;
+      this.version = version;
+      // the version is read before the board, so the body contains at least the changes of the version
+      this.response = new VersionedValue<>(() -> {
+        String etag = "\"" + version.getAsLong() + "\"";
+        return new EncodedResponse(encoder.get(), etag);
+      });
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+      try (exchange) {
+        if (!path.equals(exchange.getRequestURI().getPath())) {
+          exchange.sendResponseHeaders(404, -1);
+          return;
+        }
+        if (!"GET".equals(exchange.getRequestMethod())) {
+          exchange.getResponseHeaders().set("Allow", "GET");
+          exchange.sendResponseHeaders(405, -1);
+          return;
+        }
+        EncodedResponse encoded = response.get(version.getAsLong());
+        exchange.getResponseHeaders().set("ETag", encoded.etag());
+        if (encoded.etag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+          exchange.sendResponseHeaders(304, -1);
+          return;
+        }
+        ByteBuffer body = encoded.body();
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.remaining());
+        // the shared buffer is never read through its position, the backing array is written as it is
+        exchange.getResponseBody().write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+      }
+    }
+  }
+
+  private record EncodedResponse(ByteBuffer body, String etag) {
+  }
+}
@@ -0,0 +1,36 @@
+package org.example.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.Team;
+import org.junit.jupiter.api.Test;
+
+class MatchJsonTest {
+
+  @Test
+  void shouldEncodeSummary() {
+    var homeTeam = new Team(UUID.fromString("00000000-0000-0000-0000-000000000001"), "Côte d'Ivoire");
+    var visitorTeam = new Team(UUID.fromString("00000000-0000-0000-0000-000000000002"), "\"Eng\\land\"\n");
+    var match = new Match(UUID.fromString("00000000-0000-0000-0000-000000000003"), homeTeam, visitorTeam, 3, 2,
+        Instant.parse("2024-10-07T12:00:00Z"));
+
+    var json = MatchJson.encodeSummary(List.of(match, match));
+
+    String expectedMatch = "{\"id\":\"00000000-0000-0000-0000-000000000003\","
+        + "\"homeTeam\":{\"id\":\"00000000-0000-0000-0000-000000000001\",\"name\":\"Côte d'Ivoire\"},"
+        + "\"visitorTeam\":{\"id\":\"00000000-0000-0000-0000-000000000002\",\"name\":\"\\\"Eng\\\\land\\\"\\n\"},"
+        + "\"homeTeamScore\":3,\"visitorTeamScore\":2,\"startTime\":\"2024-10-07T12:00:00Z\"}";
+    assertEquals("[" + expectedMatch + "," + expectedMatch + "]", StandardCharsets.UTF_8.decode(json).toString());
+  }
+
+  @Test
+  void shouldEncodeEmptySummaryAndCount() {
+    assertEquals("[]", StandardCharsets.UTF_8.decode(MatchJson.encodeSummary(List.of())).toString());
+    assertEquals("{\"count\":2}", StandardCharsets.UTF_8.decode(MatchJson.encodeCount(2)).toString());
+  }
+}
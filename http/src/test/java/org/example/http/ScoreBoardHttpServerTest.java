@@ -0,0 +1,118 @@
+package org.example.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.domain.Team;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.InMemorySortedFinishedMatchStorage;
+import org.example.infrastructure.cache.CachingScoreBoardService;
+import org.example.infrastructure.cache.VersionedFinishedMatchStorage;
+import org.example.infrastructure.cache.VersionedOngoingMatchStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScoreBoardHttpServerTest {
+
+  private final HttpClient client = HttpClient.newHttpClient();
+  private InMemoryAvailableTeamStorage availableTeamStorage;
+  private CachingScoreBoardService scoreBoardService;
+  private ScoreBoardHttpServer server;
+
+  @BeforeEach
+  void init() {
+    availableTeamStorage = new InMemoryAvailableTeamStorage();
+    var ongoingMatchStorage = new VersionedOngoingMatchStorage(new InMemoryOngoingMatchStorage());
+    var finishedMatchStorage = new VersionedFinishedMatchStorage(new InMemorySortedFinishedMatchStorage());
+    scoreBoardService = new CachingScoreBoardService(
+        new ScoreBoardServiceImpl(ongoingMatchStorage, availableTeamStorage, finishedMatchStorage),
+        ongoingMatchStorage, finishedMatchStorage);
+    server = ScoreBoardHttpServer.start(scoreBoardService,
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+  }
+
+  @AfterEach
+  void cleanUp() {
+    server.close();
+  }
+
+  @Test
+  void shouldServeSummariesAndCount() throws Exception {
+    var match1 = startMatch("Austria", "England");
+    var match2 = startMatch("France", "Belgium");
+    scoreBoardService.updateOngoingMatch(match2.id(), 1, 0);
+    scoreBoardService.finishMatch(match1.id());
+
+    var ongoing = get("/matches/ongoing", null);
+    var count = get("/matches/ongoing/count", null);
+    var finished = get("/matches/finished", null);
+
+    assertEquals(200, ongoing.statusCode());
+    assertEquals("application/json", ongoing.headers().firstValue("Content-Type").orElseThrow());
+    assertEquals(json(scoreBoardService.getOngoingMatchSummary()), ongoing.body());
+    assertEquals("{\"count\":1}", count.body());
+    assertEquals(json(scoreBoardService.getFinishedMatchSummary()), finished.body());
+  }
+
+  @Test
+  void shouldReturnNotModified_untilBoardChanges() throws Exception {
+    var match = startMatch("Austria", "England");
+    var first = get("/matches/ongoing", null);
+    String etag = first.headers().firstValue("ETag").orElseThrow();
+
+    assertEquals(304, get("/matches/ongoing", etag).statusCode());
+
+    scoreBoardService.updateOngoingMatch(match.id(), 1, 0);
+    var changed = get("/matches/ongoing", etag);
+
+    assertEquals(200, changed.statusCode());
+    assertNotEquals(etag, changed.headers().firstValue("ETag").orElseThrow());
+    assertTrue(changed.body().contains("\"homeTeamScore\":1"));
+  }
+
+  @Test
+  void shouldRejectUnknownPathsAndMethods() throws Exception {
+    assertEquals(404, get("/matches/ongoing/unknown", null).statusCode());
+    var post = client.send(HttpRequest.newBuilder(uri("/matches/finished"))
+        .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+    assertEquals(405, post.statusCode());
+  }
+
+  private HttpResponse<String> get(String path, String ifNoneMatch) throws IOException, InterruptedException {
+    var request = HttpRequest.newBuilder(uri(path)).GET();
+    if (ifNoneMatch != null) {
+      request.header("If-None-Match", ifNoneMatch);
+    }
+    return client.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + server.address().getPort() + path);
+  }
+
+  private static String json(List<Match> summary) {
+    return StandardCharsets.UTF_8.decode(MatchJson.encodeSummary(summary)).toString();
+  }
+
+  private Match startMatch(String homeTeamName, String visitorTeamName) {
+    var homeTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), homeTeamName));
+    var visitorTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), visitorTeamName));
+    return scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(), Instant.parse("2024-10-07T12:00:00Z"));
+  }
+}
@@ -9,6 +9,9 @@
 plugins {
     // Apply the java-library plugin for API and implementation separation.
     `java-library`
+
+    // Apply the JMH plugin for the benchmarks in src/jmh/java.
+    alias(libs.plugins.jmh)
 }
 
 repositories {
@@ -22,6 +25,10 @@ dependencies {
 
     // This dependency is used internally, and not exposed to consumers on their own compile classpath.
     implementation(libs.guava)
+
+    // JSON baseline of the codec benchmark, only on the benchmark classpath.
+    jmh(libs.jackson.databind)
+    jmh(libs.jackson.datatype.jsr310)
 }
 
 testing {
@@ -34,6 +41,16 @@ testing {
     }
 }
 
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    // Report the allocation rate next to the throughput and latency results.
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    // e.g. ./gradlew :lib:jmh -Pjmh.includes=ScoreBoardBenchmark
+    // The thread counts are set by @Threads in the benchmarks, so they are part of the benchmark names and results.
+    providers.gradleProperty("jmh.includes").orNull?.let { includes = listOf(it) }
+}
+
 // Apply a specific Java toolchain to ease working on different environments.
 java {
     toolchain {
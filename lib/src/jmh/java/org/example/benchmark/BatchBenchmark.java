@@ -0,0 +1,71 @@
+package org.example.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.MatchResult;
+import org.example.domain.ScoreUpdate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Score updates applied with the batch API compared to the same updates applied one by one. Every tenth update refers
+ * to a finished match, so the cost of the failure handling is part of the comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchBenchmark {
+
+  static final int BATCH_SIZE = 100;
+
+  @State(Scope.Thread)
+  public static class Updates {
+
+    List<ScoreUpdate> updates;
+
+    @Setup(Level.Iteration)
+    public void setup(ScoreBoardState board) {
+      var random = ThreadLocalRandom.current();
+      updates = new ArrayList<>(BATCH_SIZE);
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        var matchId = i % 10 == 0 ? UUID.randomUUID() : board.randomOngoingMatchId();
+        updates.add(new ScoreUpdate(matchId, random.nextInt(10), random.nextInt(10)));
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<MatchResult> updateOngoingMatchesBatch(ScoreBoardState board, Updates updates) {
+    return board.scoreBoardService.updateOngoingMatches(updates.updates);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void updateOngoingMatchLoop(ScoreBoardState board, Updates updates, Blackhole blackhole) {
+    for (ScoreUpdate update : updates.updates) {
+      try {
+        blackhole.consume(board.scoreBoardService.updateOngoingMatch(update.matchUuid(), update.homeTeamScore(),
+            update.visitorTeamScore()));
+      } catch (RuntimeException e) {
+        blackhole.consume(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.Match;
+import org.example.domain.Team;
+import org.example.infrastructure.codec.ScoreBoardCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ScoreBoardCodec} compared to JSON with Jackson's reflective record mapping, for one match and for a summary.
+ * Run with the gc profiler to compare the allocations. {@code ScoreBoardCodecTest} asserts the binary sizes of data of
+ * this shape.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CodecBenchmark {
+
+  @Param({"10", "1000"})
+  int summarySize;
+
+  private ObjectMapper objectMapper;
+  private JavaType summaryType;
+  private Match match;
+  private List<Match> summary;
+  private ByteBuffer buffer;
+  private ByteBuffer encodedMatch;
+  private ByteBuffer encodedSummary;
+  private byte[] matchJson;
+  private byte[] summaryJson;
+
+  @Setup
+  public void setup() throws IOException {
+    objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    summaryType = objectMapper.getTypeFactory().constructCollectionType(List.class, Match.class);
+
+    var random = new Random(42);
+    List<Team> teams = new ArrayList<>();
+    for (int i = 0; i < 48; i++) {
+      teams.add(new Team(UUID.randomUUID(), "Team " + i));
+    }
+    summary = new ArrayList<>(summarySize);
+    for (int i = 0; i < summarySize; i++) {
+      int home = random.nextInt(teams.size());
+      summary.add(new Match(UUID.randomUUID(), teams.get(home), teams.get((home + 1) % teams.size()),
+          random.nextInt(6), random.nextInt(6), Instant.parse("2024-10-07T12:00:00Z").plusSeconds(60L * i)));
+    }
+    summary.sort(Match.SUMMARY_ORDER);
+    match = summary.getFirst();
+
+    buffer = ByteBuffer.allocate(ScoreBoardCodec.summarySize(summary));
+    encodedMatch = ByteBuffer.allocate(ScoreBoardCodec.matchSize(match));
+    ScoreBoardCodec.encodeMatch(match, encodedMatch);
+    encodedMatch.flip();
+    encodedSummary = ScoreBoardCodec.encodeSummary(summary);
+    matchJson = objectMapper.writeValueAsBytes(match);
+    summaryJson = objectMapper.writeValueAsBytes(summary);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeMatchBinary() {
+    buffer.clear();
+    ScoreBoardCodec.encodeMatch(match, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public byte[] encodeMatchJson() throws IOException {
+    return objectMapper.writeValueAsBytes(match);
+  }
+
+  @Benchmark
+  public Match decodeMatchBinary() {
+    return ScoreBoardCodec.decodeMatch(encodedMatch.rewind());
+  }
+
+  @Benchmark
+  public Match decodeMatchJson() throws IOException {
+    return objectMapper.readValue(matchJson, Match.class);
+  }
+
+  @Benchmark
+  public ByteBuffer encodeSummaryBinary() {
+    buffer.clear();
+    ScoreBoardCodec.encodeSummary(summary, buffer);
+    return buffer;
+  }
+
+  @Benchmark
+  public byte[] encodeSummaryJson() throws IOException {
+    return objectMapper.writeValueAsBytes(summary);
+  }
+
+  @Benchmark
+  public List<Match> decodeSummaryBinary() {
+    return ScoreBoardCodec.decodeSummary(encodedSummary.rewind());
+  }
+
+  @Benchmark
+  public List<Match> decodeSummaryJson() throws IOException {
+    return objectMapper.readValue(summaryJson, summaryType);
+  }
+}
@@ -0,0 +1,114 @@
+package org.example.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.domain.Team;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryFinishedMatchStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.TeamRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Concurrent finishes of unrelated matches, lock-free and behind one global lock like {@code finishMatch} of the
+ * {@link ScoreBoardServiceImpl} used to be. Every thread starts and finishes matches of its own teams, only the finish
+ * differs between the two variants. The thread count is fixed per benchmark method. An iteration is a fixed batch of
+ * finishes per thread on a new board, so every sample adds the same number of matches to the finished storage.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = ScoreBoardBenchmark.FINISHES_PER_ITERATION)
+@Measurement(iterations = 20, batchSize = ScoreBoardBenchmark.FINISHES_PER_ITERATION)
+@Fork(1)
+public class FinishContentionBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class Board {
+
+    /**
+     * {@code globalLock} finishes the matches in a block synchronized on the score board.
+     */
+    @Param({"lockFree", "globalLock"})
+    public String finish;
+
+    AvailableTeamStorage availableTeamStorage;
+    ScoreBoardService scoreBoardService;
+    private boolean globalLock;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      globalLock = switch (finish) {
+        case "lockFree" -> false;
+        case "globalLock" -> true;
+        default -> throw new IllegalArgumentException("Unknown finish: " + finish);
+      };
+      availableTeamStorage = new InMemoryAvailableTeamStorage(new TeamRegistry());
+      scoreBoardService = new ScoreBoardServiceImpl(new InMemoryOngoingMatchStorage(), availableTeamStorage,
+          new InMemoryFinishedMatchStorage());
+    }
+
+    void finishMatch(UUID matchUuid) {
+      if (globalLock) {
+        synchronized (this) {
+          scoreBoardService.finishMatch(matchUuid);
+        }
+      } else {
+        scoreBoardService.finishMatch(matchUuid);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Teams {
+
+    UUID homeTeamId;
+    UUID visitorTeamId;
+
+    @Setup(Level.Iteration)
+    public void setup(Board board) {
+      homeTeamId = board.availableTeamStorage.put(new Team(UUID.randomUUID(), "Thread home")).id();
+      visitorTeamId = board.availableTeamStorage.put(new Team(UUID.randomUUID(), "Thread visitor")).id();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Match oneThread(Board board, Teams teams) {
+    return startAndFinishMatch(board, teams);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Match fourThreads(Board board, Teams teams) {
+    return startAndFinishMatch(board, teams);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Match sixteenThreads(Board board, Teams teams) {
+    return startAndFinishMatch(board, teams);
+  }
+
+  private static Match startAndFinishMatch(Board board, Teams teams) {
+    Match match = board.scoreBoardService.startNewMatch(teams.homeTeamId, teams.visitorTeamId,
+        ScoreBoardState.START_TIME);
+    board.finishMatch(match.id());
+    return match;
+  }
+}
@@ -0,0 +1,60 @@
+package org.example.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.ScoreUpdate;
+import org.example.infrastructure.ingestion.IngestionConfig;
+import org.example.infrastructure.ingestion.ScoreUpdateIngestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rate at which {@link ScoreUpdateIngestion} accepts updates of the ongoing matches, compared to applying every update
+ * directly. Run with several threads to simulate concurrent feeds.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestionBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class Ingestion {
+
+    ScoreUpdateIngestion ingestion;
+
+    @Setup(Level.Iteration)
+    public void setup(ScoreBoardState board) {
+      ingestion = new ScoreUpdateIngestion(board.scoreBoardService, new IngestionConfig());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+      ingestion.close();
+    }
+  }
+
+  @Benchmark
+  public void submit(ScoreBoardState board, Ingestion ingestion) throws InterruptedException {
+    var random = ThreadLocalRandom.current();
+    ingestion.ingestion.submit(new ScoreUpdate(board.randomOngoingMatchId(), random.nextInt(10), random.nextInt(10)));
+  }
+
+  @Benchmark
+  public void updateOngoingMatchScore(ScoreBoardState board) {
+    var random = ThreadLocalRandom.current();
+    board.scoreBoardService.updateOngoingMatchScore(board.randomOngoingMatchId(), random.nextInt(10),
+        random.nextInt(10));
+  }
+}
@@ -0,0 +1,72 @@
+package org.example.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardService;
+import org.example.infrastructure.metrics.MetricsScoreBoardService;
+import org.example.infrastructure.metrics.ScoreBoardMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of {@link MetricsScoreBoardService}: the same operations with and without the metrics decorator. Run with
+ * {@code -p ongoingMatchStorageType=InMemorySlot -p journaled=false} to see the overhead on the cheapest update.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class Instrumented {
+
+    ScoreBoardService scoreBoardService;
+
+    @Setup(Level.Iteration)
+    public void setup(ScoreBoardState board) {
+      scoreBoardService = new MetricsScoreBoardService(board.scoreBoardService, new ScoreBoardMetrics());
+    }
+  }
+
+  @Benchmark
+  public void updateOngoingMatchScore(ScoreBoardState board) {
+    var random = ThreadLocalRandom.current();
+    board.scoreBoardService.updateOngoingMatchScore(board.randomOngoingMatchId(), random.nextInt(10),
+        random.nextInt(10));
+  }
+
+  @Benchmark
+  public void updateOngoingMatchScoreInstrumented(ScoreBoardState board, Instrumented instrumented) {
+    var random = ThreadLocalRandom.current();
+    instrumented.scoreBoardService.updateOngoingMatchScore(board.randomOngoingMatchId(), random.nextInt(10),
+        random.nextInt(10));
+  }
+
+  @Benchmark
+  public Match startAndFinishMatch(ScoreBoardState board, ThreadTeams teams) {
+    Match match = board.scoreBoardService.startNewMatch(teams.homeTeamId, teams.visitorTeamId,
+        ScoreBoardState.START_TIME);
+    board.scoreBoardService.finishMatch(match.id());
+    return match;
+  }
+
+  @Benchmark
+  public Match startAndFinishMatchInstrumented(ScoreBoardState board, ThreadTeams teams, Instrumented instrumented) {
+    Match match = instrumented.scoreBoardService.startNewMatch(teams.homeTeamId, teams.visitorTeamId,
+        ScoreBoardState.START_TIME);
+    instrumented.scoreBoardService.finishMatch(match.id());
+    return match;
+  }
+}
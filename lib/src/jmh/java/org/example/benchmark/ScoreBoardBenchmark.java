@@ -0,0 +1,88 @@
+package org.example.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput and latency percentiles of the single score board operations on 1 thread, and on 4 and 16 threads in the
+ * {@link FourThreads} and {@link SixteenThreads} variants to see how the operations scale under contention.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class ScoreBoardBenchmark {
+
+  static final int FINISHES_PER_ITERATION = 1000;
+
+  @Threads(4)
+  public static class FourThreads extends ScoreBoardBenchmark {
+
+  }
+
+  @Threads(16)
+  public static class SixteenThreads extends ScoreBoardBenchmark {
+
+  }
+
+  /**
+   * Every finish adds a match to the finished storage, so an iteration is a fixed batch of finishes per thread on a
+   * board rebuilt before it, instead of a timed one, where later samples would run against a bigger board.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(iterations = 5, batchSize = FINISHES_PER_ITERATION)
+  @Measurement(iterations = 20, batchSize = FINISHES_PER_ITERATION)
+  public Match startAndFinishMatch(ScoreBoardState board, ThreadTeams teams) {
+    Match match = board.scoreBoardService.startNewMatch(teams.homeTeamId, teams.visitorTeamId,
+        ScoreBoardState.START_TIME);
+    board.scoreBoardService.finishMatch(match.id());
+    return match;
+  }
+
+  @Benchmark
+  public Match updateOngoingMatch(ScoreBoardState board) {
+    var random = ThreadLocalRandom.current();
+    return board.scoreBoardService.updateOngoingMatch(board.randomOngoingMatchId(), random.nextInt(10),
+        random.nextInt(10));
+  }
+
+  @Benchmark
+  public void updateOngoingMatchScore(ScoreBoardState board) {
+    var random = ThreadLocalRandom.current();
+    board.scoreBoardService.updateOngoingMatchScore(board.randomOngoingMatchId(), random.nextInt(10),
+        random.nextInt(10));
+  }
+
+  @Benchmark
+  public List<Match> getFinishedMatchSummary(ScoreBoardState board) {
+    return board.scoreBoardService.getFinishedMatchSummary();
+  }
+
+  @Benchmark
+  public List<Match> getTopFinishedMatches(ScoreBoardState board) {
+    return board.scoreBoardService.getTopFinishedMatches(10);
+  }
+
+  @Benchmark
+  public List<Match> getOngoingMatchSummary(ScoreBoardState board) {
+    return board.scoreBoardService.getOngoingMatchSummary();
+  }
+
+  @Benchmark
+  public long countOfOngoingMatches(ScoreBoardState board) {
+    return board.scoreBoardService.countOfOngoingMatches();
+  }
+}
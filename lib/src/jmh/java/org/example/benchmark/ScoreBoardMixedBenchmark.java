@@ -0,0 +1,60 @@
+package org.example.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Score updates and summary reads running at the same time, with a read heavy and a write heavy mix.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreBoardMixedBenchmark {
+
+  @Benchmark
+  @Group("readHeavy")
+  @GroupThreads(1)
+  public Match readHeavyUpdate(ScoreBoardState board) {
+    return update(board);
+  }
+
+  @Benchmark
+  @Group("readHeavy")
+  @GroupThreads(3)
+  public List<Match> readHeavySummary(ScoreBoardState board) {
+    return board.scoreBoardService.getOngoingMatchSummary();
+  }
+
+  @Benchmark
+  @Group("writeHeavy")
+  @GroupThreads(3)
+  public Match writeHeavyUpdate(ScoreBoardState board) {
+    return update(board);
+  }
+
+  @Benchmark
+  @Group("writeHeavy")
+  @GroupThreads(1)
+  public List<Match> writeHeavySummary(ScoreBoardState board) {
+    return board.scoreBoardService.getOngoingMatchSummary();
+  }
+
+  private static Match update(ScoreBoardState board) {
+    var random = ThreadLocalRandom.current();
+    return board.scoreBoardService.updateOngoingMatch(board.randomOngoingMatchId(), random.nextInt(10),
+        random.nextInt(10));
+  }
+}
@@ -0,0 +1,146 @@
+package org.example.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.domain.SingleWriterScoreBoardService;
+import org.example.domain.Team;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.ColumnarFinishedMatchStorage;
+import org.example.infrastructure.FinishedMatchStorage;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryFinishedMatchStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.InMemorySlotOngoingMatchStorage;
+import org.example.infrastructure.InMemorySortedFinishedMatchStorage;
+import org.example.infrastructure.OngoingMatchStorage;
+import org.example.infrastructure.TeamRegistry;
+import org.example.infrastructure.persistence.JournalConfig;
+import org.example.infrastructure.persistence.JournaledAvailableTeamStorage;
+import org.example.infrastructure.persistence.JournaledFinishedMatchStorage;
+import org.example.infrastructure.persistence.JournaledOngoingMatchStorage;
+import org.example.infrastructure.persistence.ScoreBoardJournal;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A score board with {@code boardSize} ongoing and {@code boardSize} finished matches, rebuilt before every iteration.
+ */
+@State(Scope.Benchmark)
+public class ScoreBoardState {
+
+  static final Instant START_TIME = Instant.parse("2024-10-07T12:00:00Z");
+
+  @Param({"100", "10000"})
+  public int boardSize;
+
+  /**
+   * {@code SingleWriter} selects the {@link SingleWriterScoreBoardService} engine, which keeps the ongoing matches
+   * itself.
+   */
+  @Param({"InMemory", "InMemorySlot", "SingleWriter"})
+  public String ongoingMatchStorageType;
+
+  @Param({"InMemory", "InMemorySorted", "Columnar"})
+  public String finishedMatchStorageType;
+
+  /**
+   * Whether the storages append their mutations to a {@link ScoreBoardJournal}.
+   */
+  @Param({"false", "true"})
+  public boolean journaled;
+
+  AvailableTeamStorage availableTeamStorage;
+  OngoingMatchStorage ongoingMatchStorage;
+  FinishedMatchStorage finishedMatchStorage;
+  ScoreBoardService scoreBoardService;
+  UUID[] ongoingMatchIds;
+  private SingleWriterScoreBoardService singleWriterScoreBoardService;
+  private Path journalDirectory;
+  private ScoreBoardJournal journal;
+
+  @Setup(Level.Iteration)
+  public void setup() throws IOException {
+    var teamRegistry = new TeamRegistry();
+    availableTeamStorage = new InMemoryAvailableTeamStorage(teamRegistry);
+    ongoingMatchStorage = switch (ongoingMatchStorageType) {
+      case "InMemory" -> new InMemoryOngoingMatchStorage();
+      case "InMemorySlot" -> new InMemorySlotOngoingMatchStorage(teamRegistry);
+      // the engine keeps the ongoing matches itself, this storage is only opened by the journal
+      case "SingleWriter" -> new InMemoryOngoingMatchStorage();
+      default -> throw new IllegalArgumentException("Unknown ongoing match storage: " + ongoingMatchStorageType);
+    };
+    finishedMatchStorage = switch (finishedMatchStorageType) {
+      case "InMemory" -> new InMemoryFinishedMatchStorage();
+      case "InMemorySorted" -> new InMemorySortedFinishedMatchStorage();
+      case "Columnar" -> new ColumnarFinishedMatchStorage(teamRegistry);
+      default -> throw new IllegalArgumentException("Unknown finished match storage: " + finishedMatchStorageType);
+    };
+    if (journaled) {
+      journalDirectory = Files.createTempDirectory("score-board-benchmark");
+      journal = ScoreBoardJournal.open(new JournalConfig(journalDirectory), availableTeamStorage, ongoingMatchStorage,
+          finishedMatchStorage);
+      availableTeamStorage = new JournaledAvailableTeamStorage(availableTeamStorage, journal);
+      ongoingMatchStorage = new JournaledOngoingMatchStorage(ongoingMatchStorage, journal);
+      finishedMatchStorage = new JournaledFinishedMatchStorage(finishedMatchStorage, journal);
+    }
+    if (ongoingMatchStorageType.equals("SingleWriter")) {
+      singleWriterScoreBoardService = new SingleWriterScoreBoardService(availableTeamStorage, finishedMatchStorage);
+      scoreBoardService = singleWriterScoreBoardService;
+    } else {
+      scoreBoardService = new ScoreBoardServiceImpl(ongoingMatchStorage, availableTeamStorage, finishedMatchStorage);
+    }
+
+    var random = ThreadLocalRandom.current();
+    for (int i = 0; i < boardSize; i++) {
+      Match match = startMatch("Finished " + i);
+      scoreBoardService.updateOngoingMatch(match.id(), random.nextInt(6), random.nextInt(6));
+      scoreBoardService.finishMatch(match.id());
+    }
+    ongoingMatchIds = new UUID[boardSize];
+    for (int i = 0; i < boardSize; i++) {
+      Match match = startMatch("Ongoing " + i);
+      scoreBoardService.updateOngoingMatch(match.id(), random.nextInt(6), random.nextInt(6));
+      ongoingMatchIds[i] = match.id();
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws IOException {
+    if (singleWriterScoreBoardService != null) {
+      singleWriterScoreBoardService.close();
+      singleWriterScoreBoardService = null;
+    }
+    if (journal != null) {
+      journal.close();
+      try (Stream<Path> files = Files.list(journalDirectory)) {
+        for (Path file : files.toList()) {
+          Files.delete(file);
+        }
+      }
+      Files.delete(journalDirectory);
+      journal = null;
+    }
+  }
+
+  UUID randomOngoingMatchId() {
+    return ongoingMatchIds[ThreadLocalRandom.current().nextInt(ongoingMatchIds.length)];
+  }
+
+  private Match startMatch(String name) {
+    Team homeTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), name + " home"));
+    Team visitorTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), name + " visitor"));
+    return scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(), START_TIME);
+  }
+}
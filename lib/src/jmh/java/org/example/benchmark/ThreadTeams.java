@@ -0,0 +1,24 @@
+package org.example.benchmark;
+
+import java.util.UUID;
+import org.example.domain.Team;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A pair of teams owned by one benchmark thread, so threads starting and finishing matches never compete for a team.
+ */
+@State(Scope.Thread)
+public class ThreadTeams {
+
+  UUID homeTeamId;
+  UUID visitorTeamId;
+
+  @Setup(Level.Iteration)
+  public void setup(ScoreBoardState board) {
+    homeTeamId = board.availableTeamStorage.put(new Team(UUID.randomUUID(), "Thread home")).id();
+    visitorTeamId = board.availableTeamStorage.put(new Team(UUID.randomUUID(), "Thread visitor")).id();
+  }
+}
@@ -0,0 +1,21 @@
+package org.example.domain;
+
+/**
+ * What happens with a new event when the buffer of a subscriber is full.
+ */
+public enum BackpressureStrategy {
+  /**
+   * The new event is dropped.
+   */
+  DROP,
+  /**
+   * A score update replaces the not yet delivered score update of the same match, so the subscriber gets only the
+   * latest score. Other events are dropped when the buffer is full.
+   */
+  CONFLATE,
+  /**
+   * The publishing thread waits until the subscriber makes room in its buffer. A slow subscriber stalls the score
+   * board operations, it is meant for subscribers that must not lose any event.
+   */
+  BLOCK
+}
@@ -1,6 +1,7 @@
 package org.example.domain;
 
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -11,6 +12,14 @@ public record Match(UUID id,
                     int visitorTeamScore,
                     Instant startTime) {
 
+  /**
+   * Summary order: highest total score first, matches with the same total score ordered by the most recent start.
+   */
+  public static final Comparator<Match> SUMMARY_ORDER = Comparator
+      .comparingInt(Match::totalScore)
+      .reversed()
+      .thenComparing(Match::startTime, Comparator.reverseOrder());
+
   public Match {
     Objects.requireNonNull(id);
     Objects.requireNonNull(homeTeam);
@@ -33,4 +42,8 @@ public record Match(UUID id,
   public Match(Team homeTeam, Team visitorTeam, Instant startTime) {
     this(UUID.randomUUID(), homeTeam, visitorTeam, 0, 0, startTime);
   }
+
+  public int totalScore() {
+    return homeTeamScore + visitorTeamScore;
+  }
 }
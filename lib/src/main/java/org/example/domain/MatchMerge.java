@@ -0,0 +1,94 @@
+package org.example.domain;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * K-way merge of summaries that are already ordered by {@link Match#SUMMARY_ORDER}. The heap holds the head of every
+ * summary, so merging n matches of k summaries is O(n log k). Equal matches are taken from the summaries in their
+ * order.
+ */
+final class MatchMerge {
+
+  private MatchMerge() {
+  }
+
+  static List<Match> merge(List<List<Match>> summaries) {
+    return merge(summaries, Integer.MAX_VALUE);
+  }
+
+  static List<Match> merge(List<List<Match>> summaries, int limit) {
+    List<Iterator<Match>> iterators = new ArrayList<>(summaries.size());
+    int size = 0;
+    for (List<Match> summary : summaries) {
+      iterators.add(summary.iterator());
+      size += summary.size();
+    }
+    List<Match> merged = new ArrayList<>(Math.min(size, limit));
+    Iterator<Match> iterator = new MergingIterator(iterators);
+    while (merged.size() < limit && iterator.hasNext()) {
+      merged.add(iterator.next());
+    }
+    return merged;
+  }
+
+  /**
+   * Merges lazily, a summary is read only when its next match is needed. Closing the merged stream closes the
+   * summaries.
+   */
+  static Stream<Match> mergeStreams(List<Stream<Match>> summaries) {
+    List<Iterator<Match>> iterators = summaries.stream().map(Stream::iterator).toList();
+    Spliterator<Match> spliterator = Spliterators.spliteratorUnknownSize(new MergingIterator(iterators),
+        Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false)
+        .onClose(() -> summaries.forEach(Stream::close));
+  }
+
+  private static final class MergingIterator implements Iterator<Match> {
+
+    private final PriorityQueue<Head> heads;
+
+    MergingIterator(List<Iterator<Match>> iterators) {
+      heads = new PriorityQueue<>(Math.max(1, iterators.size()));
+      for (int i = 0; i < iterators.size(); i++) {
+        Iterator<Match> iterator = iterators.get(i);
+        if (iterator.hasNext()) {
+          heads.add(new Head(iterator.next(), i, iterator));
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public Match next() {
+      Head head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      if (head.iterator.hasNext()) {
+        heads.add(new Head(head.iterator.next(), head.index, head.iterator));
+      }
+      return head.match;
+    }
+  }
+
+  private record Head(Match match, int index, Iterator<Match> iterator) implements Comparable<Head> {
+
+    @Override
+    public int compareTo(Head other) {
+      int order = Match.SUMMARY_ORDER.compare(match, other.match);
+      return order != 0 ? order : Integer.compare(index, other.index);
+    }
+  }
+}
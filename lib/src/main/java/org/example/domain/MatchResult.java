@@ -0,0 +1,43 @@
+package org.example.domain;
+
+import java.util.Objects;
+
+/**
+ * Result of one item of a batch operation. The batch operations report the failures with these results instead of
+ * throwing exceptions.
+ *
+ * @param match   the started, updated or finished match, null if the operation failed
+ * @param message the reason of the failure, null if the operation succeeded
+ */
+public record MatchResult(Status status, Match match, String message) {
+
+  public enum Status {
+    SUCCESS,
+    NOT_FOUND,
+    ALREADY_EXISTS,
+    INVALID,
+    /**
+     * The update was ignored, the match was already updated with the same or a newer sequence.
+     */
+    STALE
+  }
+
+  public MatchResult {
+    Objects.requireNonNull(status);
+  }
+
+  public static MatchResult success(Match match) {
+    return new MatchResult(Status.SUCCESS, Objects.requireNonNull(match), null);
+  }
+
+  public static MatchResult failure(Status status, String message) {
+    if (status == Status.SUCCESS) {
+      throw new IllegalArgumentException("A failure cannot have SUCCESS status.");
+    }
+    return new MatchResult(status, null, message);
+  }
+
+  public boolean isSuccess() {
+    return status == Status.SUCCESS;
+  }
+}
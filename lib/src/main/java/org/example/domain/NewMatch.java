@@ -0,0 +1,14 @@
+package org.example.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+public record NewMatch(UUID homeTeamUuid, UUID visitorTeamUuid, Instant startTime) {
+
+  public NewMatch {
+    Objects.requireNonNull(homeTeamUuid);
+    Objects.requireNonNull(visitorTeamUuid);
+    Objects.requireNonNull(startTime);
+  }
+}
@@ -0,0 +1,32 @@
+package org.example.domain;
+
+import java.util.Objects;
+
+/**
+ * Change of the score board, published to the subscribers of the {@link ScoreBoardService}.
+ */
+public sealed interface ScoreBoardEvent {
+
+  Match match();
+
+  record MatchStarted(Match match) implements ScoreBoardEvent {
+
+    public MatchStarted {
+      Objects.requireNonNull(match);
+    }
+  }
+
+  record ScoreUpdated(Match match) implements ScoreBoardEvent {
+
+    public ScoreUpdated {
+      Objects.requireNonNull(match);
+    }
+  }
+
+  record MatchFinished(Match match) implements ScoreBoardEvent {
+
+    public MatchFinished {
+      Objects.requireNonNull(match);
+    }
+  }
+}
@@ -1,8 +1,13 @@
 package org.example.domain;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 public interface ScoreBoardService {
 
@@ -10,9 +15,71 @@ public interface ScoreBoardService {
 
   Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore);
 
+  void updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore);
+
+  /**
+   * Applies the update only if the match was not updated with the same or a newer sequence yet, so several feeds can
+   * deliver the same updates in any order.
+   *
+   * @param sequence 0 or a positive number, e.g. the sequence number of the feed or the time of the event
+   * @return the updated match, or null if the update is stale
+   */
+  Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence);
+
+  /**
+   * @return false if the update is stale
+   */
+  boolean updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence);
+
   void finishMatch(UUID matchUuid);
 
+  /**
+   * Batch variants of the single match operations. They don't throw for the failed items, every item gets a
+   * {@link MatchResult} in the order of the input.
+   */
+  List<MatchResult> startNewMatches(List<NewMatch> newMatches);
+
+  /**
+   * The stale {@link ScoreUpdate#sequence() sequenced} updates get a {@link MatchResult.Status#STALE} result.
+   */
+  List<MatchResult> updateOngoingMatches(List<ScoreUpdate> updates);
+
+  List<MatchResult> finishMatches(List<UUID> matchUuids);
+
+  /**
+   * Subscribes to the started, updated and finished matches. The events are delivered from a bounded buffer of the
+   * subscriber, a slow subscriber doesn't stall the score board unless it uses {@link BackpressureStrategy#BLOCK}.
+   * The events of a match are published in the order its changes were applied, so the last event of a match that a
+   * {@link BackpressureStrategy#CONFLATE} subscriber keeps is its latest score.
+   */
+  void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber, BackpressureStrategy backpressureStrategy,
+      int bufferSize);
+
   List<Match> getFinishedMatchSummary();
 
+  /**
+   * @return the first {@code limit} finished matches of the summary
+   */
+  List<Match> getTopFinishedMatches(int limit);
+
+  /**
+   * @param cursor {@link SummaryPage#nextCursor()} of the previous page, null for the first page
+   */
+  SummaryPage getFinishedMatchSummaryPage(SummaryCursor cursor, int limit);
+
+  /**
+   * @return the finished match summary lazily, the storage may not materialize it
+   */
+  Stream<Match> streamFinishedMatchSummary();
+
+  /**
+   * Writes the finished match summary as UTF-8 lines, one match per line.
+   */
+  void writeFinishedMatchSummary(WritableByteChannel channel) throws IOException;
+
+  void writeFinishedMatchSummary(OutputStream outputStream) throws IOException;
+
   long countOfOngoingMatches();
+
+  List<Match> getOngoingMatchSummary();
 }
@@ -1,12 +1,27 @@
 package org.example.domain;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.time.Instant;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import org.example.domain.MatchResult.Status;
+import org.example.domain.ScoreBoardEvent.MatchFinished;
+import org.example.domain.ScoreBoardEvent.MatchStarted;
+import org.example.domain.ScoreBoardEvent.ScoreUpdated;
 import org.example.infrastructure.AvailableTeamStorage;
 import org.example.infrastructure.FinishedMatchStorage;
 import org.example.infrastructure.OngoingMatchStorage;
+import org.example.infrastructure.StripedLocks;
+import org.example.infrastructure.SummaryWriter;
+import org.example.infrastructure.events.ScoreBoardEventPublisher;
 import org.example.infrastructure.exceptions.NotFoundException;
 
 public class ScoreBoardServiceImpl implements ScoreBoardService {
@@ -14,34 +29,206 @@ public class ScoreBoardServiceImpl implements ScoreBoardService {
   private final OngoingMatchStorage ongoingMatchStorage;
   private final AvailableTeamStorage availableTeamStorage;
   private final FinishedMatchStorage finishedMatchStorage;
+  private final ScoreBoardEventPublisher eventPublisher;
+  // While there are subscribers, a change of a match and its event are done under the lock of the match, so the events
+  // of a match are published in the order its changes were applied.
+  private final StripedLocks eventLocks = new StripedLocks(256);
 
   public ScoreBoardServiceImpl(OngoingMatchStorage ongoingMatchStorage, AvailableTeamStorage availableTeamStorage,
       FinishedMatchStorage finishedMatchStorage) {
+    this(ongoingMatchStorage, availableTeamStorage, finishedMatchStorage, new ScoreBoardEventPublisher());
+  }
+
+  public ScoreBoardServiceImpl(OngoingMatchStorage ongoingMatchStorage, AvailableTeamStorage availableTeamStorage,
+      FinishedMatchStorage finishedMatchStorage, ScoreBoardEventPublisher eventPublisher) {
     this.ongoingMatchStorage = ongoingMatchStorage;
     this.availableTeamStorage = availableTeamStorage;
     this.finishedMatchStorage = finishedMatchStorage;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
   public Match startNewMatch(UUID homeTeamUuid, UUID visitorTeamUuid, Instant startTime) {
-    Team homeTeam = availableTeamStorage.take(homeTeamUuid)
-        .orElseThrow(() -> new NotFoundException("Home team not found with uuid: " + homeTeamUuid));
-    Team visitorTeam = availableTeamStorage.take(visitorTeamUuid)
-        .orElseThrow(() -> new NotFoundException("Visitor team not found with uuid: " + visitorTeamUuid));
+    TeamPair teams = availableTeamStorage.takePair(homeTeamUuid, visitorTeamUuid)
+        .orElseThrow(() -> new NotFoundException(
+            "Home team or visitor team not found with uuids: " + homeTeamUuid + ", " + visitorTeamUuid));
 
-    return ongoingMatchStorage.addMatch(new Match(homeTeam, visitorTeam, startTime));
+    return addMatch(new Match(teams.homeTeam(), teams.visitorTeam(), startTime));
   }
 
   @Override
   public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
-    return ongoingMatchStorage.updateMatch(matchUuid, homeTeamScore, visitorTeamScore);
+    if (!eventPublisher.hasSubscribers()) {
+      return ongoingMatchStorage.updateMatch(matchUuid, homeTeamScore, visitorTeamScore);
+    }
+    ReentrantLock lock = eventLocks.lockFor(matchUuid);
+    lock.lock();
+    try {
+      Match updatedMatch = ongoingMatchStorage.updateMatch(matchUuid, homeTeamScore, visitorTeamScore);
+      eventPublisher.publish(new ScoreUpdated(updatedMatch));
+      return updatedMatch;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    if (eventPublisher.hasSubscribers()) {
+      updateOngoingMatch(matchUuid, homeTeamScore, visitorTeamScore);
+    } else {
+      ongoingMatchStorage.updateScore(matchUuid, homeTeamScore, visitorTeamScore);
+    }
+  }
+
+  @Override
+  public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    if (!eventPublisher.hasSubscribers()) {
+      return ongoingMatchStorage.updateMatch(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+    }
+    ReentrantLock lock = eventLocks.lockFor(matchUuid);
+    lock.lock();
+    try {
+      Match updatedMatch = ongoingMatchStorage.updateMatch(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+      if (updatedMatch != null) {
+        eventPublisher.publish(new ScoreUpdated(updatedMatch));
+      }
+      return updatedMatch;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    if (eventPublisher.hasSubscribers()) {
+      return updateOngoingMatch(matchUuid, homeTeamScore, visitorTeamScore, sequence) != null;
+    }
+    return ongoingMatchStorage.updateScore(matchUuid, homeTeamScore, visitorTeamScore, sequence);
   }
 
+  /**
+   * Removing the match from the {@link OngoingMatchStorage} is an atomic per match transition, only one caller can
+   * finish a match. The teams are put back only after the match is stored as finished, so they cannot start a new
+   * match while the previous one is still missing from the {@link FinishedMatchStorage}. For the same reason the
+   * {@link MatchFinished} event is published before the teams are put back.
+   */
   @Override
-  public synchronized void finishMatch(UUID matchUuid) {
-    Match finishedMatch = ongoingMatchStorage.finishMatch(matchUuid);
+  public void finishMatch(UUID matchUuid) {
+    if (!eventPublisher.hasSubscribers()) {
+      Match finishedMatch = ongoingMatchStorage.finishMatch(matchUuid);
+      finishedMatchStorage.addMatch(finishedMatch);
+      putBackTeams(finishedMatch);
+      return;
+    }
+    Match finishedMatch;
+    ReentrantLock lock = eventLocks.lockFor(matchUuid);
+    lock.lock();
+    try {
+      finishedMatch = ongoingMatchStorage.finishMatch(matchUuid);
+      finishedMatchStorage.addMatch(finishedMatch);
+      eventPublisher.publish(new MatchFinished(finishedMatch));
+    } finally {
+      lock.unlock();
+    }
     putBackTeams(finishedMatch);
-    finishedMatchStorage.addMatch(finishedMatch);
+  }
+
+  @Override
+  public List<MatchResult> startNewMatches(List<NewMatch> newMatches) {
+    List<MatchResult> results = new ArrayList<>(newMatches.size());
+    for (NewMatch newMatch : newMatches) {
+      if (newMatch.homeTeamUuid().equals(newMatch.visitorTeamUuid())) {
+        results.add(MatchResult.failure(Status.INVALID, "homeTeam cannot equal with the visitorTeam"));
+        continue;
+      }
+      Optional<TeamPair> teams = availableTeamStorage.takePair(newMatch.homeTeamUuid(), newMatch.visitorTeamUuid());
+      if (teams.isEmpty()) {
+        results.add(MatchResult.failure(Status.NOT_FOUND, "Home team or visitor team not found with uuids: "
+            + newMatch.homeTeamUuid() + ", " + newMatch.visitorTeamUuid()));
+        continue;
+      }
+      Match match = addMatch(new Match(teams.get().homeTeam(), teams.get().visitorTeam(), newMatch.startTime()));
+      results.add(MatchResult.success(match));
+    }
+    return results;
+  }
+
+  @Override
+  public List<MatchResult> updateOngoingMatches(List<ScoreUpdate> updates) {
+    if (!eventPublisher.hasSubscribers()) {
+      return ongoingMatchStorage.updateMatches(updates);
+    }
+    // every update is applied and published under the lock of its match
+    List<MatchResult> results = new ArrayList<>(updates.size());
+    for (ScoreUpdate update : updates) {
+      ReentrantLock lock = eventLocks.lockFor(update.matchUuid());
+      lock.lock();
+      try {
+        MatchResult result = ongoingMatchStorage.updateMatches(List.of(update)).getFirst();
+        if (result.isSuccess()) {
+          eventPublisher.publish(new ScoreUpdated(result.match()));
+        }
+        results.add(result);
+      } finally {
+        lock.unlock();
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public List<MatchResult> finishMatches(List<UUID> matchUuids) {
+    if (!eventPublisher.hasSubscribers()) {
+      List<MatchResult> results = ongoingMatchStorage.finishMatches(matchUuids);
+      List<Match> finishedMatches = results.stream()
+          .filter(MatchResult::isSuccess)
+          .map(MatchResult::match)
+          .toList();
+      finishedMatchStorage.addMatches(finishedMatches);
+      finishedMatches.forEach(this::putBackTeams);
+      return results;
+    }
+    // every match is finished and published under its lock
+    List<MatchResult> results = new ArrayList<>(matchUuids.size());
+    for (UUID matchUuid : matchUuids) {
+      MatchResult result;
+      ReentrantLock lock = eventLocks.lockFor(matchUuid);
+      lock.lock();
+      try {
+        result = ongoingMatchStorage.finishMatches(List.of(matchUuid)).getFirst();
+        if (result.isSuccess()) {
+          finishedMatchStorage.addMatch(result.match());
+          eventPublisher.publish(new MatchFinished(result.match()));
+        }
+      } finally {
+        lock.unlock();
+      }
+      if (result.isSuccess()) {
+        putBackTeams(result.match());
+      }
+      results.add(result);
+    }
+    return results;
+  }
+
+  /**
+   * The match is not visible to the other callers before it is added, its event is still published under its lock, so
+   * an update of the match cannot be published before it.
+   */
+  private Match addMatch(Match match) {
+    if (!eventPublisher.hasSubscribers()) {
+      return ongoingMatchStorage.addMatch(match);
+    }
+    ReentrantLock lock = eventLocks.lockFor(match.id());
+    lock.lock();
+    try {
+      Match addedMatch = ongoingMatchStorage.addMatch(match);
+      eventPublisher.publish(new MatchStarted(addedMatch));
+      return addedMatch;
+    } finally {
+      lock.unlock();
+    }
   }
 
   private void putBackTeams(Match finishedMatch) {
@@ -49,18 +236,54 @@ public class ScoreBoardServiceImpl implements ScoreBoardService {
     availableTeamStorage.put(finishedMatch.visitorTeam());
   }
 
+  @Override
+  public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber,
+      BackpressureStrategy backpressureStrategy, int bufferSize) {
+    eventPublisher.subscribe(subscriber, backpressureStrategy, bufferSize);
+  }
+
   @Override
   public List<Match> getFinishedMatchSummary() {
-    return finishedMatchStorage.getMatches().stream()
-        .sorted(Comparator
-            .comparingInt((Match m) -> m.homeTeamScore() + m.visitorTeamScore())
-            .reversed()
-            .thenComparing(Match::startTime, Comparator.reverseOrder()))
-        .toList();
+    return finishedMatchStorage.getMatchSummary();
+  }
+
+  @Override
+  public List<Match> getTopFinishedMatches(int limit) {
+    return finishedMatchStorage.getTopMatches(limit);
+  }
+
+  @Override
+  public SummaryPage getFinishedMatchSummaryPage(SummaryCursor cursor, int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("limit must be a positive number.");
+    }
+    return SummaryPage.of(finishedMatchStorage.getMatchSummaryAfter(cursor, limit), limit);
+  }
+
+  @Override
+  public Stream<Match> streamFinishedMatchSummary() {
+    return finishedMatchStorage.streamMatchSummary();
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(WritableByteChannel channel) throws IOException {
+    try (Stream<Match> summary = finishedMatchStorage.streamMatchSummary()) {
+      SummaryWriter.write(summary, channel);
+    }
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(OutputStream outputStream) throws IOException {
+    writeFinishedMatchSummary(Channels.newChannel(outputStream));
   }
 
   @Override
   public long countOfOngoingMatches() {
     return ongoingMatchStorage.countOfOngoingMatches();
   }
+
+  @Override
+  public List<Match> getOngoingMatchSummary() {
+    return ongoingMatchStorage.getOngoingMatchSummary();
+  }
 }
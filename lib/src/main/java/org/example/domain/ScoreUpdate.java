@@ -0,0 +1,29 @@
+package org.example.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * @param sequence per match sequence number of the update (or its event time), {@link #NO_SEQUENCE} if the update is
+ *                 applied unconditionally. A sequenced update is rejected if the match was already updated with the
+ *                 same or a newer sequence.
+ */
+public record ScoreUpdate(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+
+  public static final long NO_SEQUENCE = -1;
+
+  public ScoreUpdate {
+    Objects.requireNonNull(matchUuid);
+    if (sequence < NO_SEQUENCE) {
+      throw new IllegalArgumentException("sequence must be 0 or a positive number.");
+    }
+  }
+
+  public ScoreUpdate(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    this(matchUuid, homeTeamScore, visitorTeamScore, NO_SEQUENCE);
+  }
+
+  public boolean isSequenced() {
+    return sequence != NO_SEQUENCE;
+  }
+}
@@ -0,0 +1,92 @@
+package org.example.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.InMemorySortedFinishedMatchStorage;
+import org.example.infrastructure.exceptions.NotFoundException;
+
+/**
+ * Runs an independent {@link ScoreBoardService} with its own storages for every tournament, so the tournaments don't
+ * share teams, matches or contended data structures. The summaries across the tournaments are merged from the sorted
+ * summaries of the shards instead of being sorted again.
+ */
+public class ShardedScoreBoard {
+
+  private final Function<String, ScoreBoardService> shardFactory;
+  private final ConcurrentHashMap<String, ScoreBoardService> shards = new ConcurrentHashMap<>();
+
+  /**
+   * @param shardFactory creates the score board of a tournament when the tournament is first used
+   */
+  public ShardedScoreBoard(Function<String, ScoreBoardService> shardFactory) {
+    this.shardFactory = shardFactory;
+  }
+
+  public static ShardedScoreBoard inMemory() {
+    return new ShardedScoreBoard(tournament -> new ScoreBoardServiceImpl(new InMemoryOngoingMatchStorage(),
+        new InMemoryAvailableTeamStorage(), new InMemorySortedFinishedMatchStorage()));
+  }
+
+  /**
+   * @return the score board of the tournament, it is created if it doesn't exist yet
+   */
+  public ScoreBoardService tournament(String tournament) {
+    return shards.computeIfAbsent(tournament, shardFactory);
+  }
+
+  /**
+   * @throws NotFoundException if the tournament has not been used yet
+   */
+  public ScoreBoardService existingTournament(String tournament) {
+    ScoreBoardService shard = shards.get(tournament);
+    if (shard == null) {
+      throw new NotFoundException("Tournament not found: " + tournament);
+    }
+    return shard;
+  }
+
+  public Set<String> tournaments() {
+    return Set.copyOf(shards.keySet());
+  }
+
+  public long countOfOngoingMatches() {
+    long count = 0;
+    for (ScoreBoardService shard : shards.values()) {
+      count += shard.countOfOngoingMatches();
+    }
+    return count;
+  }
+
+  public List<Match> getOngoingMatchSummary() {
+    return MatchMerge.merge(collect(ScoreBoardService::getOngoingMatchSummary));
+  }
+
+  public List<Match> getFinishedMatchSummary() {
+    return MatchMerge.merge(collect(ScoreBoardService::getFinishedMatchSummary));
+  }
+
+  /**
+   * Merges the top {@code limit} matches of every shard.
+   */
+  public List<Match> getTopFinishedMatches(int limit) {
+    return MatchMerge.merge(collect(shard -> shard.getTopFinishedMatches(limit)), limit);
+  }
+
+  public Stream<Match> streamFinishedMatchSummary() {
+    List<Stream<Match>> summaries = new ArrayList<>(shards.size());
+    shards.values().forEach(shard -> summaries.add(shard.streamFinishedMatchSummary()));
+    return MatchMerge.mergeStreams(summaries);
+  }
+
+  private List<List<Match>> collect(Function<ScoreBoardService, List<Match>> summary) {
+    List<List<Match>> summaries = new ArrayList<>(shards.size());
+    shards.values().forEach(shard -> summaries.add(summary.apply(shard)));
+    return summaries;
+  }
+}
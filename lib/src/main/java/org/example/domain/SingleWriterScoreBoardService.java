@@ -0,0 +1,503 @@
+package org.example.domain;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.example.domain.MatchResult.Status;
+import org.example.domain.ScoreBoardEvent.MatchFinished;
+import org.example.domain.ScoreBoardEvent.MatchStarted;
+import org.example.domain.ScoreBoardEvent.ScoreUpdated;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.FinishedMatchStorage;
+import org.example.infrastructure.OngoingMatchStorage;
+import org.example.infrastructure.PersistentSortedMap;
+import org.example.infrastructure.SummaryWriter;
+import org.example.infrastructure.engine.MpscRingBuffer;
+import org.example.infrastructure.events.ScoreBoardEventPublisher;
+import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
+
+/**
+ * {@link ScoreBoardService} in which every mutation is a command executed by one writer thread. The callers put their
+ * commands into a {@link MpscRingBuffer} and wait for the result. The ongoing matches are owned by the writer in plain,
+ * non-concurrent collections, so the mutations don't contend on shared data structures. The ranked ongoing matches are
+ * a {@link PersistentSortedMap}, after every batch of commands the writer publishes its current version in O(1), the
+ * commands of the batch complete only after it, so a caller reads its own writes. The summary list is built from the
+ * published version when a reader asks for it and reused until the next version.
+ * <p>
+ * The writer doesn't publish the events itself, it hands them off through a second ring buffer to an event thread that
+ * publishes them in order. A subscriber with {@link BackpressureStrategy#BLOCK} stalls the writer only once this ring
+ * buffer is full.
+ * <p>
+ * The available teams and the finished matches stay in their storages, they are shared with the rest of the
+ * application.
+ */
+public final class SingleWriterScoreBoardService implements ScoreBoardService, AutoCloseable {
+
+  private static final int MAX_BATCH_SIZE = 256;
+  private static final int SPINS_BEFORE_PARK = 100;
+  private static final Comparator<Match> RANK_ORDER = Match.SUMMARY_ORDER.thenComparing(Match::id);
+
+  private final AvailableTeamStorage availableTeamStorage;
+  private final FinishedMatchStorage finishedMatchStorage;
+  private final ScoreBoardEventPublisher eventPublisher;
+  private final MpscRingBuffer<Command> commands;
+  private final MpscRingBuffer<ScoreBoardEvent> events;
+  private final Thread writer;
+  private final Thread eventThread;
+  private volatile boolean writerParked;
+  private volatile boolean eventThreadParked;
+  private volatile boolean closed;
+  private volatile boolean writerStopped;
+  private volatile PersistentSortedMap<Match, Match> publishedMatches = PersistentSortedMap.empty(RANK_ORDER);
+  private volatile OngoingSummary ongoingSummary = new OngoingSummary(publishedMatches, List.of());
+
+  // owned by the writer thread
+  private final HashMap<UUID, OngoingMatch> ongoingMatches = new HashMap<>();
+  private PersistentSortedMap<Match, Match> rankedMatches = publishedMatches;
+
+  public SingleWriterScoreBoardService(AvailableTeamStorage availableTeamStorage,
+      FinishedMatchStorage finishedMatchStorage) {
+    this(availableTeamStorage, finishedMatchStorage, new ScoreBoardEventPublisher(), 1024);
+  }
+
+  /**
+   * @param ringBufferCapacity maximum number of commands waiting for the writer and of events waiting for the event
+   *                           thread, a power of two
+   */
+  public SingleWriterScoreBoardService(AvailableTeamStorage availableTeamStorage,
+      FinishedMatchStorage finishedMatchStorage, ScoreBoardEventPublisher eventPublisher, int ringBufferCapacity) {
+    this.availableTeamStorage = availableTeamStorage;
+    this.finishedMatchStorage = finishedMatchStorage;
+    this.eventPublisher = eventPublisher;
+    this.commands = new MpscRingBuffer<>(ringBufferCapacity);
+    this.events = new MpscRingBuffer<>(ringBufferCapacity);
+    this.writer = Thread.ofPlatform().daemon().name("score-board-writer").unstarted(this::runWriter);
+    this.eventThread = Thread.ofPlatform().daemon().name("score-board-events").unstarted(this::runEventThread);
+    this.writer.start();
+    this.eventThread.start();
+  }
+
+  @Override
+  public Match startNewMatch(UUID homeTeamUuid, UUID visitorTeamUuid, Instant startTime) {
+    return execute(() -> {
+      TeamPair teams = availableTeamStorage.takePair(homeTeamUuid, visitorTeamUuid)
+          .orElseThrow(() -> new NotFoundException(
+              "Home team or visitor team not found with uuids: " + homeTeamUuid + ", " + visitorTeamUuid));
+      return start(new Match(teams.homeTeam(), teams.visitorTeam(), startTime));
+    });
+  }
+
+  @Override
+  public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    return execute(() -> update(matchUuid, homeTeamScore, visitorTeamScore, ScoreUpdate.NO_SEQUENCE));
+  }
+
+  @Override
+  public void updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    updateOngoingMatch(matchUuid, homeTeamScore, visitorTeamScore);
+  }
+
+  /**
+   * The writer checks the sequence, the stale updates don't change the summary.
+   */
+  @Override
+  public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    if (sequence < 0) {
+      throw new IllegalArgumentException("sequence must be 0 or a positive number.");
+    }
+    return execute(() -> update(matchUuid, homeTeamScore, visitorTeamScore, sequence));
+  }
+
+  @Override
+  public boolean updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    return updateOngoingMatch(matchUuid, homeTeamScore, visitorTeamScore, sequence) != null;
+  }
+
+  @Override
+  public void finishMatch(UUID matchUuid) {
+    execute(() -> finish(matchUuid));
+  }
+
+  /**
+   * A batch is one command, it is applied without interleaving with other mutations.
+   */
+  @Override
+  public List<MatchResult> startNewMatches(List<NewMatch> newMatches) {
+    return execute(() -> {
+      List<MatchResult> results = new ArrayList<>(newMatches.size());
+      for (NewMatch newMatch : newMatches) {
+        if (newMatch.homeTeamUuid().equals(newMatch.visitorTeamUuid())) {
+          results.add(MatchResult.failure(Status.INVALID, "homeTeam cannot equal with the visitorTeam"));
+          continue;
+        }
+        Optional<TeamPair> teams = availableTeamStorage.takePair(newMatch.homeTeamUuid(),
+            newMatch.visitorTeamUuid());
+        if (teams.isEmpty()) {
+          results.add(MatchResult.failure(Status.NOT_FOUND, "Home team or visitor team not found with uuids: "
+              + newMatch.homeTeamUuid() + ", " + newMatch.visitorTeamUuid()));
+          continue;
+        }
+        results.add(MatchResult.success(
+            start(new Match(teams.get().homeTeam(), teams.get().visitorTeam(), newMatch.startTime()))));
+      }
+      return results;
+    });
+  }
+
+  @Override
+  public List<MatchResult> updateOngoingMatches(List<ScoreUpdate> updates) {
+    return execute(() -> {
+      List<MatchResult> results = new ArrayList<>(updates.size());
+      for (ScoreUpdate update : updates) {
+        try {
+          Match updatedMatch = update(update.matchUuid(), update.homeTeamScore(), update.visitorTeamScore(),
+              update.sequence());
+          results.add(updatedMatch == null
+              ? MatchResult.failure(Status.STALE, OngoingMatchStorage.STALE_UPDATE)
+              : MatchResult.success(updatedMatch));
+        } catch (NotFoundException e) {
+          results.add(MatchResult.failure(Status.NOT_FOUND, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+          results.add(MatchResult.failure(Status.INVALID, e.getMessage()));
+        }
+      }
+      return results;
+    });
+  }
+
+  @Override
+  public List<MatchResult> finishMatches(List<UUID> matchUuids) {
+    return execute(() -> {
+      List<MatchResult> results = new ArrayList<>(matchUuids.size());
+      for (UUID matchUuid : matchUuids) {
+        try {
+          results.add(MatchResult.success(finish(matchUuid)));
+        } catch (NotFoundException e) {
+          results.add(MatchResult.failure(Status.NOT_FOUND, e.getMessage()));
+        }
+      }
+      return results;
+    });
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber,
+      BackpressureStrategy backpressureStrategy, int bufferSize) {
+    eventPublisher.subscribe(subscriber, backpressureStrategy, bufferSize);
+  }
+
+  @Override
+  public List<Match> getFinishedMatchSummary() {
+    return finishedMatchStorage.getMatchSummary();
+  }
+
+  @Override
+  public List<Match> getTopFinishedMatches(int limit) {
+    return finishedMatchStorage.getTopMatches(limit);
+  }
+
+  @Override
+  public SummaryPage getFinishedMatchSummaryPage(SummaryCursor cursor, int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("limit must be a positive number.");
+    }
+    return SummaryPage.of(finishedMatchStorage.getMatchSummaryAfter(cursor, limit), limit);
+  }
+
+  @Override
+  public Stream<Match> streamFinishedMatchSummary() {
+    return finishedMatchStorage.streamMatchSummary();
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(WritableByteChannel channel) throws IOException {
+    try (Stream<Match> summary = finishedMatchStorage.streamMatchSummary()) {
+      SummaryWriter.write(summary, channel);
+    }
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(OutputStream outputStream) throws IOException {
+    writeFinishedMatchSummary(Channels.newChannel(outputStream));
+  }
+
+  /**
+   * @return the count of the matches published after the last batch of commands
+   */
+  @Override
+  public long countOfOngoingMatches() {
+    return publishedMatches.size();
+  }
+
+  /**
+   * @return the summary of the matches published after the last batch of commands, without waiting for the writer
+   */
+  @Override
+  public List<Match> getOngoingMatchSummary() {
+    PersistentSortedMap<Match, Match> matches = publishedMatches;
+    OngoingSummary summary = ongoingSummary;
+    if (summary.matches() != matches) {
+      // concurrent readers may build the same summary, either one is kept
+      summary = new OngoingSummary(matches, matches.toList());
+      ongoingSummary = summary;
+    }
+    return summary.summary();
+  }
+
+  /**
+   * Stops the writer after the commands already in the ring buffer, then the event thread after their events. Later
+   * commands fail with {@link IllegalStateException}.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(writer);
+    try {
+      writer.join();
+      eventThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T execute(Supplier<T> action) {
+    if (closed) {
+      throw new IllegalStateException("Score board is closed.");
+    }
+    Command command = new Command(action);
+    commands.put(command);
+    if (writerParked) {
+      LockSupport.unpark(writer);
+    }
+    return (T) command.await(writer);
+  }
+
+  private void runWriter() {
+    try {
+      writeCommands();
+    } finally {
+      commands.close();
+      writerStopped = true;
+      LockSupport.unpark(eventThread);
+    }
+  }
+
+  private void writeCommands() {
+    List<Command> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    int idleSpins = 0;
+    while (true) {
+      Command command;
+      while (batch.size() < MAX_BATCH_SIZE && (command = commands.poll()) != null) {
+        batch.add(command);
+      }
+      if (batch.isEmpty()) {
+        if (closed) {
+          return;
+        }
+        if (++idleSpins < SPINS_BEFORE_PARK) {
+          Thread.onSpinWait();
+          continue;
+        }
+        writerParked = true;
+        if (commands.isEmpty() && !closed) {
+          LockSupport.park(this);
+        }
+        writerParked = false;
+        idleSpins = 0;
+        continue;
+      }
+      idleSpins = 0;
+      batch.forEach(Command::run);
+      if (publishedMatches != rankedMatches) {
+        publishedMatches = rankedMatches;
+      }
+      batch.forEach(Command::complete);
+      batch.clear();
+    }
+  }
+
+  /**
+   * Publishes the events in the order the writer handed them off, stops after the writer once the events are drained.
+   */
+  private void runEventThread() {
+    try {
+      int idleSpins = 0;
+      while (true) {
+        ScoreBoardEvent event = events.poll();
+        if (event != null) {
+          idleSpins = 0;
+          eventPublisher.publish(event);
+          continue;
+        }
+        if (writerStopped) {
+          if (events.isEmpty()) {
+            return;
+          }
+          continue;
+        }
+        if (++idleSpins < SPINS_BEFORE_PARK) {
+          Thread.onSpinWait();
+          continue;
+        }
+        eventThreadParked = true;
+        if (events.isEmpty() && !writerStopped) {
+          LockSupport.park(this);
+        }
+        eventThreadParked = false;
+        idleSpins = 0;
+      }
+    } finally {
+      events.close();
+    }
+  }
+
+  /**
+   * Called by the writer only, waits while the event ring buffer is full.
+   */
+  private void handOff(ScoreBoardEvent event) {
+    events.put(event);
+    if (eventThreadParked) {
+      LockSupport.unpark(eventThread);
+    }
+  }
+
+  private Match start(Match match) {
+    if (ongoingMatches.putIfAbsent(match.id(), new OngoingMatch(match)) != null) {
+      throw new AlreadyExistsException("Match is already started.");
+    }
+    rankedMatches = rankedMatches.put(match, match);
+    if (eventPublisher.hasSubscribers()) {
+      handOff(new MatchStarted(match));
+    }
+    return match;
+  }
+
+  /**
+   * @return the updated match, or null if the update is stale
+   */
+  private Match update(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    OngoingMatch ongoingMatch = ongoingMatches.get(matchUuid);
+    if (ongoingMatch == null) {
+      throw new NotFoundException("Ongoing match is not present, it cannot be updated.");
+    }
+    if (sequence != ScoreUpdate.NO_SEQUENCE && sequence <= ongoingMatch.lastSequence) {
+      return null;
+    }
+    Match match = ongoingMatch.match;
+    Match updatedMatch = new Match(match.id(), match.homeTeam(), match.visitorTeam(), homeTeamScore,
+        visitorTeamScore, match.startTime());
+    if (sequence != ScoreUpdate.NO_SEQUENCE) {
+      ongoingMatch.lastSequence = sequence;
+    }
+    ongoingMatch.match = updatedMatch;
+    rankedMatches = rankedMatches.remove(match).put(updatedMatch, updatedMatch);
+    if (eventPublisher.hasSubscribers()) {
+      handOff(new ScoreUpdated(updatedMatch));
+    }
+    return updatedMatch;
+  }
+
+  /**
+   * The teams are put back after the match is stored as finished and its event is handed off, like in
+   * {@link ScoreBoardServiceImpl#finishMatch}.
+   */
+  private Match finish(UUID matchUuid) {
+    OngoingMatch ongoingMatch = ongoingMatches.remove(matchUuid);
+    if (ongoingMatch == null) {
+      throw new NotFoundException("There is no ongoing match to delete with this uuid: " + matchUuid);
+    }
+    Match match = ongoingMatch.match;
+    rankedMatches = rankedMatches.remove(match);
+    finishedMatchStorage.addMatch(match);
+    if (eventPublisher.hasSubscribers()) {
+      handOff(new MatchFinished(match));
+    }
+    availableTeamStorage.put(match.homeTeam());
+    availableTeamStorage.put(match.visitorTeam());
+    return match;
+  }
+
+  /**
+   * The ongoing match with the sequence of its last update, owned by the writer.
+   */
+  private static final class OngoingMatch {
+
+    private Match match;
+    private long lastSequence = ScoreUpdate.NO_SEQUENCE;
+
+    OngoingMatch(Match match) {
+      this.match = match;
+    }
+  }
+
+  /**
+   * The summary built from a published version of the ranked matches.
+   */
+  private record OngoingSummary(PersistentSortedMap<Match, Match> matches, List<Match> summary) {
+  }
+
+  private static final class Command {
+
+    private static final int SPINS_BEFORE_PARK = 100;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Supplier<?> action;
+    private final Thread caller = Thread.currentThread();
+    private Object result;
+    private RuntimeException failure;
+    private volatile boolean done;
+
+    Command(Supplier<?> action) {
+      this.action = action;
+    }
+
+    void run() {
+      try {
+        result = action.get();
+      } catch (RuntimeException e) {
+        failure = e;
+      }
+    }
+
+    void complete() {
+      done = true;
+      LockSupport.unpark(caller);
+    }
+
+    /**
+     * Spins shortly, then parks until the writer completes the command. The park is bounded, so a command put after
+     * the writer stopped fails instead of waiting forever.
+     */
+    Object await(Thread writer) {
+      int spins = 0;
+      while (!done) {
+        if (++spins < SPINS_BEFORE_PARK) {
+          Thread.onSpinWait();
+        } else if (writer.isAlive()) {
+          LockSupport.parkNanos(this, PARK_NANOS);
+        } else if (!done) {
+          throw new IllegalStateException("Score board is closed.");
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package org.example.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position in the summary: the next page starts with the first match ordered after the match the cursor points to.
+ * The cursor stays valid when matches are added before or after it.
+ */
+public record SummaryCursor(int totalScore, Instant startTime, UUID matchId) {
+
+  public SummaryCursor {
+    Objects.requireNonNull(startTime);
+    Objects.requireNonNull(matchId);
+  }
+
+  public static SummaryCursor after(Match match) {
+    return new SummaryCursor(match.totalScore(), match.startTime(), match.id());
+  }
+}
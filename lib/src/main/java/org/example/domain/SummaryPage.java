@@ -0,0 +1,26 @@
+package org.example.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @param nextCursor the cursor of the next page, null if this page is not full. A full last page is followed by an
+ *                   empty page.
+ */
+public record SummaryPage(List<Match> matches, SummaryCursor nextCursor) {
+
+  public SummaryPage {
+    matches = List.copyOf(Objects.requireNonNull(matches));
+  }
+
+  /**
+   * @return the page of the matches read with the given limit, it has a next cursor if the page is full
+   */
+  public static SummaryPage of(List<Match> matches, int limit) {
+    return new SummaryPage(matches, matches.size() < limit ? null : SummaryCursor.after(matches.getLast()));
+  }
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
@@ -0,0 +1,11 @@
+package org.example.domain;
+
+import java.util.Objects;
+
+public record TeamPair(Team homeTeam, Team visitorTeam) {
+
+  public TeamPair {
+    Objects.requireNonNull(homeTeam);
+    Objects.requireNonNull(visitorTeam);
+  }
+}
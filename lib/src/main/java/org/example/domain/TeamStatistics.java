@@ -0,0 +1,55 @@
+package org.example.domain;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Totals of the finished matches of one team.
+ */
+public record TeamStatistics(Team team,
+                             int played,
+                             int wins,
+                             int draws,
+                             int losses,
+                             int goalsFor,
+                             int goalsAgainst) {
+
+  /**
+   * Standings order: most points first, then the goal difference, then the scored goals, then the team name.
+   */
+  public static final Comparator<TeamStatistics> STANDINGS_ORDER = Comparator
+      .comparingInt(TeamStatistics::points)
+      .thenComparingInt(TeamStatistics::goalDifference)
+      .thenComparingInt(TeamStatistics::goalsFor)
+      .reversed()
+      .thenComparing(statistics -> statistics.team().name());
+
+  public TeamStatistics {
+    Objects.requireNonNull(team);
+  }
+
+  public static TeamStatistics empty(Team team) {
+    return new TeamStatistics(team, 0, 0, 0, 0, 0, 0);
+  }
+
+  /**
+   * @return the statistics of one match from the point of view of the team that scored {@code goalsFor}
+   */
+  public static TeamStatistics of(Team team, int goalsFor, int goalsAgainst) {
+    return new TeamStatistics(team, 1, goalsFor > goalsAgainst ? 1 : 0, goalsFor == goalsAgainst ? 1 : 0,
+        goalsFor < goalsAgainst ? 1 : 0, goalsFor, goalsAgainst);
+  }
+
+  public TeamStatistics plus(TeamStatistics other) {
+    return new TeamStatistics(team, played + other.played, wins + other.wins, draws + other.draws,
+        losses + other.losses, goalsFor + other.goalsFor, goalsAgainst + other.goalsAgainst);
+  }
+
+  public int points() {
+    return 3 * wins + draws;
+  }
+
+  public int goalDifference() {
+    return goalsFor - goalsAgainst;
+  }
+}
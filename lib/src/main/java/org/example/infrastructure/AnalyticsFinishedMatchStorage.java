@@ -0,0 +1,163 @@
+package org.example.infrastructure;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import org.example.domain.Match;
+import org.example.domain.SummaryCursor;
+import org.example.domain.Team;
+import org.example.domain.TeamStatistics;
+import org.example.infrastructure.exceptions.NotFoundException;
+
+/**
+ * Maintains {@link FinishedMatchAnalytics} over the matches added to the delegate storage. The team totals are updated
+ * in O(1) per added match and the matches are indexed by their start time, so a team lookup is O(1), the standings of a
+ * group of g teams are O(g log g) and a time window of k matches is O(log n + k).
+ * <p>
+ * The matches already in the delegate are indexed on construction, so the storage can be created after a journal
+ * replay. A match is counted once even if it is added twice.
+ */
+public class AnalyticsFinishedMatchStorage implements FinishedMatchStorage, FinishedMatchAnalytics {
+
+  private static final Comparator<Match> START_TIME_ORDER = Comparator
+      .comparing(Match::startTime)
+      .thenComparing(Match::id);
+
+  private final FinishedMatchStorage delegate;
+  private final ConcurrentSkipListSet<Match> matchesByStartTime = new ConcurrentSkipListSet<>(START_TIME_ORDER);
+  private final ConcurrentHashMap<UUID, TeamStatistics> teamStatistics = new ConcurrentHashMap<>();
+
+  public AnalyticsFinishedMatchStorage(FinishedMatchStorage delegate) {
+    this.delegate = delegate;
+    delegate.getMatches().forEach(this::index);
+  }
+
+  @Override
+  public void addMatch(Match match) {
+    delegate.addMatch(match);
+    index(match);
+  }
+
+  @Override
+  public void addMatches(List<Match> matches) {
+    delegate.addMatches(matches);
+    matches.forEach(this::index);
+  }
+
+  @Override
+  public List<Match> getMatches() {
+    return delegate.getMatches();
+  }
+
+  @Override
+  public List<Match> getMatchSummary() {
+    return delegate.getMatchSummary();
+  }
+
+  @Override
+  public Stream<Match> streamMatchSummary() {
+    return delegate.streamMatchSummary();
+  }
+
+  @Override
+  public List<Match> getTopMatches(int limit) {
+    return delegate.getTopMatches(limit);
+  }
+
+  @Override
+  public List<Match> getMatchSummaryPage(int offset, int limit) {
+    return delegate.getMatchSummaryPage(offset, limit);
+  }
+
+  @Override
+  public List<Match> getMatchSummaryAfter(SummaryCursor cursor, int limit) {
+    return delegate.getMatchSummaryAfter(cursor, limit);
+  }
+
+  @Override
+  public Optional<TeamStatistics> getTeamStatistics(UUID teamUuid) {
+    return Optional.ofNullable(teamStatistics.get(teamUuid));
+  }
+
+  /**
+   * @throws NotFoundException if a team has never played a finished match
+   */
+  @Override
+  public List<TeamStatistics> getStandings(Collection<UUID> teamUuids) {
+    List<TeamStatistics> standings = new ArrayList<>(teamUuids.size());
+    for (UUID teamUuid : teamUuids) {
+      TeamStatistics statistics = teamStatistics.get(teamUuid);
+      if (statistics == null) {
+        throw new NotFoundException("There are no finished matches of the team with uuid: " + teamUuid);
+      }
+      standings.add(statistics);
+    }
+    standings.sort(TeamStatistics.STANDINGS_ORDER);
+    return standings;
+  }
+
+  @Override
+  public List<Match> getMatchesStartedBetween(Instant from, Instant to) {
+    return List.copyOf(window(from, to));
+  }
+
+  /**
+   * Keeps only the current top {@code limit} matches of the window in a heap, so the window is not sorted.
+   */
+  @Override
+  public List<Match> getHighestScoringMatchesStartedBetween(Instant from, Instant to, int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit must be 0 or a positive number.");
+    }
+    if (limit == 0) {
+      return List.of();
+    }
+    Comparator<Match> order = MatchIndexOrder.INSTANCE;
+    PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, order.reversed());
+    for (Match match : window(from, to)) {
+      if (top.size() < limit) {
+        top.add(match);
+      } else if (order.compare(match, top.peek()) < 0) {
+        top.poll();
+        top.add(match);
+      }
+    }
+    List<Match> matches = new ArrayList<>(top);
+    matches.sort(order);
+    return matches;
+  }
+
+  private Collection<Match> window(Instant from, Instant to) {
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("from must not be after to.");
+    }
+    return matchesByStartTime.subSet(bound(from), bound(to));
+  }
+
+  private void index(Match match) {
+    if (!matchesByStartTime.add(match)) {
+      return;
+    }
+    Team homeTeam = match.homeTeam();
+    Team visitorTeam = match.visitorTeam();
+    teamStatistics.merge(homeTeam.id(), TeamStatistics.of(homeTeam, match.homeTeamScore(), match.visitorTeamScore()),
+        TeamStatistics::plus);
+    teamStatistics.merge(visitorTeam.id(),
+        TeamStatistics.of(visitorTeam, match.visitorTeamScore(), match.homeTeamScore()), TeamStatistics::plus);
+  }
+
+  /**
+   * @return a probe that is ordered before every indexed match started at {@code startTime}
+   */
+  private static Match bound(Instant startTime) {
+    return MatchIndexOrder.probe(new SummaryCursor(0, startTime, new UUID(Long.MIN_VALUE, Long.MIN_VALUE)));
+  }
+}
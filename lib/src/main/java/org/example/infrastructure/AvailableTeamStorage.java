@@ -1,11 +1,25 @@
 package org.example.infrastructure;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.example.domain.Team;
+import org.example.domain.TeamPair;
 
 public interface AvailableTeamStorage {
   Team put(Team teamName);
   Optional<Team> take(UUID id);
+
+  /**
+   * Takes both teams or neither of them.
+   *
+   * @return the taken teams, or empty if any of the teams is not available
+   */
+  Optional<TeamPair> takePair(UUID homeTeamId, UUID visitorTeamId);
   long count();
+
+  /**
+   * @return copy of the available teams
+   */
+  List<Team> getTeams();
 }
@@ -0,0 +1,99 @@
+package org.example.infrastructure;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.example.domain.Match;
+import org.example.domain.Team;
+
+/**
+ * Immutable point-in-time view of the available teams, the ongoing matches and the finished matches of a
+ * {@link SnapshotBoard}. Taking it is O(1), the lists are created only when they are read.
+ */
+public final class BoardSnapshot {
+
+  static final BoardSnapshot EMPTY = new BoardSnapshot(0,
+      PersistentSortedMap.empty(Comparator.naturalOrder()),
+      PersistentSortedMap.empty(Comparator.naturalOrder()),
+      PersistentSortedMap.empty(MatchIndexOrder.INSTANCE),
+      PersistentSortedMap.empty(MatchIndexOrder.INSTANCE),
+      PersistentSortedMap.empty(Comparator.naturalOrder()));
+
+  private final long version;
+  final PersistentSortedMap<UUID, Team> availableTeams;
+  final PersistentSortedMap<UUID, Match> ongoingMatches;
+  final PersistentSortedMap<Match, Match> rankedOngoingMatches;
+  final PersistentSortedMap<Match, Match> finishedMatches;
+  // sequence of the last applied sequenced update of the ongoing matches
+  final PersistentSortedMap<UUID, Long> ongoingSequences;
+
+  BoardSnapshot(long version, PersistentSortedMap<UUID, Team> availableTeams,
+      PersistentSortedMap<UUID, Match> ongoingMatches, PersistentSortedMap<Match, Match> rankedOngoingMatches,
+      PersistentSortedMap<Match, Match> finishedMatches, PersistentSortedMap<UUID, Long> ongoingSequences) {
+    this.version = version;
+    this.availableTeams = availableTeams;
+    this.ongoingMatches = ongoingMatches;
+    this.rankedOngoingMatches = rankedOngoingMatches;
+    this.finishedMatches = finishedMatches;
+    this.ongoingSequences = ongoingSequences;
+  }
+
+  /**
+   * @return the number of changes applied to the board before this snapshot
+   */
+  public long version() {
+    return version;
+  }
+
+  public List<Team> availableTeams() {
+    return availableTeams.toList();
+  }
+
+  public Optional<Match> ongoingMatch(UUID matchUuid) {
+    return Optional.ofNullable(ongoingMatches.get(matchUuid));
+  }
+
+  public long countOfOngoingMatches() {
+    return ongoingMatches.size();
+  }
+
+  /**
+   * @return the ongoing matches ordered by {@link Match#SUMMARY_ORDER}
+   */
+  public List<Match> ongoingMatchSummary() {
+    return rankedOngoingMatches.toList();
+  }
+
+  public long countOfFinishedMatches() {
+    return finishedMatches.size();
+  }
+
+  /**
+   * @return the finished matches ordered by {@link Match#SUMMARY_ORDER}
+   */
+  public List<Match> finishedMatchSummary() {
+    return finishedMatches.toList();
+  }
+
+  public Stream<Match> streamFinishedMatchSummary() {
+    return StreamSupport.stream(Spliterators.spliterator(finishedMatches.values(), finishedMatches.size(),
+        Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+  }
+
+  BoardSnapshot with(PersistentSortedMap<UUID, Team> availableTeams, PersistentSortedMap<UUID, Match> ongoingMatches,
+      PersistentSortedMap<Match, Match> rankedOngoingMatches, PersistentSortedMap<Match, Match> finishedMatches) {
+    return with(availableTeams, ongoingMatches, rankedOngoingMatches, finishedMatches, ongoingSequences);
+  }
+
+  BoardSnapshot with(PersistentSortedMap<UUID, Team> availableTeams, PersistentSortedMap<UUID, Match> ongoingMatches,
+      PersistentSortedMap<Match, Match> rankedOngoingMatches, PersistentSortedMap<Match, Match> finishedMatches,
+      PersistentSortedMap<UUID, Long> ongoingSequences) {
+    return new BoardSnapshot(version + 1, availableTeams, ongoingMatches, rankedOngoingMatches, finishedMatches,
+        ongoingSequences);
+  }
+}
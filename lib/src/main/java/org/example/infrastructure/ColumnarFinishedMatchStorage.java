@@ -0,0 +1,107 @@
+package org.example.infrastructure;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.example.domain.Match;
+
+/**
+ * Stores the finished matches in primitive columns instead of {@link Match} object graphs. The teams are stored by
+ * their {@link TeamRegistry} id, the scores and start times are stored as ints and longs. The columns are split into fixed size
+ * chunks, so an append never copies the stored matches. The {@link Match} objects are created only when they are read.
+ * <p>
+ * The appends are serialized, the readers don't lock: a row is written before the size is published.
+ */
+public class ColumnarFinishedMatchStorage implements FinishedMatchStorage {
+
+  private static final int CHUNK_SHIFT = 12;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private final TeamRegistry teamRegistry;
+  private volatile Chunk[] chunks = new Chunk[16];
+  private volatile int size;
+
+  public ColumnarFinishedMatchStorage() {
+    this(new TeamRegistry());
+  }
+
+  public ColumnarFinishedMatchStorage(TeamRegistry teamRegistry) {
+    this.teamRegistry = teamRegistry;
+  }
+
+  @Override
+  public synchronized void addMatch(Match match) {
+    append(match);
+  }
+
+  @Override
+  public synchronized void addMatches(List<Match> matches) {
+    matches.forEach(this::append);
+  }
+
+  @Override
+  public List<Match> getMatches() {
+    int count = size;
+    Chunk[] currentChunks = chunks;
+    List<Match> matches = new ArrayList<>(count);
+    for (int row = 0; row < count; row++) {
+      matches.add(currentChunks[row >>> CHUNK_SHIFT].get(row & CHUNK_MASK, teamRegistry));
+    }
+    return matches;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private void append(Match match) {
+    int row = size;
+    int chunkIndex = row >>> CHUNK_SHIFT;
+    Chunk[] currentChunks = chunks;
+    if (chunkIndex == currentChunks.length) {
+      currentChunks = Arrays.copyOf(currentChunks, currentChunks.length * 2);
+      chunks = currentChunks;
+    }
+    Chunk chunk = currentChunks[chunkIndex];
+    if (chunk == null) {
+      chunk = new Chunk();
+      currentChunks[chunkIndex] = chunk;
+    }
+    chunk.set(row & CHUNK_MASK, match, teamRegistry.register(match.homeTeam()),
+        teamRegistry.register(match.visitorTeam()));
+    size = row + 1;
+  }
+
+  private static final class Chunk {
+
+    private final long[] idMostSignificantBits = new long[CHUNK_SIZE];
+    private final long[] idLeastSignificantBits = new long[CHUNK_SIZE];
+    private final int[] homeTeamIds = new int[CHUNK_SIZE];
+    private final int[] visitorTeamIds = new int[CHUNK_SIZE];
+    private final int[] homeTeamScores = new int[CHUNK_SIZE];
+    private final int[] visitorTeamScores = new int[CHUNK_SIZE];
+    private final long[] startEpochSeconds = new long[CHUNK_SIZE];
+    private final int[] startNanos = new int[CHUNK_SIZE];
+
+    void set(int index, Match match, int homeTeamId, int visitorTeamId) {
+      idMostSignificantBits[index] = match.id().getMostSignificantBits();
+      idLeastSignificantBits[index] = match.id().getLeastSignificantBits();
+      homeTeamIds[index] = homeTeamId;
+      visitorTeamIds[index] = visitorTeamId;
+      homeTeamScores[index] = match.homeTeamScore();
+      visitorTeamScores[index] = match.visitorTeamScore();
+      startEpochSeconds[index] = match.startTime().getEpochSecond();
+      startNanos[index] = match.startTime().getNano();
+    }
+
+    Match get(int index, TeamRegistry teamRegistry) {
+      return new Match(new UUID(idMostSignificantBits[index], idLeastSignificantBits[index]),
+          teamRegistry.team(homeTeamIds[index]), teamRegistry.team(visitorTeamIds[index]), homeTeamScores[index],
+          visitorTeamScores[index],
+          Instant.ofEpochSecond(startEpochSeconds[index], startNanos[index]));
+    }
+  }
+}
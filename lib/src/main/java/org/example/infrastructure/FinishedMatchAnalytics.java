@@ -0,0 +1,33 @@
+package org.example.infrastructure;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.TeamStatistics;
+
+/**
+ * Statistics of the finished matches that are maintained when the matches are added, so the queries don't scan every
+ * finished match.
+ */
+public interface FinishedMatchAnalytics {
+
+  Optional<TeamStatistics> getTeamStatistics(UUID teamUuid);
+
+  /**
+   * @return the statistics of the teams ordered by {@link TeamStatistics#STANDINGS_ORDER}
+   */
+  List<TeamStatistics> getStandings(Collection<UUID> teamUuids);
+
+  /**
+   * @return the matches started in {@code [from, to)} ordered by start time
+   */
+  List<Match> getMatchesStartedBetween(Instant from, Instant to);
+
+  /**
+   * @return at most {@code limit} matches started in {@code [from, to)} ordered by {@link Match#SUMMARY_ORDER}
+   */
+  List<Match> getHighestScoringMatchesStartedBetween(Instant from, Instant to, int limit);
+}
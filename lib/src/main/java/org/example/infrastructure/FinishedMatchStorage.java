@@ -1,11 +1,98 @@
 package org.example.infrastructure;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
 import org.example.domain.Match;
+import org.example.domain.SummaryCursor;
 
 public interface FinishedMatchStorage {
 
   void addMatch(Match match);
 
+  default void addMatches(List<Match> matches) {
+    matches.forEach(this::addMatch);
+  }
+
   List<Match> getMatches();
+
+  /**
+   * @return finished matches ordered by {@link Match#SUMMARY_ORDER}
+   */
+  default List<Match> getMatchSummary() {
+    return getMatches().stream()
+        .sorted(Match.SUMMARY_ORDER)
+        .toList();
+  }
+
+  /**
+   * @return the finished matches lazily in {@link Match#SUMMARY_ORDER}
+   */
+  default Stream<Match> streamMatchSummary() {
+    return getMatchSummary().stream();
+  }
+
+  /**
+   * Selects the matches with a heap of {@code limit} entries, the other matches are not sorted.
+   *
+   * @param limit maximum number of matches to return
+   * @return the first {@code limit} matches of the summary
+   */
+  default List<Match> getTopMatches(int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit must be 0 or a positive number.");
+    }
+    if (limit == 0) {
+      return List.of();
+    }
+    Comparator<Match> order = MatchIndexOrder.INSTANCE;
+    PriorityQueue<Match> top = new PriorityQueue<>(Math.min(limit, 1024) + 1, order.reversed());
+    for (Match match : getMatches()) {
+      if (top.size() < limit) {
+        top.add(match);
+      } else if (order.compare(match, top.peek()) < 0) {
+        top.poll();
+        top.add(match);
+      }
+    }
+    List<Match> matches = new ArrayList<>(top);
+    matches.sort(order);
+    return List.copyOf(matches);
+  }
+
+  /**
+   * @param cursor position of the last match of the previous page, null for the first page
+   * @param limit  maximum number of matches to return
+   * @return the matches of the summary ordered after the cursor
+   */
+  default List<Match> getMatchSummaryAfter(SummaryCursor cursor, int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit must be 0 or a positive number.");
+    }
+    if (cursor == null) {
+      return getTopMatches(limit);
+    }
+    Match probe = MatchIndexOrder.probe(cursor);
+    return getMatchSummary().stream()
+        .filter(match -> MatchIndexOrder.INSTANCE.compare(match, probe) > 0)
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * @param offset number of summary entries to skip
+   * @param limit  maximum number of matches to return
+   * @return a page of the summary
+   */
+  default List<Match> getMatchSummaryPage(int offset, int limit) {
+    if (offset < 0 || limit < 0) {
+      throw new IllegalArgumentException("offset and limit must be 0 or a positive number.");
+    }
+    return getMatchSummary().stream()
+        .skip(offset)
+        .limit(limit)
+        .toList();
+  }
 }
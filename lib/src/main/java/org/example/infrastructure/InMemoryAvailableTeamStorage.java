@@ -1,23 +1,38 @@
 package org.example.infrastructure;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import org.example.domain.Team;
+import org.example.domain.TeamPair;
 import org.example.infrastructure.exceptions.AlreadyExistsException;
 import org.example.infrastructure.exceptions.NotFoundException;
 
 public class InMemoryAvailableTeamStorage implements AvailableTeamStorage {
 
   private final ConcurrentHashMap<UUID, Team> availableTeams = new ConcurrentHashMap<>();
+  private final TeamRegistry teamRegistry;
 
+  public InMemoryAvailableTeamStorage() {
+    this(new TeamRegistry());
+  }
+
+  public InMemoryAvailableTeamStorage(TeamRegistry teamRegistry) {
+    this.teamRegistry = teamRegistry;
+  }
+
+  /**
+   * Stores the registered instance of the team, so every match of the team references the same object.
+   */
   @Override
   public Team put(Team team) {
-    Team existingTeam = availableTeams.putIfAbsent(team.id(), team);
+    Team registeredTeam = teamRegistry.canonical(team);
+    Team existingTeam = availableTeams.putIfAbsent(team.id(), registeredTeam);
     if (existingTeam != null) {
       throw new AlreadyExistsException("Team already exists with id: " + team.id());
     }
-    return team;
+    return registeredTeam;
   }
 
   @Override
@@ -25,8 +40,39 @@ public class InMemoryAvailableTeamStorage implements AvailableTeamStorage {
     return Optional.ofNullable(availableTeams.remove(id));
   }
 
+  /**
+   * The teams are taken in the order of their ids, so competing reservations of overlapping pairs always race for the
+   * same team first and the loser gives up without taking anything. The first team is put back if the second one is
+   * not available.
+   */
+  @Override
+  public Optional<TeamPair> takePair(UUID homeTeamId, UUID visitorTeamId) {
+    if (homeTeamId.equals(visitorTeamId)) {
+      throw new IllegalArgumentException("homeTeam cannot equal with the visitorTeam");
+    }
+    boolean homeTeamFirst = homeTeamId.compareTo(visitorTeamId) < 0;
+    UUID firstId = homeTeamFirst ? homeTeamId : visitorTeamId;
+    UUID secondId = homeTeamFirst ? visitorTeamId : homeTeamId;
+
+    Team first = availableTeams.remove(firstId);
+    if (first == null) {
+      return Optional.empty();
+    }
+    Team second = availableTeams.remove(secondId);
+    if (second == null) {
+      availableTeams.put(firstId, first);
+      return Optional.empty();
+    }
+    return Optional.of(homeTeamFirst ? new TeamPair(first, second) : new TeamPair(second, first));
+  }
+
   @Override
   public long count() {
     return availableTeams.mappingCount();
   }
+
+  @Override
+  public List<Team> getTeams() {
+    return List.copyOf(availableTeams.values());
+  }
 }
@@ -13,8 +13,19 @@ public class InMemoryFinishedMatchStorage implements FinishedMatchStorage {
     finishedMatches.add(match);
   }
 
+  /**
+   * Adds the matches with a single copy of the underlying array.
+   */
+  @Override
+  public void addMatches(List<Match> matches) {
+    finishedMatches.addAll(matches);
+  }
+
+  /**
+   * @return an immutable copy, taken with a single copy of the underlying array
+   */
   @Override
   public List<Match> getMatches() {
-    return finishedMatches;
+    return List.copyOf(finishedMatches);
   }
 }
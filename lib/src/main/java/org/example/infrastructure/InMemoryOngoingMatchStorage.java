@@ -1,45 +1,213 @@
 package org.example.infrastructure;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
 import org.example.domain.Match;
+import org.example.domain.MatchResult;
+import org.example.domain.MatchResult.Status;
+import org.example.domain.ScoreUpdate;
 import org.example.infrastructure.exceptions.AlreadyExistsException;
 import org.example.infrastructure.exceptions.NotFoundException;
 
 public class InMemoryOngoingMatchStorage implements OngoingMatchStorage {
 
-  private final ConcurrentHashMap<UUID, Match> ongoingMatches = new ConcurrentHashMap<>();
+  private static final int SUMMARY_READ_ATTEMPTS = 4;
+
+  private final ConcurrentHashMap<UUID, OngoingMatch> ongoingMatches = new ConcurrentHashMap<>();
+  // Ranked view of the ongoing matches. It is modified under the per-key lock of the ongoingMatches map.
+  private final NavigableSet<Match> rankedMatches = new ConcurrentSkipListSet<>(MatchIndexOrder.INSTANCE);
+  // A summary read from the rankedMatches is consistent only if no index modification started or was in flight
+  // while it was iterated. The counters are striped, so the writers don't contend on them.
+  private final LongAdder startedIndexWrites = new LongAdder();
+  private final LongAdder completedIndexWrites = new LongAdder();
 
   @Override
   public Match addMatch(Match match) {
-    Match alreadyExistingMatch = ongoingMatches.putIfAbsent(match.id(), match);
-    if (alreadyExistingMatch != null) {
-      throw new AlreadyExistsException("Match is already started.");
+    startedIndexWrites.increment();
+    try {
+      var added = new boolean[1];
+      ongoingMatches.computeIfAbsent(match.id(), id -> {
+        rankedMatches.add(match);
+        added[0] = true;
+        return new OngoingMatch(match);
+      });
+      if (!added[0]) {
+        throw new AlreadyExistsException("Match is already started.");
+      }
+      return match;
+    } finally {
+      completedIndexWrites.increment();
     }
-    return match;
   }
 
   @Override
   public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
-    var updatedMatch = ongoingMatches.computeIfPresent(matchUuid,
-        (k, v) -> new Match(v.id(), v.homeTeam(), v.visitorTeam(), homeTeamScore, visitorTeamScore, v.startTime()));
+    Match updatedMatch = update(matchUuid, homeTeamScore, visitorTeamScore, ScoreUpdate.NO_SEQUENCE, null);
     if (updatedMatch == null) {
       throw new NotFoundException("Ongoing match is not present, it cannot be updated.");
     }
     return updatedMatch;
   }
 
+  @Override
+  public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    if (sequence < 0) {
+      throw new IllegalArgumentException("sequence must be 0 or a positive number.");
+    }
+    var stale = new boolean[1];
+    Match updatedMatch = update(matchUuid, homeTeamScore, visitorTeamScore, sequence, stale);
+    if (updatedMatch == null) {
+      throw new NotFoundException("Ongoing match is not present, it cannot be updated.");
+    }
+    return stale[0] ? null : updatedMatch;
+  }
+
   @Override
   public Match finishMatch(UUID matchUuid) {
-    Match finishedMatch = ongoingMatches.remove(matchUuid);
-    if (finishedMatch == null) {
-      throw new NotFoundException("There is no ongoing match to delete with this uuid: " + matchUuid);
+    startedIndexWrites.increment();
+    try {
+      OngoingMatch finishedMatch = ongoingMatches.remove(matchUuid);
+      if (finishedMatch == null) {
+        throw new NotFoundException("There is no ongoing match to delete with this uuid: " + matchUuid);
+      }
+      rankedMatches.remove(finishedMatch.match);
+      return finishedMatch.match;
+    } finally {
+      completedIndexWrites.increment();
     }
-    return finishedMatch;
+  }
+
+  /**
+   * Applies the updates without creating exceptions for the failed ones.
+   */
+  @Override
+  public List<MatchResult> updateMatches(List<ScoreUpdate> updates) {
+    List<MatchResult> results = new ArrayList<>(updates.size());
+    var stale = new boolean[1];
+    for (ScoreUpdate update : updates) {
+      if (update.homeTeamScore() < 0 || update.visitorTeamScore() < 0) {
+        results.add(MatchResult.failure(Status.INVALID, "Scores must be 0 or a positive number."));
+        continue;
+      }
+      stale[0] = false;
+      Match updatedMatch = update(update.matchUuid(), update.homeTeamScore(), update.visitorTeamScore(),
+          update.sequence(), stale);
+      if (updatedMatch == null) {
+        results.add(MatchResult.failure(Status.NOT_FOUND, "Ongoing match is not present, it cannot be updated."));
+      } else {
+        results.add(stale[0] ? MatchResult.failure(Status.STALE, STALE_UPDATE) : MatchResult.success(updatedMatch));
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public List<MatchResult> finishMatches(List<UUID> matchUuids) {
+    List<MatchResult> results = new ArrayList<>(matchUuids.size());
+    startedIndexWrites.increment();
+    try {
+      for (UUID matchUuid : matchUuids) {
+        OngoingMatch finishedMatch = ongoingMatches.remove(matchUuid);
+        if (finishedMatch == null) {
+          results.add(MatchResult.failure(Status.NOT_FOUND,
+              "There is no ongoing match to delete with this uuid: " + matchUuid));
+          continue;
+        }
+        rankedMatches.remove(finishedMatch.match);
+        results.add(MatchResult.success(finishedMatch.match));
+      }
+    } finally {
+      completedIndexWrites.increment();
+    }
+    return results;
+  }
+
+  /**
+   * The sequence is checked and replaced under the lock of the match in the map.
+   *
+   * @return the updated match, the current one if the update is stale, or null if the match is not ongoing
+   */
+  private Match update(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence, boolean[] stale) {
+    startedIndexWrites.increment();
+    try {
+      var updatedMatch = new Match[1];
+      ongoingMatches.computeIfPresent(matchUuid, (k, ongoingMatch) -> {
+        Match v = ongoingMatch.match;
+        if (sequence != ScoreUpdate.NO_SEQUENCE && sequence <= ongoingMatch.lastSequence) {
+          stale[0] = true;
+          updatedMatch[0] = v;
+          return ongoingMatch;
+        }
+        var match = new Match(v.id(), v.homeTeam(), v.visitorTeam(), homeTeamScore, visitorTeamScore, v.startTime());
+        // the order ignores the individual scores, the old entry equals the new one when the total is the same
+        rankedMatches.remove(v);
+        rankedMatches.add(match);
+        ongoingMatch.match = match;
+        if (sequence != ScoreUpdate.NO_SEQUENCE) {
+          ongoingMatch.lastSequence = sequence;
+        }
+        updatedMatch[0] = match;
+        return ongoingMatch;
+      });
+      return updatedMatch[0];
+    } finally {
+      completedIndexWrites.increment();
+    }
+  }
+
+  @Override
+  public long lastSequence(UUID matchUuid) {
+    OngoingMatch ongoingMatch = ongoingMatches.get(matchUuid);
+    return ongoingMatch == null ? ScoreUpdate.NO_SEQUENCE : ongoingMatch.lastSequence;
   }
 
   @Override
   public long countOfOngoingMatches() {
     return ongoingMatches.mappingCount();
   }
+
+  /**
+   * Copies the ranked matches up to {@link #SUMMARY_READ_ATTEMPTS} times until no index write overlapped the copy.
+   * The completed writes are summed before the started ones, the counters only grow, so equal sums mean that no write
+   * was in flight between the two reads.
+   */
+  @Override
+  public List<Match> getOngoingMatchSummary() {
+    for (int attempt = 0; attempt < SUMMARY_READ_ATTEMPTS; attempt++) {
+      long completedWrites = completedIndexWrites.sum();
+      long startedWrites = startedIndexWrites.sum();
+      if (startedWrites == completedWrites) {
+        List<Match> summary = List.copyOf(rankedMatches);
+        if (startedWrites == startedIndexWrites.sum()) {
+          return summary;
+        }
+      }
+      Thread.onSpinWait();
+    }
+    // The index kept being modified during the reads, a match could have been seen twice or missed while it was
+    // repositioned. The map iteration sees every match that was not added or removed in the meantime exactly once.
+    return ongoingMatches.values().stream()
+        .map(ongoingMatch -> ongoingMatch.match)
+        .sorted(Match.SUMMARY_ORDER)
+        .toList();
+  }
+
+  /**
+   * Current match and the sequence of its last applied sequenced update. Both are modified under the per-key lock of
+   * the ongoingMatches map, the sequence is written after the match.
+   */
+  private static final class OngoingMatch {
+
+    private volatile Match match;
+    private volatile long lastSequence = ScoreUpdate.NO_SEQUENCE;
+
+    OngoingMatch(Match match) {
+      this.match = match;
+    }
+  }
 }
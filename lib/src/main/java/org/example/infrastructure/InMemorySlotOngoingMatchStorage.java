@@ -0,0 +1,271 @@
+package org.example.infrastructure;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.domain.Match;
+import org.example.domain.MatchResult;
+import org.example.domain.MatchResult.Status;
+import org.example.domain.ScoreUpdate;
+import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
+
+/**
+ * Keeps the scores of every ongoing match in a mutable slot, so {@link #updateScore} is an allocation-free CAS. The
+ * immutable {@link Match} objects are created only when they are read. The summary is sorted on every read, this
+ * storage is meant for write heavy boards.
+ * <p>
+ * The sequence of the last applied update is a full long next to the state of the slot, e.g. the event time in
+ * milliseconds fits. The sequenced updates of a match check and apply it under the monitor of its slot, without
+ * allocation. The updates without sequence don't take the monitor.
+ */
+public class InMemorySlotOngoingMatchStorage implements OngoingMatchStorage {
+
+  static final int MAX_SCORE = 0xFFFF;
+
+  private final ConcurrentHashMap<UUID, MatchSlot> ongoingMatches = new ConcurrentHashMap<>();
+  private final TeamRegistry teamRegistry;
+
+  public InMemorySlotOngoingMatchStorage() {
+    this(new TeamRegistry());
+  }
+
+  public InMemorySlotOngoingMatchStorage(TeamRegistry teamRegistry) {
+    this.teamRegistry = teamRegistry;
+  }
+
+  @Override
+  public Match addMatch(Match match) {
+    checkScores(match.homeTeamScore(), match.visitorTeamScore());
+    MatchSlot alreadyExistingSlot = ongoingMatches.putIfAbsent(match.id(), new MatchSlot(match, teamRegistry));
+    if (alreadyExistingSlot != null) {
+      throw new AlreadyExistsException("Match is already started.");
+    }
+    return match;
+  }
+
+  @Override
+  public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    MatchSlot slot = findSlot(matchUuid);
+    return slot.toMatch(update(slot, homeTeamScore, visitorTeamScore, ScoreUpdate.NO_SEQUENCE));
+  }
+
+  @Override
+  public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    checkSequence(sequence);
+    MatchSlot slot = findSlot(matchUuid);
+    long state = update(slot, homeTeamScore, visitorTeamScore, sequence);
+    return state == MatchSlot.STALE ? null : slot.toMatch(state);
+  }
+
+  @Override
+  public void updateScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    update(findSlot(matchUuid), homeTeamScore, visitorTeamScore, ScoreUpdate.NO_SEQUENCE);
+  }
+
+  @Override
+  public boolean updateScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    checkSequence(sequence);
+    return update(findSlot(matchUuid), homeTeamScore, visitorTeamScore, sequence) != MatchSlot.STALE;
+  }
+
+  @Override
+  public Match finishMatch(UUID matchUuid) {
+    MatchSlot slot = ongoingMatches.get(matchUuid);
+    long state = slot == null ? MatchSlot.FINISHED : slot.finish();
+    if (state == MatchSlot.FINISHED) {
+      throw new NotFoundException("There is no ongoing match to delete with this uuid: " + matchUuid);
+    }
+    ongoingMatches.remove(matchUuid, slot);
+    return slot.toMatch(state);
+  }
+
+  /**
+   * Applies the updates without creating exceptions for the failed ones.
+   */
+  @Override
+  public List<MatchResult> updateMatches(List<ScoreUpdate> updates) {
+    List<MatchResult> results = new ArrayList<>(updates.size());
+    for (ScoreUpdate update : updates) {
+      int homeTeamScore = update.homeTeamScore();
+      int visitorTeamScore = update.visitorTeamScore();
+      if (homeTeamScore < 0 || visitorTeamScore < 0 || homeTeamScore > MAX_SCORE || visitorTeamScore > MAX_SCORE) {
+        results.add(MatchResult.failure(Status.INVALID, "Scores must be between 0 and " + MAX_SCORE + "."));
+        continue;
+      }
+      MatchSlot slot = ongoingMatches.get(update.matchUuid());
+      long state = slot == null ? MatchSlot.FINISHED : slot.update(homeTeamScore, visitorTeamScore, update.sequence());
+      if (state == MatchSlot.FINISHED) {
+        results.add(MatchResult.failure(Status.NOT_FOUND, "Ongoing match is not present, it cannot be updated."));
+      } else {
+        results.add(state == MatchSlot.STALE
+            ? MatchResult.failure(Status.STALE, STALE_UPDATE)
+            : MatchResult.success(slot.toMatch(state)));
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public long lastSequence(UUID matchUuid) {
+    MatchSlot slot = ongoingMatches.get(matchUuid);
+    return slot == null ? ScoreUpdate.NO_SEQUENCE : slot.lastSequence();
+  }
+
+  @Override
+  public long countOfOngoingMatches() {
+    return ongoingMatches.mappingCount();
+  }
+
+  @Override
+  public List<Match> getOngoingMatchSummary() {
+    return ongoingMatches.values().stream()
+        .map(MatchSlot::toMatch)
+        .filter(Objects::nonNull)
+        .sorted(Match.SUMMARY_ORDER)
+        .toList();
+  }
+
+  /**
+   * @return the new state, or {@link MatchSlot#STALE} if the update is stale
+   */
+  private static long update(MatchSlot slot, int homeTeamScore, int visitorTeamScore, long sequence) {
+    checkScores(homeTeamScore, visitorTeamScore);
+    long state = slot.update(homeTeamScore, visitorTeamScore, sequence);
+    if (state == MatchSlot.FINISHED) {
+      throw new NotFoundException("Ongoing match is not present, it cannot be updated.");
+    }
+    return state;
+  }
+
+  private MatchSlot findSlot(UUID matchUuid) {
+    MatchSlot slot = ongoingMatches.get(matchUuid);
+    if (slot == null) {
+      throw new NotFoundException("Ongoing match is not present, it cannot be updated.");
+    }
+    return slot;
+  }
+
+  private static void checkSequence(long sequence) {
+    if (sequence < 0) {
+      throw new IllegalArgumentException("sequence must be 0 or a positive number.");
+    }
+  }
+
+  private static void checkScores(int homeTeamScore, int visitorTeamScore) {
+    if (homeTeamScore < 0) {
+      throw new IllegalArgumentException("homeTeamScore must be 0 or a positive number.");
+    }
+    if (visitorTeamScore < 0) {
+      throw new IllegalArgumentException("visitorTeamScore must be 0 or a positive number.");
+    }
+    if (homeTeamScore > MAX_SCORE || visitorTeamScore > MAX_SCORE) {
+      throw new IllegalArgumentException("Scores must not be greater than " + MAX_SCORE + ".");
+    }
+  }
+
+  /**
+   * The state packs the finished flag (bit 63), the home team score (bits 16-31) and the visitor team score (bits 0-15)
+   * into a single long. The sequence is written after the state, so a reader that sees a sequence also sees the scores
+   * of its update or newer ones.
+   */
+  private static final class MatchSlot {
+
+    static final long FINISHED = Long.MIN_VALUE;
+    static final long STALE = -1;
+
+    private final UUID id;
+    private final TeamRegistry teamRegistry;
+    private final int homeTeamId;
+    private final int visitorTeamId;
+    private final Instant startTime;
+    private final AtomicLong state;
+    // written under the monitor of the slot
+    private volatile long lastSequence = ScoreUpdate.NO_SEQUENCE;
+
+    MatchSlot(Match match, TeamRegistry teamRegistry) {
+      this.id = match.id();
+      this.teamRegistry = teamRegistry;
+      this.homeTeamId = teamRegistry.register(match.homeTeam());
+      this.visitorTeamId = teamRegistry.register(match.visitorTeam());
+      this.startTime = match.startTime();
+      this.state = new AtomicLong(pack(match.homeTeamScore(), match.visitorTeamScore()));
+    }
+
+    /**
+     * @return the new state, {@link #FINISHED} if the match is already finished or {@link #STALE} if the match was
+     * already updated with the same or a newer sequence
+     */
+    long update(int homeTeamScore, int visitorTeamScore, long sequence) {
+      if (sequence == ScoreUpdate.NO_SEQUENCE) {
+        return update(homeTeamScore, visitorTeamScore);
+      }
+      synchronized (this) {
+        if (state.get() < 0) {
+          return FINISHED;
+        }
+        if (sequence <= lastSequence) {
+          return STALE;
+        }
+        long updated = update(homeTeamScore, visitorTeamScore);
+        if (updated != FINISHED) {
+          lastSequence = sequence;
+        }
+        return updated;
+      }
+    }
+
+    private long update(int homeTeamScore, int visitorTeamScore) {
+      long updated = pack(homeTeamScore, visitorTeamScore);
+      while (true) {
+        long current = state.get();
+        if (current < 0) {
+          return FINISHED;
+        }
+        if (state.compareAndSet(current, updated)) {
+          return updated;
+        }
+      }
+    }
+
+    long lastSequence() {
+      return lastSequence;
+    }
+
+    /**
+     * @return the last state before the match was finished, or {@link #FINISHED} if it was already finished
+     */
+    long finish() {
+      while (true) {
+        long current = state.get();
+        if (current < 0) {
+          return FINISHED;
+        }
+        if (state.compareAndSet(current, current | FINISHED)) {
+          return current;
+        }
+      }
+    }
+
+    /**
+     * @return the current snapshot, or null if the match is already finished
+     */
+    Match toMatch() {
+      long current = state.get();
+      return current < 0 ? null : toMatch(current);
+    }
+
+    Match toMatch(long state) {
+      return new Match(id, teamRegistry.team(homeTeamId), teamRegistry.team(visitorTeamId),
+          (int) (state >>> 16) & MAX_SCORE, (int) state & MAX_SCORE, startTime);
+    }
+
+    private static long pack(int homeTeamScore, int visitorTeamScore) {
+      return ((long) homeTeamScore << 16) | visitorTeamScore;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package org.example.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import org.example.domain.Match;
+import org.example.domain.SummaryCursor;
+
+/**
+ * Keeps the finished matches in summary order, so the summary is served without sorting on every read. The streams and
+ * the cursor pages read the index directly, they see the matches added while they are read.
+ */
+public class InMemorySortedFinishedMatchStorage implements FinishedMatchStorage {
+
+  private final NavigableSet<Match> finishedMatches = new ConcurrentSkipListSet<>(MatchIndexOrder.INSTANCE);
+
+  @Override
+  public void addMatch(Match match) {
+    finishedMatches.add(match);
+  }
+
+  @Override
+  public void addMatches(List<Match> matches) {
+    finishedMatches.addAll(matches);
+  }
+
+  @Override
+  public List<Match> getMatches() {
+    return getMatchSummary();
+  }
+
+  @Override
+  public List<Match> getMatchSummary() {
+    return List.copyOf(finishedMatches);
+  }
+
+  @Override
+  public Stream<Match> streamMatchSummary() {
+    return finishedMatches.stream();
+  }
+
+  @Override
+  public List<Match> getTopMatches(int limit) {
+    return getMatchSummaryPage(0, limit);
+  }
+
+  @Override
+  public List<Match> getMatchSummaryPage(int offset, int limit) {
+    if (offset < 0 || limit < 0) {
+      throw new IllegalArgumentException("offset and limit must be 0 or a positive number.");
+    }
+    var iterator = finishedMatches.iterator();
+    for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+      iterator.next();
+    }
+    return page(iterator, limit);
+  }
+
+  @Override
+  public List<Match> getMatchSummaryAfter(SummaryCursor cursor, int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit must be 0 or a positive number.");
+    }
+    NavigableSet<Match> tail = cursor == null
+        ? finishedMatches
+        : finishedMatches.tailSet(MatchIndexOrder.probe(cursor), false);
+    return page(tail.iterator(), limit);
+  }
+
+  private static List<Match> page(Iterator<Match> iterator, int limit) {
+    List<Match> page = new ArrayList<>(Math.min(limit, 64));
+    while (page.size() < limit && iterator.hasNext()) {
+      page.add(iterator.next());
+    }
+    return List.copyOf(page);
+  }
+}
@@ -0,0 +1,30 @@
+package org.example.infrastructure;
+
+import java.util.Comparator;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.SummaryCursor;
+import org.example.domain.Team;
+
+final class MatchIndexOrder {
+
+  /**
+   * {@link Match#SUMMARY_ORDER} with the match id as the last tie-breaker, so matches with the same score and start time
+   * are still kept as separate entries in the sorted indexes.
+   */
+  static final Comparator<Match> INSTANCE = Match.SUMMARY_ORDER.thenComparing(Match::id);
+
+  private static final Team PROBE_HOME_TEAM = new Team(new UUID(0, 0), "");
+  private static final Team PROBE_VISITOR_TEAM = new Team(new UUID(0, 1), "");
+
+  private MatchIndexOrder() {
+  }
+
+  /**
+   * @return a match that has the same position in this order as the match the cursor points to
+   */
+  static Match probe(SummaryCursor cursor) {
+    return new Match(cursor.matchId(), PROBE_HOME_TEAM, PROBE_VISITOR_TEAM, cursor.totalScore(), 0,
+        cursor.startTime());
+  }
+}
@@ -1,11 +1,19 @@
 package org.example.infrastructure;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.example.domain.Match;
+import org.example.domain.MatchResult;
+import org.example.domain.MatchResult.Status;
+import org.example.domain.ScoreUpdate;
 import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
 
 public interface OngoingMatchStorage {
 
+  String STALE_UPDATE = "Match was already updated with the same or a newer sequence.";
+
   /**
    * @param match {@link Match} object
    * @return Match that was added to the score board
@@ -15,7 +23,90 @@ public interface OngoingMatchStorage {
 
   Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore);
 
+  /**
+   * Applies the update only if its sequence is greater than the sequence of the last applied update of the match. The
+   * check and the update are one atomic step, so duplicated and reordered updates of redundant feeds cannot roll the
+   * score back. The updates without sequence don't change the last applied sequence.
+   *
+   * @param sequence 0 or a positive number, e.g. the sequence number of the feed or the time of the event
+   * @return the updated match, or null if the update is stale
+   * @throws NotFoundException if the match is not ongoing
+   */
+  Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence);
+
+  /**
+   * Same as {@link #updateMatch(UUID, int, int)} for callers that don't need the updated {@link Match}, so the storage
+   * can skip creating it.
+   */
+  default void updateScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    updateMatch(matchUuid, homeTeamScore, visitorTeamScore);
+  }
+
+  /**
+   * Same as {@link #updateMatch(UUID, int, int, long)} for callers that don't need the updated {@link Match}.
+   *
+   * @return false if the update is stale
+   */
+  default boolean updateScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    return updateMatch(matchUuid, homeTeamScore, visitorTeamScore, sequence) != null;
+  }
+
   Match finishMatch(UUID matchUuid);
 
+  /**
+   * Batch variant of {@link #updateMatch(UUID, int, int, long)}, the failures and the stale updates are reported in
+   * the results.
+   *
+   * @return one result per update, in the order of the updates
+   */
+  default List<MatchResult> updateMatches(List<ScoreUpdate> updates) {
+    List<MatchResult> results = new ArrayList<>(updates.size());
+    for (ScoreUpdate update : updates) {
+      try {
+        Match updatedMatch = update.isSequenced()
+            ? updateMatch(update.matchUuid(), update.homeTeamScore(), update.visitorTeamScore(), update.sequence())
+            : updateMatch(update.matchUuid(), update.homeTeamScore(), update.visitorTeamScore());
+        results.add(updatedMatch == null ? MatchResult.failure(Status.STALE, STALE_UPDATE)
+            : MatchResult.success(updatedMatch));
+      } catch (NotFoundException e) {
+        results.add(MatchResult.failure(Status.NOT_FOUND, e.getMessage()));
+      } catch (IllegalArgumentException e) {
+        results.add(MatchResult.failure(Status.INVALID, e.getMessage()));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Batch variant of {@link #finishMatch(UUID)}, the failures are reported in the results.
+   *
+   * @return one result per match, in the order of the match uuids
+   */
+  default List<MatchResult> finishMatches(List<UUID> matchUuids) {
+    List<MatchResult> results = new ArrayList<>(matchUuids.size());
+    for (UUID matchUuid : matchUuids) {
+      try {
+        results.add(MatchResult.success(finishMatch(matchUuid)));
+      } catch (NotFoundException e) {
+        results.add(MatchResult.failure(Status.NOT_FOUND, e.getMessage()));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * The sequence is published after the score of its update, so a score read after the sequence is the score of that
+   * update or a newer one.
+   *
+   * @return the sequence of the last applied sequenced update of the match, or {@link ScoreUpdate#NO_SEQUENCE} if
+   * there was none or the match is not ongoing
+   */
+  long lastSequence(UUID matchUuid);
+
   long countOfOngoingMatches();
+
+  /**
+   * @return ongoing matches ordered by {@link Match#SUMMARY_ORDER}, every ongoing match is present exactly once
+   */
+  List<Match> getOngoingMatchSummary();
 }
@@ -0,0 +1,225 @@
+package org.example.infrastructure;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable sorted map, an AVL tree with path copying: an update creates only the O(log n) nodes on the path to the
+ * changed key and shares every other node with the previous version, so the previous versions stay valid and keeping
+ * one is O(1).
+ */
+public final class PersistentSortedMap<K, V> {
+
+  private final Comparator<? super K> comparator;
+  private final Node<K, V> root;
+
+  private PersistentSortedMap(Comparator<? super K> comparator, Node<K, V> root) {
+    this.comparator = comparator;
+    this.root = root;
+  }
+
+  public static <K, V> PersistentSortedMap<K, V> empty(Comparator<? super K> comparator) {
+    return new PersistentSortedMap<>(Objects.requireNonNull(comparator), null);
+  }
+
+  public int size() {
+    return size(root);
+  }
+
+  public boolean isEmpty() {
+    return root == null;
+  }
+
+  public V get(K key) {
+    Node<K, V> node = root;
+    while (node != null) {
+      int order = comparator.compare(key, node.key);
+      if (order == 0) {
+        return node.value;
+      }
+      node = order < 0 ? node.left : node.right;
+    }
+    return null;
+  }
+
+  public boolean containsKey(K key) {
+    return get(key) != null;
+  }
+
+  /**
+   * @return the map with the value, this map if the key is already mapped to the same value
+   */
+  public PersistentSortedMap<K, V> put(K key, V value) {
+    Objects.requireNonNull(value);
+    Node<K, V> newRoot = put(root, key, value);
+    return newRoot == root ? this : new PersistentSortedMap<>(comparator, newRoot);
+  }
+
+  /**
+   * @return the map without the key, this map if the key is not present
+   */
+  public PersistentSortedMap<K, V> remove(K key) {
+    Node<K, V> newRoot = remove(root, key);
+    return newRoot == root ? this : new PersistentSortedMap<>(comparator, newRoot);
+  }
+
+  /**
+   * @return the values in key order
+   */
+  public Iterator<V> values() {
+    return new ValueIterator<>(root, null, comparator);
+  }
+
+  /**
+   * @return the values of the keys ordered after {@code key}, in key order
+   */
+  public Iterator<V> valuesAfter(K key) {
+    return new ValueIterator<>(root, key, comparator);
+  }
+
+  public List<V> toList() {
+    List<V> values = new ArrayList<>(size());
+    values().forEachRemaining(values::add);
+    return List.copyOf(values);
+  }
+
+  private Node<K, V> put(Node<K, V> node, K key, V value) {
+    if (node == null) {
+      return new Node<>(key, value, null, null);
+    }
+    int order = comparator.compare(key, node.key);
+    if (order == 0) {
+      return node.value == value ? node : new Node<>(key, value, node.left, node.right);
+    }
+    if (order < 0) {
+      Node<K, V> left = put(node.left, key, value);
+      return left == node.left ? node : balance(node.key, node.value, left, node.right);
+    }
+    Node<K, V> right = put(node.right, key, value);
+    return right == node.right ? node : balance(node.key, node.value, node.left, right);
+  }
+
+  private Node<K, V> remove(Node<K, V> node, K key) {
+    if (node == null) {
+      return null;
+    }
+    int order = comparator.compare(key, node.key);
+    if (order < 0) {
+      Node<K, V> left = remove(node.left, key);
+      return left == node.left ? node : balance(node.key, node.value, left, node.right);
+    }
+    if (order > 0) {
+      Node<K, V> right = remove(node.right, key);
+      return right == node.right ? node : balance(node.key, node.value, node.left, right);
+    }
+    if (node.left == null) {
+      return node.right;
+    }
+    if (node.right == null) {
+      return node.left;
+    }
+    Node<K, V> successor = node.right;
+    while (successor.left != null) {
+      successor = successor.left;
+    }
+    return balance(successor.key, successor.value, node.left, removeMin(node.right));
+  }
+
+  private static <K, V> Node<K, V> removeMin(Node<K, V> node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    return balance(node.key, node.value, removeMin(node.left), node.right);
+  }
+
+  private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+    int difference = height(left) - height(right);
+    if (difference > 1) {
+      if (height(left.left) >= height(left.right)) {
+        return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+      }
+      Node<K, V> pivot = left.right;
+      return new Node<>(pivot.key, pivot.value, new Node<>(left.key, left.value, left.left, pivot.left),
+          new Node<>(key, value, pivot.right, right));
+    }
+    if (difference < -1) {
+      if (height(right.right) >= height(right.left)) {
+        return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+      }
+      Node<K, V> pivot = right.left;
+      return new Node<>(pivot.key, pivot.value, new Node<>(key, value, left, pivot.left),
+          new Node<>(right.key, right.value, pivot.right, right.right));
+    }
+    return new Node<>(key, value, left, right);
+  }
+
+  private static int height(Node<?, ?> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static int size(Node<?, ?> node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static final class Node<K, V> {
+
+    final K key;
+    final V value;
+    final Node<K, V> left;
+    final Node<K, V> right;
+    final int height;
+    final int size;
+
+    Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+      this.key = key;
+      this.value = value;
+      this.left = left;
+      this.right = right;
+      this.height = Math.max(height(left), height(right)) + 1;
+      this.size = size(left) + size(right) + 1;
+    }
+  }
+
+  private static final class ValueIterator<K, V> implements Iterator<V> {
+
+    private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+    /**
+     * @param after null to start with the first key
+     */
+    ValueIterator(Node<K, V> root, K after, Comparator<? super K> comparator) {
+      Node<K, V> node = root;
+      while (node != null) {
+        if (after == null || comparator.compare(node.key, after) > 0) {
+          path.push(node);
+          node = node.left;
+        } else {
+          node = node.right;
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !path.isEmpty();
+    }
+
+    @Override
+    public V next() {
+      if (path.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+      Node<K, V> node = path.pop();
+      for (Node<K, V> child = node.right; child != null; child = child.left) {
+        path.push(child);
+      }
+      return node.value;
+    }
+  }
+}
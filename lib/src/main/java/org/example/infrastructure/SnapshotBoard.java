@@ -0,0 +1,282 @@
+package org.example.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.example.domain.Match;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.SummaryCursor;
+import org.example.domain.Team;
+import org.example.domain.TeamPair;
+import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
+
+/**
+ * Keeps the whole board in one {@link BoardSnapshot} and serves its storages from it. Every storage operation replaces
+ * the snapshot with a compare-and-set, so {@link #snapshot()} is a consistent view across the storages in O(1). A
+ * change copies O(log n) tree nodes, the writes of all three storages contend on the same reference.
+ * <p>
+ * A finished match is moved from the ongoing to the finished matches in one change, adding it to the finished match
+ * storage afterwards is a no-op. The other service operations are still separate changes, a snapshot can show the
+ * teams of a starting match taken before the match is added.
+ */
+public class SnapshotBoard {
+
+  private final AtomicReference<BoardSnapshot> current = new AtomicReference<>(BoardSnapshot.EMPTY);
+  private final AvailableTeamStorage availableTeamStorage = new SnapshotAvailableTeamStorage();
+  private final OngoingMatchStorage ongoingMatchStorage = new SnapshotOngoingMatchStorage();
+  private final FinishedMatchStorage finishedMatchStorage = new SnapshotFinishedMatchStorage();
+
+  public BoardSnapshot snapshot() {
+    return current.get();
+  }
+
+  public AvailableTeamStorage availableTeamStorage() {
+    return availableTeamStorage;
+  }
+
+  public OngoingMatchStorage ongoingMatchStorage() {
+    return ongoingMatchStorage;
+  }
+
+  public FinishedMatchStorage finishedMatchStorage() {
+    return finishedMatchStorage;
+  }
+
+  private boolean replace(BoardSnapshot expected, BoardSnapshot next) {
+    return current.compareAndSet(expected, next);
+  }
+
+  private class SnapshotAvailableTeamStorage implements AvailableTeamStorage {
+
+    @Override
+    public Team put(Team team) {
+      while (true) {
+        BoardSnapshot snapshot = current.get();
+        if (snapshot.availableTeams.containsKey(team.id())) {
+          throw new AlreadyExistsException("Team already exists with id: " + team.id());
+        }
+        if (replace(snapshot, snapshot.with(snapshot.availableTeams.put(team.id(), team), snapshot.ongoingMatches,
+            snapshot.rankedOngoingMatches, snapshot.finishedMatches))) {
+          return team;
+        }
+      }
+    }
+
+    @Override
+    public Optional<Team> take(UUID id) {
+      while (true) {
+        BoardSnapshot snapshot = current.get();
+        Team team = snapshot.availableTeams.get(id);
+        if (team == null) {
+          return Optional.empty();
+        }
+        if (replace(snapshot, snapshot.with(snapshot.availableTeams.remove(id), snapshot.ongoingMatches,
+            snapshot.rankedOngoingMatches, snapshot.finishedMatches))) {
+          return Optional.of(team);
+        }
+      }
+    }
+
+    /**
+     * Both teams are taken in one change.
+     */
+    @Override
+    public Optional<TeamPair> takePair(UUID homeTeamId, UUID visitorTeamId) {
+      if (homeTeamId.equals(visitorTeamId)) {
+        throw new IllegalArgumentException("homeTeam cannot equal with the visitorTeam");
+      }
+      while (true) {
+        BoardSnapshot snapshot = current.get();
+        Team homeTeam = snapshot.availableTeams.get(homeTeamId);
+        Team visitorTeam = snapshot.availableTeams.get(visitorTeamId);
+        if (homeTeam == null || visitorTeam == null) {
+          return Optional.empty();
+        }
+        if (replace(snapshot, snapshot.with(snapshot.availableTeams.remove(homeTeamId).remove(visitorTeamId),
+            snapshot.ongoingMatches, snapshot.rankedOngoingMatches, snapshot.finishedMatches))) {
+          return Optional.of(new TeamPair(homeTeam, visitorTeam));
+        }
+      }
+    }
+
+    @Override
+    public long count() {
+      return current.get().availableTeams.size();
+    }
+
+    @Override
+    public List<Team> getTeams() {
+      return current.get().availableTeams();
+    }
+  }
+
+  private class SnapshotOngoingMatchStorage implements OngoingMatchStorage {
+
+    @Override
+    public Match addMatch(Match match) {
+      while (true) {
+        BoardSnapshot snapshot = current.get();
+        if (snapshot.ongoingMatches.containsKey(match.id())) {
+          throw new AlreadyExistsException("Match is already started.");
+        }
+        if (replace(snapshot, snapshot.with(snapshot.availableTeams, snapshot.ongoingMatches.put(match.id(), match),
+            snapshot.rankedOngoingMatches.put(match, match), snapshot.finishedMatches))) {
+          return match;
+        }
+      }
+    }
+
+    @Override
+    public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+      return update(matchUuid, homeTeamScore, visitorTeamScore, ScoreUpdate.NO_SEQUENCE);
+    }
+
+    @Override
+    public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+      if (sequence < 0) {
+        throw new IllegalArgumentException("sequence must be 0 or a positive number.");
+      }
+      return update(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+    }
+
+    /**
+     * The sequence is checked against the same snapshot that is replaced.
+     */
+    private Match update(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+      while (true) {
+        BoardSnapshot snapshot = current.get();
+        Match match = snapshot.ongoingMatches.get(matchUuid);
+        if (match == null) {
+          throw new NotFoundException("Ongoing match is not present, it cannot be updated.");
+        }
+        PersistentSortedMap<UUID, Long> ongoingSequences = snapshot.ongoingSequences;
+        if (sequence != ScoreUpdate.NO_SEQUENCE) {
+          Long lastSequence = ongoingSequences.get(matchUuid);
+          if (lastSequence != null && sequence <= lastSequence) {
+            return null;
+          }
+          ongoingSequences = ongoingSequences.put(matchUuid, sequence);
+        }
+        Match updatedMatch = new Match(match.id(), match.homeTeam(), match.visitorTeam(), homeTeamScore,
+            visitorTeamScore, match.startTime());
+        if (replace(snapshot, snapshot.with(snapshot.availableTeams,
+            snapshot.ongoingMatches.put(matchUuid, updatedMatch),
+            snapshot.rankedOngoingMatches.remove(match).put(updatedMatch, updatedMatch), snapshot.finishedMatches,
+            ongoingSequences))) {
+          return updatedMatch;
+        }
+      }
+    }
+
+    /**
+     * Moves the match to the finished matches in the same change.
+     */
+    @Override
+    public Match finishMatch(UUID matchUuid) {
+      while (true) {
+        BoardSnapshot snapshot = current.get();
+        Match match = snapshot.ongoingMatches.get(matchUuid);
+        if (match == null) {
+          throw new NotFoundException("There is no ongoing match to delete with this uuid: " + matchUuid);
+        }
+        if (replace(snapshot, snapshot.with(snapshot.availableTeams, snapshot.ongoingMatches.remove(matchUuid),
+            snapshot.rankedOngoingMatches.remove(match), snapshot.finishedMatches.put(match, match),
+            snapshot.ongoingSequences.remove(matchUuid)))) {
+          return match;
+        }
+      }
+    }
+
+    @Override
+    public long lastSequence(UUID matchUuid) {
+      Long lastSequence = current.get().ongoingSequences.get(matchUuid);
+      return lastSequence == null ? ScoreUpdate.NO_SEQUENCE : lastSequence;
+    }
+
+    @Override
+    public long countOfOngoingMatches() {
+      return current.get().countOfOngoingMatches();
+    }
+
+    @Override
+    public List<Match> getOngoingMatchSummary() {
+      return current.get().ongoingMatchSummary();
+    }
+  }
+
+  private class SnapshotFinishedMatchStorage implements FinishedMatchStorage {
+
+    @Override
+    public void addMatch(Match match) {
+      while (true) {
+        BoardSnapshot snapshot = current.get();
+        if (snapshot.finishedMatches.get(match) == match) {
+          return;
+        }
+        if (replace(snapshot, snapshot.with(snapshot.availableTeams, snapshot.ongoingMatches,
+            snapshot.rankedOngoingMatches, snapshot.finishedMatches.put(match, match)))) {
+          return;
+        }
+      }
+    }
+
+    @Override
+    public List<Match> getMatches() {
+      return current.get().finishedMatchSummary();
+    }
+
+    @Override
+    public List<Match> getMatchSummary() {
+      return current.get().finishedMatchSummary();
+    }
+
+    /**
+     * The stream reads one snapshot, the matches finished after it is created are not part of it.
+     */
+    @Override
+    public Stream<Match> streamMatchSummary() {
+      return current.get().streamFinishedMatchSummary();
+    }
+
+    @Override
+    public List<Match> getTopMatches(int limit) {
+      return getMatchSummaryAfter(null, limit);
+    }
+
+    @Override
+    public List<Match> getMatchSummaryPage(int offset, int limit) {
+      if (offset < 0 || limit < 0) {
+        throw new IllegalArgumentException("offset and limit must be 0 or a positive number.");
+      }
+      Iterator<Match> iterator = current.get().finishedMatches.values();
+      for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+        iterator.next();
+      }
+      return page(iterator, limit);
+    }
+
+    @Override
+    public List<Match> getMatchSummaryAfter(SummaryCursor cursor, int limit) {
+      if (limit < 0) {
+        throw new IllegalArgumentException("limit must be 0 or a positive number.");
+      }
+      PersistentSortedMap<Match, Match> finishedMatches = current.get().finishedMatches;
+      return page(cursor == null
+          ? finishedMatches.values()
+          : finishedMatches.valuesAfter(MatchIndexOrder.probe(cursor)), limit);
+    }
+
+    private static List<Match> page(Iterator<Match> iterator, int limit) {
+      List<Match> page = new ArrayList<>(Math.min(limit, 64));
+      while (page.size() < limit && iterator.hasNext()) {
+        page.add(iterator.next());
+      }
+      return List.copyOf(page);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package org.example.infrastructure;
+
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.infrastructure.events.ScoreBoardEventPublisher;
+
+/**
+ * Serves the board from the storages of a {@link SnapshotBoard}, the snapshots are read from the board.
+ */
+public class SnapshotBoardScoreBoardService extends ScoreBoardServiceImpl implements SnapshotScoreBoardService {
+
+  private final SnapshotBoard snapshotBoard;
+
+  public SnapshotBoardScoreBoardService(SnapshotBoard snapshotBoard) {
+    this(snapshotBoard, snapshotBoard.ongoingMatchStorage(), snapshotBoard.availableTeamStorage(),
+        snapshotBoard.finishedMatchStorage(), new ScoreBoardEventPublisher());
+  }
+
+  /**
+   * @param ongoingMatchStorage   the ongoing match storage of the board, it may be decorated
+   * @param availableTeamStorage  the available team storage of the board, it may be decorated
+   * @param finishedMatchStorage  the finished match storage of the board, it may be decorated
+   */
+  public SnapshotBoardScoreBoardService(SnapshotBoard snapshotBoard, OngoingMatchStorage ongoingMatchStorage,
+      AvailableTeamStorage availableTeamStorage, FinishedMatchStorage finishedMatchStorage,
+      ScoreBoardEventPublisher eventPublisher) {
+    super(ongoingMatchStorage, availableTeamStorage, finishedMatchStorage, eventPublisher);
+    this.snapshotBoard = snapshotBoard;
+  }
+
+  @Override
+  public BoardSnapshot getSnapshot() {
+    return snapshotBoard.snapshot();
+  }
+}
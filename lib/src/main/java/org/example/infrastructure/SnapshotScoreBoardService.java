@@ -0,0 +1,14 @@
+package org.example.infrastructure;
+
+import org.example.domain.ScoreBoardService;
+
+/**
+ * A {@link ScoreBoardService} whose storages keep a consistent view of the whole board.
+ */
+public interface SnapshotScoreBoardService extends ScoreBoardService {
+
+  /**
+   * @return an immutable view of the available teams, the ongoing and the finished matches at one point in time
+   */
+  BoardSnapshot getSnapshot();
+}
@@ -0,0 +1,36 @@
+package org.example.infrastructure;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Operations on the same key always get the same lock, unrelated keys are spread over the stripes. The locks are
+ * {@link ReentrantLock}s, so a virtual thread that waits for a stripe, or waits while it holds one (e.g. for room in
+ * the journal buffer), doesn't pin its carrier.
+ */
+public final class StripedLocks {
+
+  private final ReentrantLock[] locks;
+
+  public StripedLocks(int stripes) {
+    if (Integer.bitCount(stripes) != 1) {
+      throw new IllegalArgumentException("stripes must be a power of two.");
+    }
+    locks = new ReentrantLock[stripes];
+    for (int i = 0; i < stripes; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  public int index(Object key) {
+    int hash = key.hashCode();
+    return (hash ^ (hash >>> 16)) & (locks.length - 1);
+  }
+
+  public ReentrantLock lock(int index) {
+    return locks[index];
+  }
+
+  public ReentrantLock lockFor(Object key) {
+    return locks[index(key)];
+  }
+}
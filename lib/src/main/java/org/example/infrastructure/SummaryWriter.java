@@ -0,0 +1,61 @@
+package org.example.infrastructure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.example.domain.Match;
+
+/**
+ * Writes a summary as UTF-8 lines like {@code Austria 3 - England 2} through one reused buffer, so the summary is not
+ * collected into a list or a string first.
+ */
+public final class SummaryWriter {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private SummaryWriter() {
+  }
+
+  public static void write(Stream<Match> summary, WritableByteChannel channel) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    StringBuilder line = new StringBuilder(64);
+    try {
+      summary.forEachOrdered(match -> {
+        line.setLength(0);
+        line.append(match.homeTeam().name()).append(' ').append(match.homeTeamScore()).append(" - ")
+            .append(match.visitorTeamScore()).append(' ').append(match.visitorTeam().name()).append('\n');
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+          if (bytes.length > buffer.remaining()) {
+            flush(buffer, channel);
+          }
+          if (bytes.length > buffer.capacity()) {
+            writeFully(ByteBuffer.wrap(bytes), channel);
+          } else {
+            buffer.put(bytes);
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    flush(buffer, channel);
+  }
+
+  private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+    buffer.flip();
+    writeFully(buffer, channel);
+    buffer.clear();
+  }
+
+  private static void writeFully(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package org.example.infrastructure;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.example.domain.Team;
+import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
+
+/**
+ * Assigns a dense int id to every team, so storages can reference the teams by int instead of by object. A team is
+ * registered once and kept for the lifetime of the registry; equal names share one {@link String} instance.
+ * <p>
+ * The registrations are serialized, the lookups don't lock: a team is stored before its id is published.
+ */
+public class TeamRegistry {
+
+  private final ConcurrentHashMap<UUID, Integer> teamIds = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, String> names = new ConcurrentHashMap<>();
+  private volatile Team[] teams = new Team[64];
+
+  /**
+   * @return the id of the team, it is registered if it was not yet
+   * @throws AlreadyExistsException if another team is registered with the same uuid
+   */
+  public int register(Team team) {
+    Integer teamId = teamIds.get(team.id());
+    if (teamId == null) {
+      teamId = registerIfAbsent(team);
+    }
+    if (!teams[teamId].name().equals(team.name())) {
+      throw new AlreadyExistsException("Another team is registered with id: " + team.id());
+    }
+    return teamId;
+  }
+
+  /**
+   * @return the registered instance of the team, with the deduplicated name
+   */
+  public Team canonical(Team team) {
+    int teamId = register(team);
+    return teams[teamId];
+  }
+
+  public Team team(int teamId) {
+    Team[] currentTeams = teams;
+    Team team = teamId >= 0 && teamId < currentTeams.length ? currentTeams[teamId] : null;
+    if (team == null) {
+      throw new NotFoundException("Team not found with id: " + teamId);
+    }
+    return team;
+  }
+
+  public Optional<Team> find(UUID teamUuid) {
+    Integer teamId = teamIds.get(teamUuid);
+    return teamId == null ? Optional.empty() : Optional.of(teams[teamId]);
+  }
+
+  public int size() {
+    return teamIds.size();
+  }
+
+  private synchronized int registerIfAbsent(Team team) {
+    Integer existingTeamId = teamIds.get(team.id());
+    if (existingTeamId != null) {
+      return existingTeamId;
+    }
+    int teamId = teamIds.size();
+    Team[] currentTeams = teams;
+    if (teamId == currentTeams.length) {
+      currentTeams = Arrays.copyOf(currentTeams, currentTeams.length * 2);
+    }
+    currentTeams[teamId] = new Team(team.id(), names.computeIfAbsent(team.name(), name -> name));
+    teams = currentTeams;
+    teamIds.put(team.id(), teamId);
+    return teamId;
+  }
+}
@@ -0,0 +1,157 @@
+package org.example.infrastructure.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+import org.example.domain.BackpressureStrategy;
+import org.example.domain.Match;
+import org.example.domain.MatchResult;
+import org.example.domain.NewMatch;
+import org.example.domain.ScoreBoardEvent;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.SummaryCursor;
+import org.example.domain.SummaryPage;
+
+/**
+ * Memoizes the summaries and the count of the ongoing matches of the delegate per storage version. The delegate has to
+ * use the given versioned storages, every mutation of them starts a new version. The concurrent readers of a new
+ * version share one computation and one immutable result, the readers of the cached version only read the version and
+ * the cached result.
+ * <p>
+ * <pre>{@code
+ * var ongoingMatches = new VersionedOngoingMatchStorage(new InMemoryOngoingMatchStorage());
+ * var finishedMatches = new VersionedFinishedMatchStorage(new InMemorySortedFinishedMatchStorage());
+ * var scoreBoardService = new CachingScoreBoardService(
+ *     new ScoreBoardServiceImpl(ongoingMatches, availableTeams, finishedMatches), ongoingMatches, finishedMatches);
+ * }</pre>
+ */
+public class CachingScoreBoardService implements ScoreBoardService {
+
+  private final ScoreBoardService delegate;
+  private final VersionedOngoingMatchStorage ongoingMatchStorage;
+  private final VersionedFinishedMatchStorage finishedMatchStorage;
+  private final VersionedValue<List<Match>> ongoingMatchSummary;
+  private final VersionedValue<Long> countOfOngoingMatches;
+  private final VersionedValue<List<Match>> finishedMatchSummary;
+
+  public CachingScoreBoardService(ScoreBoardService delegate, VersionedOngoingMatchStorage ongoingMatchStorage,
+      VersionedFinishedMatchStorage finishedMatchStorage) {
+    this.delegate = delegate;
+    this.ongoingMatchStorage = ongoingMatchStorage;
+    this.finishedMatchStorage = finishedMatchStorage;
+    this.ongoingMatchSummary = new VersionedValue<>(() -> List.copyOf(delegate.getOngoingMatchSummary()));
+    this.countOfOngoingMatches = new VersionedValue<>(delegate::countOfOngoingMatches);
+    this.finishedMatchSummary = new VersionedValue<>(() -> List.copyOf(delegate.getFinishedMatchSummary()));
+  }
+
+  /**
+   * @return the version of the ongoing matches, it changes on every start, score update and finish
+   */
+  public long ongoingMatchVersion() {
+    return ongoingMatchStorage.version();
+  }
+
+  /**
+   * @return the version of the finished matches, it changes on every finish
+   */
+  public long finishedMatchVersion() {
+    return finishedMatchStorage.version();
+  }
+
+  @Override
+  public Match startNewMatch(UUID homeTeamUuid, UUID visitorTeamUuid, Instant startTime) {
+    return delegate.startNewMatch(homeTeamUuid, visitorTeamUuid, startTime);
+  }
+
+  @Override
+  public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    return delegate.updateOngoingMatch(matchUuid, homeTeamScore, visitorTeamScore);
+  }
+
+  @Override
+  public void updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    delegate.updateOngoingMatchScore(matchUuid, homeTeamScore, visitorTeamScore);
+  }
+
+  @Override
+  public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    return delegate.updateOngoingMatch(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+  }
+
+  @Override
+  public boolean updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    return delegate.updateOngoingMatchScore(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+  }
+
+  @Override
+  public void finishMatch(UUID matchUuid) {
+    delegate.finishMatch(matchUuid);
+  }
+
+  @Override
+  public List<MatchResult> startNewMatches(List<NewMatch> newMatches) {
+    return delegate.startNewMatches(newMatches);
+  }
+
+  @Override
+  public List<MatchResult> updateOngoingMatches(List<ScoreUpdate> updates) {
+    return delegate.updateOngoingMatches(updates);
+  }
+
+  @Override
+  public List<MatchResult> finishMatches(List<UUID> matchUuids) {
+    return delegate.finishMatches(matchUuids);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber,
+      BackpressureStrategy backpressureStrategy, int bufferSize) {
+    delegate.subscribe(subscriber, backpressureStrategy, bufferSize);
+  }
+
+  @Override
+  public List<Match> getFinishedMatchSummary() {
+    return finishedMatchSummary.get(finishedMatchStorage.version());
+  }
+
+  @Override
+  public List<Match> getTopFinishedMatches(int limit) {
+    return delegate.getTopFinishedMatches(limit);
+  }
+
+  @Override
+  public SummaryPage getFinishedMatchSummaryPage(SummaryCursor cursor, int limit) {
+    return delegate.getFinishedMatchSummaryPage(cursor, limit);
+  }
+
+  @Override
+  public Stream<Match> streamFinishedMatchSummary() {
+    return delegate.streamFinishedMatchSummary();
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(WritableByteChannel channel) throws IOException {
+    delegate.writeFinishedMatchSummary(channel);
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(OutputStream outputStream) throws IOException {
+    delegate.writeFinishedMatchSummary(outputStream);
+  }
+
+  @Override
+  public long countOfOngoingMatches() {
+    return countOfOngoingMatches.get(ongoingMatchStorage.version());
+  }
+
+  @Override
+  public List<Match> getOngoingMatchSummary() {
+    return ongoingMatchSummary.get(ongoingMatchStorage.version());
+  }
+}
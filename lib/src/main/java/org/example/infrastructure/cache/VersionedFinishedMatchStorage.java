@@ -0,0 +1,70 @@
+package org.example.infrastructure.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.example.domain.Match;
+import org.example.domain.SummaryCursor;
+import org.example.infrastructure.FinishedMatchStorage;
+
+/**
+ * Counts the matches added to the delegate. The version is incremented after the matches are added, so a reader that
+ * sees a version also sees every match counted by it.
+ */
+public class VersionedFinishedMatchStorage implements FinishedMatchStorage {
+
+  private final FinishedMatchStorage delegate;
+  private final AtomicLong version = new AtomicLong();
+
+  public VersionedFinishedMatchStorage(FinishedMatchStorage delegate) {
+    this.delegate = delegate;
+  }
+
+  public long version() {
+    return version.get();
+  }
+
+  @Override
+  public void addMatch(Match match) {
+    delegate.addMatch(match);
+    version.incrementAndGet();
+  }
+
+  @Override
+  public void addMatches(List<Match> matches) {
+    delegate.addMatches(matches);
+    if (!matches.isEmpty()) {
+      version.incrementAndGet();
+    }
+  }
+
+  @Override
+  public List<Match> getMatches() {
+    return delegate.getMatches();
+  }
+
+  @Override
+  public List<Match> getMatchSummary() {
+    return delegate.getMatchSummary();
+  }
+
+  @Override
+  public Stream<Match> streamMatchSummary() {
+    return delegate.streamMatchSummary();
+  }
+
+  @Override
+  public List<Match> getTopMatches(int limit) {
+    return delegate.getTopMatches(limit);
+  }
+
+  @Override
+  public List<Match> getMatchSummaryPage(int offset, int limit) {
+    return delegate.getMatchSummaryPage(offset, limit);
+  }
+
+  @Override
+  public List<Match> getMatchSummaryAfter(SummaryCursor cursor, int limit) {
+    return delegate.getMatchSummaryAfter(cursor, limit);
+  }
+}
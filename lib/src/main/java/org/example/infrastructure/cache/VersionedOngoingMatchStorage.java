@@ -0,0 +1,104 @@
+package org.example.infrastructure.cache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.domain.Match;
+import org.example.domain.MatchResult;
+import org.example.domain.ScoreUpdate;
+import org.example.infrastructure.OngoingMatchStorage;
+
+/**
+ * Counts the successful mutations of the delegate. The version is incremented after the mutation is applied, so a
+ * reader that sees a version also sees every mutation counted by it.
+ */
+public class VersionedOngoingMatchStorage implements OngoingMatchStorage {
+
+  private final OngoingMatchStorage delegate;
+  private final AtomicLong version = new AtomicLong();
+
+  public VersionedOngoingMatchStorage(OngoingMatchStorage delegate) {
+    this.delegate = delegate;
+  }
+
+  public long version() {
+    return version.get();
+  }
+
+  @Override
+  public Match addMatch(Match match) {
+    Match addedMatch = delegate.addMatch(match);
+    version.incrementAndGet();
+    return addedMatch;
+  }
+
+  @Override
+  public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    Match updatedMatch = delegate.updateMatch(matchUuid, homeTeamScore, visitorTeamScore);
+    version.incrementAndGet();
+    return updatedMatch;
+  }
+
+  @Override
+  public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    Match updatedMatch = delegate.updateMatch(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+    if (updatedMatch != null) {
+      version.incrementAndGet();
+    }
+    return updatedMatch;
+  }
+
+  @Override
+  public void updateScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    delegate.updateScore(matchUuid, homeTeamScore, visitorTeamScore);
+    version.incrementAndGet();
+  }
+
+  @Override
+  public boolean updateScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    boolean updated = delegate.updateScore(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+    if (updated) {
+      version.incrementAndGet();
+    }
+    return updated;
+  }
+
+  @Override
+  public Match finishMatch(UUID matchUuid) {
+    Match finishedMatch = delegate.finishMatch(matchUuid);
+    version.incrementAndGet();
+    return finishedMatch;
+  }
+
+  @Override
+  public List<MatchResult> updateMatches(List<ScoreUpdate> updates) {
+    return counted(delegate.updateMatches(updates));
+  }
+
+  @Override
+  public List<MatchResult> finishMatches(List<UUID> matchUuids) {
+    return counted(delegate.finishMatches(matchUuids));
+  }
+
+  @Override
+  public long lastSequence(UUID matchUuid) {
+    return delegate.lastSequence(matchUuid);
+  }
+
+  @Override
+  public long countOfOngoingMatches() {
+    return delegate.countOfOngoingMatches();
+  }
+
+  @Override
+  public List<Match> getOngoingMatchSummary() {
+    return delegate.getOngoingMatchSummary();
+  }
+
+  private List<MatchResult> counted(List<MatchResult> results) {
+    if (results.stream().anyMatch(MatchResult::isSuccess)) {
+      version.incrementAndGet();
+    }
+    return results;
+  }
+}
@@ -0,0 +1,70 @@
+package org.example.infrastructure.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * The last value computed by the computation, together with the version of the source it was computed at. When the
+ * version changes the first reader computes the new value and the concurrent readers of the same version wait for it
+ * (single flight), so a version is computed at most once. A reader of the cached version does one volatile read.
+ */
+public final class VersionedValue<T> {
+
+  private final Supplier<T> computation;
+  private final AtomicReference<Entry<T>> entry = new AtomicReference<>();
+
+  public VersionedValue(Supplier<T> computation) {
+    this.computation = computation;
+  }
+
+  /**
+   * @param version the current version of the source, read before this call
+   * @return the value computed at the version or at a newer one
+   */
+  public T get(long version) {
+    while (true) {
+      Entry<T> current = entry.get();
+      if (current != null && current.version() >= version) {
+        return current.value() != null ? current.value() : await(current.computing());
+      }
+      Entry<T> computing = new Entry<>(version, null, new CompletableFuture<>());
+      if (entry.compareAndSet(current, computing)) {
+        return compute(computing);
+      }
+    }
+  }
+
+  private T compute(Entry<T> computing) {
+    T value;
+    try {
+      value = computation.get();
+    } catch (RuntimeException e) {
+      entry.compareAndSet(computing, null);
+      computing.computing().completeExceptionally(e);
+      throw e;
+    }
+    entry.compareAndSet(computing, new Entry<>(computing.version(), value, null));
+    computing.computing().complete(value);
+    return value;
+  }
+
+  private static <T> T await(CompletableFuture<T> computing) {
+    try {
+      return computing.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @param value     null while the value is computed
+   * @param computing completed with the value, null once the value is set
+   */
+  private record Entry<T>(long version, T value, CompletableFuture<T> computing) {
+  }
+}
@@ -0,0 +1,341 @@
+package org.example.infrastructure.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardEvent;
+import org.example.domain.ScoreBoardEvent.MatchFinished;
+import org.example.domain.ScoreBoardEvent.MatchStarted;
+import org.example.domain.ScoreBoardEvent.ScoreUpdated;
+import org.example.domain.Team;
+
+/**
+ * Compact binary wire format of the teams, the matches, the summaries and the {@link ScoreBoardEvent}s:
+ * <ul>
+ *   <li>uuid: 16 bytes, most significant bits first</li>
+ *   <li>team: {@code [uuid][varint name length][UTF-8 name]}</li>
+ *   <li>match: {@code [uuid][home team][visitor team][varint home score][varint visitor score][start time]}, the start
+ *   time is {@code [zigzag varint epoch seconds][varint nanos]}, so a match started on a whole second takes 2 bytes
+ *   less than a long</li>
+ *   <li>summary: {@code [varint team count][teams][varint match count][matches]}, the teams of the summary are written
+ *   once and the matches reference them by their varint index</li>
+ *   <li>event: {@code [byte type][match]}</li>
+ * </ul>
+ * The values are written to and read from the buffer directly, the names are encoded without an intermediate byte
+ * array. The {@code *Size} methods return the exact encoded size, so the buffer can be sized up front; writing to a
+ * buffer without enough room throws {@link java.nio.BufferOverflowException}, reading a truncated value throws
+ * {@link java.nio.BufferUnderflowException}.
+ */
+public final class ScoreBoardCodec {
+
+  static final byte MATCH_STARTED = 1;
+  static final byte SCORE_UPDATED = 2;
+  static final byte MATCH_FINISHED = 3;
+
+  public static final int UUID_SIZE = 16;
+
+  private ScoreBoardCodec() {
+  }
+
+  public static void encodeUuid(UUID uuid, ByteBuffer buffer) {
+    putUuid(buffer, uuid);
+  }
+
+  public static UUID decodeUuid(ByteBuffer buffer) {
+    return getUuid(buffer);
+  }
+
+  public static int teamSize(Team team) {
+    int nameSize = utf8Size(team.name());
+    return UUID_SIZE + varIntSize(nameSize) + nameSize;
+  }
+
+  public static void encodeTeam(Team team, ByteBuffer buffer) {
+    putUuid(buffer, team.id());
+    putVarInt(buffer, utf8Size(team.name()));
+    putUtf8(buffer, team.name());
+  }
+
+  public static Team decodeTeam(ByteBuffer buffer) {
+    return new Team(getUuid(buffer), getUtf8(buffer, getVarInt(buffer)));
+  }
+
+  public static int matchSize(Match match) {
+    return UUID_SIZE + teamSize(match.homeTeam()) + teamSize(match.visitorTeam()) + scoresAndStartTimeSize(match);
+  }
+
+  public static void encodeMatch(Match match, ByteBuffer buffer) {
+    putUuid(buffer, match.id());
+    encodeTeam(match.homeTeam(), buffer);
+    encodeTeam(match.visitorTeam(), buffer);
+    putScoresAndStartTime(buffer, match);
+  }
+
+  public static Match decodeMatch(ByteBuffer buffer) {
+    UUID id = getUuid(buffer);
+    Team homeTeam = decodeTeam(buffer);
+    Team visitorTeam = decodeTeam(buffer);
+    return getScoresAndStartTime(buffer, id, homeTeam, visitorTeam);
+  }
+
+  public static int summarySize(List<Match> summary) {
+    Map<UUID, Integer> teamIndexes = new HashMap<>();
+    int size = 0;
+    for (Match match : summary) {
+      if (teamIndexes.putIfAbsent(match.homeTeam().id(), teamIndexes.size()) == null) {
+        size += teamSize(match.homeTeam());
+      }
+      if (teamIndexes.putIfAbsent(match.visitorTeam().id(), teamIndexes.size()) == null) {
+        size += teamSize(match.visitorTeam());
+      }
+      size += UUID_SIZE + varIntSize(teamIndexes.get(match.homeTeam().id()))
+          + varIntSize(teamIndexes.get(match.visitorTeam().id())) + scoresAndStartTimeSize(match);
+    }
+    return varIntSize(teamIndexes.size()) + varIntSize(summary.size()) + size;
+  }
+
+  /**
+   * @return a buffer of the exact size with the encoded summary, ready to be read
+   */
+  public static ByteBuffer encodeSummary(List<Match> summary) {
+    ByteBuffer buffer = ByteBuffer.allocate(summarySize(summary));
+    encodeSummary(summary, buffer);
+    return buffer.flip();
+  }
+
+  /**
+   * A team is identified by its id, the name of its first occurrence is written.
+   */
+  public static void encodeSummary(List<Match> summary, ByteBuffer buffer) {
+    Map<UUID, Integer> teamIndexes = new HashMap<>();
+    List<Team> teams = new ArrayList<>();
+    for (Match match : summary) {
+      if (teamIndexes.putIfAbsent(match.homeTeam().id(), teams.size()) == null) {
+        teams.add(match.homeTeam());
+      }
+      if (teamIndexes.putIfAbsent(match.visitorTeam().id(), teams.size()) == null) {
+        teams.add(match.visitorTeam());
+      }
+    }
+    putVarInt(buffer, teams.size());
+    for (Team team : teams) {
+      encodeTeam(team, buffer);
+    }
+    putVarInt(buffer, summary.size());
+    for (Match match : summary) {
+      putUuid(buffer, match.id());
+      putVarInt(buffer, teamIndexes.get(match.homeTeam().id()));
+      putVarInt(buffer, teamIndexes.get(match.visitorTeam().id()));
+      putScoresAndStartTime(buffer, match);
+    }
+  }
+
+  public static List<Match> decodeSummary(ByteBuffer buffer) {
+    Team[] teams = new Team[checkedCount(buffer, getVarInt(buffer))];
+    for (int i = 0; i < teams.length; i++) {
+      teams[i] = decodeTeam(buffer);
+    }
+    int matchCount = checkedCount(buffer, getVarInt(buffer));
+    List<Match> summary = new ArrayList<>(matchCount);
+    for (int i = 0; i < matchCount; i++) {
+      UUID id = getUuid(buffer);
+      Team homeTeam = team(teams, getVarInt(buffer));
+      Team visitorTeam = team(teams, getVarInt(buffer));
+      summary.add(getScoresAndStartTime(buffer, id, homeTeam, visitorTeam));
+    }
+    return List.copyOf(summary);
+  }
+
+  public static int eventSize(ScoreBoardEvent event) {
+    return 1 + matchSize(event.match());
+  }
+
+  public static void encodeEvent(ScoreBoardEvent event, ByteBuffer buffer) {
+    buffer.put(switch (event) {
+      case MatchStarted ignored -> MATCH_STARTED;
+      case ScoreUpdated ignored -> SCORE_UPDATED;
+      case MatchFinished ignored -> MATCH_FINISHED;
+    });
+    encodeMatch(event.match(), buffer);
+  }
+
+  public static ScoreBoardEvent decodeEvent(ByteBuffer buffer) {
+    byte type = buffer.get();
+    return switch (type) {
+      case MATCH_STARTED -> new MatchStarted(decodeMatch(buffer));
+      case SCORE_UPDATED -> new ScoreUpdated(decodeMatch(buffer));
+      case MATCH_FINISHED -> new MatchFinished(decodeMatch(buffer));
+      default -> throw new IllegalArgumentException("Unknown event type: " + type);
+    };
+  }
+
+  private static int scoresAndStartTimeSize(Match match) {
+    return varIntSize(match.homeTeamScore()) + varIntSize(match.visitorTeamScore())
+        + varLongSize(zigzag(match.startTime().getEpochSecond())) + varIntSize(match.startTime().getNano());
+  }
+
+  private static void putScoresAndStartTime(ByteBuffer buffer, Match match) {
+    putVarInt(buffer, match.homeTeamScore());
+    putVarInt(buffer, match.visitorTeamScore());
+    putVarLong(buffer, zigzag(match.startTime().getEpochSecond()));
+    putVarInt(buffer, match.startTime().getNano());
+  }
+
+  private static Match getScoresAndStartTime(ByteBuffer buffer, UUID id, Team homeTeam, Team visitorTeam) {
+    int homeTeamScore = getVarInt(buffer);
+    int visitorTeamScore = getVarInt(buffer);
+    long epochSecond = unzigzag(getVarLong(buffer));
+    int nanos = getVarInt(buffer);
+    return new Match(id, homeTeam, visitorTeam, homeTeamScore, visitorTeamScore,
+        Instant.ofEpochSecond(epochSecond, nanos));
+  }
+
+  private static Team team(Team[] teams, int index) {
+    if (index < 0 || index >= teams.length) {
+      throw new IllegalArgumentException("Unknown team index: " + index);
+    }
+    return teams[index];
+  }
+
+  /**
+   * Every entry takes at least one byte, so a count above the remaining bytes is malformed and is not allocated.
+   */
+  private static int checkedCount(ByteBuffer buffer, int count) {
+    if (count < 0 || count > buffer.remaining()) {
+      throw new IllegalArgumentException("Malformed count: " + Integer.toUnsignedString(count));
+    }
+    return count;
+  }
+
+  private static void putUuid(ByteBuffer buffer, UUID uuid) {
+    buffer.putLong(uuid.getMostSignificantBits());
+    buffer.putLong(uuid.getLeastSignificantBits());
+  }
+
+  private static UUID getUuid(ByteBuffer buffer) {
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+
+  static int varIntSize(int value) {
+    return varLongSize(Integer.toUnsignedLong(value));
+  }
+
+  static int varLongSize(long value) {
+    return Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 6) / 7);
+  }
+
+  static void putVarInt(ByteBuffer buffer, int value) {
+    putVarLong(buffer, Integer.toUnsignedLong(value));
+  }
+
+  static void putVarLong(ByteBuffer buffer, long value) {
+    while ((value & ~0x7FL) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  static int getVarInt(ByteBuffer buffer) {
+    long value = getVarLong(buffer);
+    if ((value >>> 32) != 0) {
+      throw new IllegalArgumentException("Malformed varint, the value doesn't fit into an int.");
+    }
+    return (int) value;
+  }
+
+  static long getVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.get();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint, it is longer than 10 bytes.");
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * @return the size of the name in UTF-8, an unpaired surrogate is encoded as {@code ?} like
+   * {@link String#getBytes(java.nio.charset.Charset)} does
+   */
+  private static int utf8Size(String value) {
+    int size = 0;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        size++;
+      } else if (c < 0x800) {
+        size += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        size += 4;
+        i++;
+      } else if (Character.isSurrogate(c)) {
+        size++;
+      } else {
+        size += 3;
+      }
+    }
+    return size;
+  }
+
+  private static void putUtf8(ByteBuffer buffer, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        buffer.put((byte) c);
+      } else if (c < 0x800) {
+        buffer.put((byte) (0xC0 | (c >> 6)));
+        buffer.put((byte) (0x80 | (c & 0x3F)));
+      } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buffer.put((byte) (0xF0 | (codePoint >> 18)));
+        buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+      } else if (Character.isSurrogate(c)) {
+        buffer.put((byte) '?');
+      } else {
+        buffer.put((byte) (0xE0 | (c >> 12)));
+        buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (c & 0x3F)));
+      }
+    }
+  }
+
+  /**
+   * A heap buffer is decoded in place, a direct buffer is copied to a byte array first.
+   */
+  private static String getUtf8(ByteBuffer buffer, int size) {
+    if (size < 0 || size > buffer.remaining()) {
+      throw new IllegalArgumentException("Malformed name length: " + Integer.toUnsignedString(size));
+    }
+    String value;
+    if (buffer.hasArray()) {
+      value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), size, StandardCharsets.UTF_8);
+      buffer.position(buffer.position() + size);
+    } else {
+      byte[] bytes = new byte[size];
+      buffer.get(bytes);
+      value = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return value;
+  }
+}
@@ -0,0 +1,93 @@
+package org.example.infrastructure.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue for many producers and one consumer. A producer claims a sequence with one atomic increment
+ * and publishes its element into the slot of the sequence, the consumer takes the slots in sequence order. A producer
+ * waits while the buffer is full, until the consumer {@link #close() stops}.
+ */
+public class MpscRingBuffer<E> {
+
+  private static final int SPINS_BEFORE_YIELD = 100;
+
+  private final AtomicReferenceArray<E> slots;
+  private final int mask;
+  private final AtomicLong producerSequence = new AtomicLong();
+  // written by the consumer only
+  private volatile long consumerSequence;
+  private volatile boolean closed;
+
+  /**
+   * @param capacity a power of two
+   */
+  public MpscRingBuffer(int capacity) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("capacity must be a power of two.");
+    }
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * @throws IllegalStateException if the consumer stopped, also when it stops while the producer waits for room
+   */
+  public void put(E element) {
+    if (element == null) {
+      throw new NullPointerException("element");
+    }
+    if (closed) {
+      throw new IllegalStateException("Ring buffer is closed.");
+    }
+    long sequence = producerSequence.getAndIncrement();
+    int spins = 0;
+    while (sequence - consumerSequence > mask) {
+      if (closed) {
+        throw new IllegalStateException("Ring buffer is closed.");
+      }
+      if (++spins < SPINS_BEFORE_YIELD) {
+        Thread.onSpinWait();
+      } else {
+        Thread.yield();
+      }
+    }
+    slots.set((int) sequence & mask, element);
+  }
+
+  /**
+   * Must be called by the consumer only.
+   *
+   * @return the next element, null if it is not published yet
+   */
+  public E poll() {
+    long sequence = consumerSequence;
+    int index = (int) sequence & mask;
+    E element = slots.get(index);
+    if (element == null) {
+      return null;
+    }
+    slots.lazySet(index, null);
+    consumerSequence = sequence + 1;
+    return element;
+  }
+
+  /**
+   * Must be called by the consumer only.
+   */
+  public boolean isEmpty() {
+    return slots.get((int) consumerSequence & mask) == null;
+  }
+
+  /**
+   * Must be called by the consumer when it stops taking the elements. The waiting and the later puts fail, the elements
+   * published before are not taken anymore.
+   */
+  public void close() {
+    closed = true;
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+}
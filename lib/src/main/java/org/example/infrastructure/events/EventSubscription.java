@@ -0,0 +1,212 @@
+package org.example.infrastructure.events;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.example.domain.BackpressureStrategy;
+import org.example.domain.ScoreBoardEvent;
+import org.example.domain.ScoreBoardEvent.ScoreUpdated;
+
+/**
+ * Bounded buffer of the events of one subscriber. The publishing threads only add to the buffer, the events are
+ * delivered by a drain loop on the {@link Executor}, one drain loop runs at a time.
+ */
+final class EventSubscription implements Flow.Subscription {
+
+  private final ScoreBoardEventPublisher publisher;
+  private final Flow.Subscriber<? super ScoreBoardEvent> subscriber;
+  private final BackpressureStrategy backpressureStrategy;
+  private final int bufferSize;
+  private final Executor executor;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notFull = lock.newCondition();
+  // guarded by the lock
+  private final ArrayDeque<PendingEvent> buffer = new ArrayDeque<>();
+  private final Map<UUID, PendingEvent> pendingScoreUpdates = new HashMap<>();
+
+  private final AtomicLong demand = new AtomicLong();
+  private final AtomicInteger drainRequests = new AtomicInteger();
+  private final LongAdder droppedEvents = new LongAdder();
+  private volatile boolean cancelled;
+  private volatile boolean completed;
+  private volatile boolean invalidRequest;
+  // accessed only by the drain loop
+  private boolean terminated;
+
+  EventSubscription(ScoreBoardEventPublisher publisher, Flow.Subscriber<? super ScoreBoardEvent> subscriber,
+      BackpressureStrategy backpressureStrategy, int bufferSize, Executor executor) {
+    this.publisher = publisher;
+    this.subscriber = subscriber;
+    this.backpressureStrategy = backpressureStrategy;
+    this.bufferSize = bufferSize;
+    this.executor = executor;
+  }
+
+  void offer(ScoreBoardEvent event) {
+    lock.lock();
+    try {
+      if (cancelled || completed) {
+        return;
+      }
+      boolean conflatable = backpressureStrategy == BackpressureStrategy.CONFLATE && event instanceof ScoreUpdated;
+      if (conflatable) {
+        PendingEvent pendingScoreUpdate = pendingScoreUpdates.get(event.match().id());
+        if (pendingScoreUpdate != null) {
+          pendingScoreUpdate.event = event;
+          return;
+        }
+      }
+      if (buffer.size() >= bufferSize) {
+        if (backpressureStrategy != BackpressureStrategy.BLOCK) {
+          droppedEvents.increment();
+          return;
+        }
+        while (buffer.size() >= bufferSize && !cancelled) {
+          notFull.awaitUninterruptibly();
+        }
+        if (cancelled) {
+          return;
+        }
+      }
+      var pendingEvent = new PendingEvent(event);
+      buffer.add(pendingEvent);
+      if (conflatable) {
+        pendingScoreUpdates.put(event.match().id(), pendingEvent);
+      }
+    } finally {
+      lock.unlock();
+    }
+    scheduleDrain();
+  }
+
+  void complete() {
+    completed = true;
+    scheduleDrain();
+  }
+
+  long droppedEvents() {
+    return droppedEvents.sum();
+  }
+
+  @Override
+  public void request(long n) {
+    if (n <= 0) {
+      invalidRequest = true;
+    } else {
+      demand.accumulateAndGet(n, (current, added) -> {
+        long sum = current + added;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+      });
+    }
+    scheduleDrain();
+  }
+
+  @Override
+  public void cancel() {
+    cancelled = true;
+    publisher.remove(this);
+    lock.lock();
+    try {
+      buffer.clear();
+      pendingScoreUpdates.clear();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void scheduleDrain() {
+    if (drainRequests.getAndIncrement() == 0) {
+      executor.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    int missed = 1;
+    do {
+      if (!terminated) {
+        deliver();
+      }
+      missed = drainRequests.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void deliver() {
+    if (invalidRequest) {
+      terminated = true;
+      cancel();
+      subscriber.onError(new IllegalArgumentException("The number of requested events must be positive."));
+      return;
+    }
+    long requested = demand.get();
+    long emitted = 0;
+    while (emitted != requested && !cancelled) {
+      ScoreBoardEvent event = poll();
+      if (event == null) {
+        break;
+      }
+      try {
+        subscriber.onNext(event);
+      } catch (RuntimeException e) {
+        terminated = true;
+        cancel();
+        return;
+      }
+      emitted++;
+    }
+    if (emitted > 0 && requested != Long.MAX_VALUE) {
+      demand.addAndGet(-emitted);
+    }
+    if (cancelled) {
+      terminated = true;
+    } else if (completed && isEmpty()) {
+      terminated = true;
+      publisher.remove(this);
+      subscriber.onComplete();
+    }
+  }
+
+  private ScoreBoardEvent poll() {
+    lock.lock();
+    try {
+      PendingEvent pendingEvent = buffer.poll();
+      if (pendingEvent == null) {
+        return null;
+      }
+      if (pendingEvent.event instanceof ScoreUpdated) {
+        pendingScoreUpdates.remove(pendingEvent.event.match().id(), pendingEvent);
+      }
+      notFull.signal();
+      return pendingEvent.event;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean isEmpty() {
+    lock.lock();
+    try {
+      return buffer.isEmpty();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static final class PendingEvent {
+
+    private ScoreBoardEvent event;
+
+    PendingEvent(ScoreBoardEvent event) {
+      this.event = event;
+    }
+  }
+}
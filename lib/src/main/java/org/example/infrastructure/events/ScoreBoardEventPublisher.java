@@ -0,0 +1,86 @@
+package org.example.infrastructure.events;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import org.example.domain.BackpressureStrategy;
+import org.example.domain.ScoreBoardEvent;
+
+/**
+ * Publishes the score board events to the subscribers. Every subscriber has its own bounded buffer and
+ * {@link BackpressureStrategy}, publishing an event only adds it to these buffers, the events are delivered on the
+ * {@link Executor}. Publishing without subscribers costs a single volatile read.
+ */
+public class ScoreBoardEventPublisher implements Flow.Publisher<ScoreBoardEvent>, AutoCloseable {
+
+  public static final int DEFAULT_BUFFER_SIZE = Flow.defaultBufferSize();
+
+  private final Executor executor;
+  private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+  private volatile boolean closed;
+
+  public ScoreBoardEventPublisher() {
+    this(Thread::startVirtualThread);
+  }
+
+  public ScoreBoardEventPublisher(Executor executor) {
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  /**
+   * Subscribes with the {@link BackpressureStrategy#CONFLATE} strategy and the default buffer size.
+   */
+  @Override
+  public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber) {
+    subscribe(subscriber, BackpressureStrategy.CONFLATE, DEFAULT_BUFFER_SIZE);
+  }
+
+  public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber,
+      BackpressureStrategy backpressureStrategy, int bufferSize) {
+    Objects.requireNonNull(subscriber);
+    Objects.requireNonNull(backpressureStrategy);
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize must be a positive number.");
+    }
+    var subscription = new EventSubscription(this, subscriber, backpressureStrategy, bufferSize, executor);
+    subscriber.onSubscribe(subscription);
+    subscriptions.add(subscription);
+    if (closed) {
+      subscription.complete();
+    }
+  }
+
+  public boolean hasSubscribers() {
+    return !subscriptions.isEmpty();
+  }
+
+  public void publish(ScoreBoardEvent event) {
+    for (EventSubscription subscription : subscriptions) {
+      subscription.offer(event);
+    }
+  }
+
+  /**
+   * @return the number of events dropped for the current subscribers because their buffers were full
+   */
+  public long droppedEvents() {
+    return subscriptions.stream().mapToLong(EventSubscription::droppedEvents).sum();
+  }
+
+  void remove(EventSubscription subscription) {
+    subscriptions.remove(subscription);
+  }
+
+  /**
+   * Completes the subscriptions after their buffered events are delivered.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (EventSubscription subscription : subscriptions) {
+      subscription.complete();
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package org.example.infrastructure.ingestion;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * @param batchSize         maximum number of updates applied in one batch, a batch is applied as soon as this many
+ *                          matches have pending updates
+ * @param flushInterval     maximum time an update waits for its batch
+ * @param maxPendingMatches number of matches with pending updates above which the submitters wait for the next batch
+ */
+public record IngestionConfig(int batchSize, Duration flushInterval, int maxPendingMatches) {
+
+  public IngestionConfig {
+    Objects.requireNonNull(flushInterval);
+    if (batchSize <= 0 || maxPendingMatches < batchSize) {
+      throw new IllegalArgumentException("batchSize must be positive and not greater than maxPendingMatches.");
+    }
+    if (flushInterval.isNegative() || flushInterval.isZero()) {
+      throw new IllegalArgumentException("flushInterval must be positive.");
+    }
+  }
+
+  public IngestionConfig() {
+    this(1024, Duration.ofMillis(5), 65_536);
+  }
+}
@@ -0,0 +1,20 @@
+package org.example.infrastructure.ingestion;
+
+/**
+ * @param submitted      updates received from the feeds and {@link ScoreUpdateIngestion#submit}
+ * @param coalesced      updates replaced by a later update of the same match before they were applied
+ * @param applied        updates applied to the score board
+ * @param stale          sequenced updates ignored by the score board, the match already had a newer one
+ * @param failed         updates rejected by the score board, or lost because the batch failed
+ * @param feedFailures   feeds that ended with an exception
+ * @param pendingMatches matches with an update waiting for the next batch
+ */
+public record IngestionStats(long submitted,
+                             long coalesced,
+                             long applied,
+                             long stale,
+                             long failed,
+                             long feedFailures,
+                             int pendingMatches) {
+
+}
@@ -0,0 +1,21 @@
+package org.example.infrastructure.ingestion;
+
+import java.io.IOException;
+import org.example.domain.ScoreUpdate;
+
+/**
+ * An upstream connection delivering absolute score updates. Every feed is read by its own virtual thread, so
+ * {@link #read()} may block.
+ */
+@FunctionalInterface
+public interface ScoreFeed extends AutoCloseable {
+
+  /**
+   * @return the next update, null if the feed has ended
+   */
+  ScoreUpdate read() throws Exception;
+
+  @Override
+  default void close() throws IOException {
+  }
+}
@@ -0,0 +1,230 @@
+package org.example.infrastructure.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.example.domain.MatchResult;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreUpdate;
+
+/**
+ * Ingests score updates from many feeds and applies them to the score board in batches. Only the latest update of a
+ * match is kept until the next batch, the scores are absolute so the earlier ones don't matter. Of two
+ * {@link ScoreUpdate#sequence() sequenced} updates the one with the greater sequence is kept, so redundant feeds can
+ * deliver the same updates in any order. The memory is bounded
+ * by the number of matches with pending updates: above {@link IngestionConfig#maxPendingMatches()} the submitters wait
+ * until the next batch is applied.
+ * <p>
+ * Every feed is read by its own virtual thread, one more virtual thread applies the batches through
+ * {@link ScoreBoardService#updateOngoingMatches}, so the events and the journal see the applied updates.
+ */
+public class ScoreUpdateIngestion implements AutoCloseable {
+
+  private final ScoreBoardService scoreBoardService;
+  private final IngestionConfig config;
+  private final ConcurrentHashMap<UUID, ScoreUpdate> pendingUpdates = new ConcurrentHashMap<>();
+  private final AtomicInteger pendingMatches = new AtomicInteger();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition batchReady = lock.newCondition();
+  private final Condition batchApplied = lock.newCondition();
+  private final Set<Thread> feedReaders = ConcurrentHashMap.newKeySet();
+  // the feeds not closed yet, the one that removes a feed closes it
+  private final Set<ScoreFeed> openFeeds = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger feedCount = new AtomicInteger();
+  private final LongAdder submitted = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder applied = new LongAdder();
+  private final LongAdder stale = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder feedFailures = new LongAdder();
+  private final Thread applier;
+  private volatile boolean closed;
+
+  public ScoreUpdateIngestion(ScoreBoardService scoreBoardService, IngestionConfig config) {
+    this.scoreBoardService = scoreBoardService;
+    this.config = config;
+    this.applier = Thread.ofVirtual().name("score-update-ingestion-applier").start(this::runApplier);
+  }
+
+  /**
+   * Starts reading the feed in a new virtual thread. The feed is closed when it ends or when the ingestion is closed.
+   */
+  public void addFeed(ScoreFeed feed) {
+    if (closed) {
+      throw new IllegalStateException("Ingestion is closed.");
+    }
+    Thread reader = Thread.ofVirtual().name("score-feed-" + feedCount.incrementAndGet()).unstarted(() -> {
+      try {
+        ScoreUpdate update;
+        while (!closed && (update = feed.read()) != null) {
+          submit(update);
+        }
+      } catch (InterruptedException e) {
+        // the ingestion is closed
+      } catch (Exception e) {
+        // a read fails when the ingestion closes the feed
+        if (!closed) {
+          feedFailures.increment();
+        }
+      } finally {
+        closeFeed(feed);
+        feedReaders.remove(Thread.currentThread());
+      }
+    });
+    openFeeds.add(feed);
+    feedReaders.add(reader);
+    reader.start();
+  }
+
+  /**
+   * Replaces the pending update of the match, unless both are sequenced and the pending one is newer. Waits if too many
+   * matches have pending updates.
+   */
+  public void submit(ScoreUpdate update) throws InterruptedException {
+    if (closed) {
+      throw new IllegalStateException("Ingestion is closed.");
+    }
+    submitted.increment();
+    var added = new boolean[1];
+    pendingUpdates.compute(update.matchUuid(), (matchUuid, pendingUpdate) -> {
+      if (pendingUpdate == null) {
+        added[0] = true;
+        return update;
+      }
+      return isNewer(pendingUpdate, update) ? pendingUpdate : update;
+    });
+    if (!added[0]) {
+      coalesced.increment();
+      return;
+    }
+    int pending = pendingMatches.incrementAndGet();
+    if (pending == config.batchSize()) {
+      signal(batchReady);
+    }
+    if (pending > config.maxPendingMatches()) {
+      awaitBatch();
+    }
+  }
+
+  public IngestionStats stats() {
+    return new IngestionStats(submitted.sum(), coalesced.sum(), applied.sum(), stale.sum(), failed.sum(),
+        feedFailures.sum(), pendingMatches.get());
+  }
+
+  /**
+   * Closes the feeds, so the readers blocked in {@link ScoreFeed#read()} return, then applies the pending updates.
+   * Updates submitted concurrently with the close may be dropped.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (ScoreFeed feed : openFeeds) {
+      closeFeed(feed);
+    }
+    try {
+      for (Thread reader : feedReaders) {
+        reader.interrupt();
+      }
+      for (Thread reader : feedReaders) {
+        reader.join();
+      }
+      signal(batchReady);
+      signal(batchApplied);
+      applier.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void runApplier() {
+    long flushIntervalNanos = config.flushInterval().toNanos();
+    while (!closed || pendingMatches.get() > 0) {
+      lock.lock();
+      try {
+        if (!closed && pendingMatches.get() < config.batchSize()) {
+          batchReady.awaitNanos(flushIntervalNanos);
+        }
+      } catch (InterruptedException e) {
+        // the pending updates are still applied before the applier stops
+      } finally {
+        lock.unlock();
+      }
+      applyPendingUpdates();
+    }
+  }
+
+  private void applyPendingUpdates() {
+    List<ScoreUpdate> batch = new ArrayList<>(config.batchSize());
+    for (UUID matchUuid : pendingUpdates.keySet()) {
+      ScoreUpdate update = pendingUpdates.remove(matchUuid);
+      if (update == null) {
+        continue;
+      }
+      pendingMatches.decrementAndGet();
+      batch.add(update);
+      if (batch.size() == config.batchSize()) {
+        apply(batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      apply(batch);
+    }
+    signal(batchApplied);
+  }
+
+  private void apply(List<ScoreUpdate> batch) {
+    try {
+      for (MatchResult result : scoreBoardService.updateOngoingMatches(List.copyOf(batch))) {
+        switch (result.status()) {
+          case SUCCESS -> applied.increment();
+          case STALE -> stale.increment();
+          default -> failed.increment();
+        }
+      }
+    } catch (RuntimeException e) {
+      failed.add(batch.size());
+    }
+  }
+
+  private void closeFeed(ScoreFeed feed) {
+    if (!openFeeds.remove(feed)) {
+      return;
+    }
+    try {
+      feed.close();
+    } catch (Exception e) {
+      feedFailures.increment();
+    }
+  }
+
+  private static boolean isNewer(ScoreUpdate update, ScoreUpdate other) {
+    return update.isSequenced() && other.isSequenced() && update.sequence() > other.sequence();
+  }
+
+  private void awaitBatch() throws InterruptedException {
+    lock.lock();
+    try {
+      while (!closed && pendingMatches.get() > config.maxPendingMatches()) {
+        batchApplied.await();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void signal(Condition condition) {
+    lock.lock();
+    try {
+      condition.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
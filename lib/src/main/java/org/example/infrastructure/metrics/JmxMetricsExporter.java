@@ -0,0 +1,51 @@
+package org.example.infrastructure.metrics;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registers an {@link OperationMetricsMXBean} for every operation under
+ * {@code org.example:type=ScoreBoard,name=<name>,operation=<operation>}. The operations have to be created before the
+ * export, {@link MetricsScoreBoardService} creates all of them in its constructor.
+ */
+public class JmxMetricsExporter implements AutoCloseable {
+
+  private final MBeanServer server;
+  private final List<ObjectName> names = new ArrayList<>();
+
+  public JmxMetricsExporter(ScoreBoardMetrics metrics, MBeanServer server, String name) {
+    this.server = server;
+    try {
+      for (var operation : metrics.operations().entrySet()) {
+        ObjectName objectName = new ObjectName("org.example", new Hashtable<>(Map.of("type", "ScoreBoard",
+            "name", ObjectName.quote(name), "operation", operation.getKey())));
+        server.registerMBean(operation.getValue(), objectName);
+        names.add(objectName);
+      }
+    } catch (JMException e) {
+      unregister();
+      throw new IllegalStateException("Metrics cannot be registered: " + name, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    unregister();
+  }
+
+  private void unregister() {
+    for (ObjectName objectName : names) {
+      try {
+        server.unregisterMBean(objectName);
+      } catch (JMException e) {
+        // already unregistered
+      }
+    }
+    names.clear();
+  }
+}
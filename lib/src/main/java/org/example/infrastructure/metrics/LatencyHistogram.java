@@ -0,0 +1,125 @@
+package org.example.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram of nanosecond latencies: every power of two is split into 16 buckets, so a percentile is
+ * reported with at most 6.25% error. Recording is allocation-free and doesn't lock.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts.incrementAndGet(bucket(value));
+    totalNanos.add(value);
+    maxNanos.accumulate(value);
+  }
+
+  public LatencySnapshot snapshot() {
+    long[] snapshot = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      count += snapshot[i];
+    }
+    long max = maxNanos.get();
+    double mean = count == 0 ? 0 : (double) totalNanos.sum() / count;
+    return new LatencySnapshot(count, mean, percentile(snapshot, count, 0.5, max),
+        percentile(snapshot, count, 0.9, max), percentile(snapshot, count, 0.99, max),
+        percentile(snapshot, count, 0.999, max), max);
+  }
+
+  public long count() {
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      count += counts.get(i);
+    }
+    return count;
+  }
+
+  public double mean() {
+    long count = count();
+    return count == 0 ? 0 : (double) totalNanos.sum() / count;
+  }
+
+  public long max() {
+    return maxNanos.get();
+  }
+
+  /**
+   * Reads one percentile from the live counts without copying them. The values recorded meanwhile may be included,
+   * {@link #snapshot()} reads all the percentiles from the same counts.
+   *
+   * @param percentile in {@code (0, 1]}
+   */
+  public long percentile(double percentile) {
+    if (!(percentile > 0 && percentile <= 1)) {
+      throw new IllegalArgumentException("percentile must be in (0, 1].");
+    }
+    long max = maxNanos.get();
+    long count = count();
+    if (count == 0) {
+      return 0;
+    }
+    long rank = rank(percentile, count);
+    long seen = 0;
+    // the counts only grow, so the rank is reached
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(upperBound(i), max);
+      }
+    }
+    return max;
+  }
+
+  static int bucket(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  /**
+   * @return the highest value that is recorded into the bucket
+   */
+  static long upperBound(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowerBound + (1L << shift) - 1;
+  }
+
+  private static long percentile(long[] counts, long count, double percentile, long max) {
+    if (count == 0) {
+      return 0;
+    }
+    long rank = rank(percentile, count);
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(upperBound(i), max);
+      }
+    }
+    return max;
+  }
+
+  private static long rank(double percentile, long count) {
+    return Math.max(1, (long) Math.ceil(percentile * count));
+  }
+}
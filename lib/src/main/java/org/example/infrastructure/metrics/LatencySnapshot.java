@@ -0,0 +1,14 @@
+package org.example.infrastructure.metrics;
+
+/**
+ * Latencies recorded by a {@link LatencyHistogram}, all in nanoseconds.
+ */
+public record LatencySnapshot(long count,
+                              double mean,
+                              long p50,
+                              long p90,
+                              long p99,
+                              long p999,
+                              long max) {
+
+}
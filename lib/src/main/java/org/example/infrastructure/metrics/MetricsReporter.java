@@ -0,0 +1,12 @@
+package org.example.infrastructure.metrics;
+
+import java.util.Map;
+
+/**
+ * Receives the snapshots of the operations from {@link ScheduledMetricsReporting}.
+ */
+@FunctionalInterface
+public interface MetricsReporter {
+
+  void report(Map<String, OperationSnapshot> snapshot);
+}
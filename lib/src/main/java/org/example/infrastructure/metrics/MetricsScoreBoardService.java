@@ -0,0 +1,301 @@
+package org.example.infrastructure.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+import org.example.domain.BackpressureStrategy;
+import org.example.domain.Match;
+import org.example.domain.MatchResult;
+import org.example.domain.NewMatch;
+import org.example.domain.ScoreBoardEvent;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.SummaryCursor;
+import org.example.domain.SummaryPage;
+
+/**
+ * Records the latency and the failures of every operation of the delegate into {@link ScoreBoardMetrics}. The failed
+ * calls are part of the latencies. The stream of the summary is timed until it is returned, not until it is consumed.
+ */
+public class MetricsScoreBoardService implements ScoreBoardService {
+
+  private final ScoreBoardService delegate;
+  private final OperationMetrics startNewMatch;
+  private final OperationMetrics updateOngoingMatch;
+  private final OperationMetrics updateOngoingMatchScore;
+  private final OperationMetrics finishMatch;
+  private final OperationMetrics startNewMatches;
+  private final OperationMetrics updateOngoingMatches;
+  private final OperationMetrics finishMatches;
+  private final OperationMetrics getFinishedMatchSummary;
+  private final OperationMetrics getTopFinishedMatches;
+  private final OperationMetrics getFinishedMatchSummaryPage;
+  private final OperationMetrics streamFinishedMatchSummary;
+  private final OperationMetrics writeFinishedMatchSummary;
+  private final OperationMetrics countOfOngoingMatches;
+  private final OperationMetrics getOngoingMatchSummary;
+
+  public MetricsScoreBoardService(ScoreBoardService delegate, ScoreBoardMetrics metrics) {
+    this.delegate = delegate;
+    this.startNewMatch = metrics.operation("startNewMatch");
+    this.updateOngoingMatch = metrics.operation("updateOngoingMatch");
+    this.updateOngoingMatchScore = metrics.operation("updateOngoingMatchScore");
+    this.finishMatch = metrics.operation("finishMatch");
+    this.startNewMatches = metrics.operation("startNewMatches");
+    this.updateOngoingMatches = metrics.operation("updateOngoingMatches");
+    this.finishMatches = metrics.operation("finishMatches");
+    this.getFinishedMatchSummary = metrics.operation("getFinishedMatchSummary");
+    this.getTopFinishedMatches = metrics.operation("getTopFinishedMatches");
+    this.getFinishedMatchSummaryPage = metrics.operation("getFinishedMatchSummaryPage");
+    this.streamFinishedMatchSummary = metrics.operation("streamFinishedMatchSummary");
+    this.writeFinishedMatchSummary = metrics.operation("writeFinishedMatchSummary");
+    this.countOfOngoingMatches = metrics.operation("countOfOngoingMatches");
+    this.getOngoingMatchSummary = metrics.operation("getOngoingMatchSummary");
+  }
+
+  @Override
+  public Match startNewMatch(UUID homeTeamUuid, UUID visitorTeamUuid, Instant startTime) {
+    long start = System.nanoTime();
+    try {
+      return delegate.startNewMatch(homeTeamUuid, visitorTeamUuid, startTime);
+    } catch (RuntimeException e) {
+      startNewMatch.recordFailure(e);
+      throw e;
+    } finally {
+      startNewMatch.recordSince(start);
+    }
+  }
+
+  @Override
+  public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    long start = System.nanoTime();
+    try {
+      return delegate.updateOngoingMatch(matchUuid, homeTeamScore, visitorTeamScore);
+    } catch (RuntimeException e) {
+      updateOngoingMatch.recordFailure(e);
+      throw e;
+    } finally {
+      updateOngoingMatch.recordSince(start);
+    }
+  }
+
+  @Override
+  public void updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    long start = System.nanoTime();
+    try {
+      delegate.updateOngoingMatchScore(matchUuid, homeTeamScore, visitorTeamScore);
+    } catch (RuntimeException e) {
+      updateOngoingMatchScore.recordFailure(e);
+      throw e;
+    } finally {
+      updateOngoingMatchScore.recordSince(start);
+    }
+  }
+
+  @Override
+  public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    long start = System.nanoTime();
+    try {
+      Match updatedMatch = delegate.updateOngoingMatch(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+      if (updatedMatch == null) {
+        updateOngoingMatch.recordStale();
+      }
+      return updatedMatch;
+    } catch (RuntimeException e) {
+      updateOngoingMatch.recordFailure(e);
+      throw e;
+    } finally {
+      updateOngoingMatch.recordSince(start);
+    }
+  }
+
+  @Override
+  public boolean updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    long start = System.nanoTime();
+    try {
+      boolean updated = delegate.updateOngoingMatchScore(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+      if (!updated) {
+        updateOngoingMatchScore.recordStale();
+      }
+      return updated;
+    } catch (RuntimeException e) {
+      updateOngoingMatchScore.recordFailure(e);
+      throw e;
+    } finally {
+      updateOngoingMatchScore.recordSince(start);
+    }
+  }
+
+  @Override
+  public void finishMatch(UUID matchUuid) {
+    long start = System.nanoTime();
+    try {
+      delegate.finishMatch(matchUuid);
+    } catch (RuntimeException e) {
+      finishMatch.recordFailure(e);
+      throw e;
+    } finally {
+      finishMatch.recordSince(start);
+    }
+  }
+
+  @Override
+  public List<MatchResult> startNewMatches(List<NewMatch> newMatches) {
+    long start = System.nanoTime();
+    try {
+      List<MatchResult> results = delegate.startNewMatches(newMatches);
+      startNewMatches.recordResults(results);
+      return results;
+    } catch (RuntimeException e) {
+      startNewMatches.recordFailure(e);
+      throw e;
+    } finally {
+      startNewMatches.recordSince(start);
+    }
+  }
+
+  @Override
+  public List<MatchResult> updateOngoingMatches(List<ScoreUpdate> updates) {
+    long start = System.nanoTime();
+    try {
+      List<MatchResult> results = delegate.updateOngoingMatches(updates);
+      updateOngoingMatches.recordResults(results);
+      return results;
+    } catch (RuntimeException e) {
+      updateOngoingMatches.recordFailure(e);
+      throw e;
+    } finally {
+      updateOngoingMatches.recordSince(start);
+    }
+  }
+
+  @Override
+  public List<MatchResult> finishMatches(List<UUID> matchUuids) {
+    long start = System.nanoTime();
+    try {
+      List<MatchResult> results = delegate.finishMatches(matchUuids);
+      finishMatches.recordResults(results);
+      return results;
+    } catch (RuntimeException e) {
+      finishMatches.recordFailure(e);
+      throw e;
+    } finally {
+      finishMatches.recordSince(start);
+    }
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber,
+      BackpressureStrategy backpressureStrategy, int bufferSize) {
+    delegate.subscribe(subscriber, backpressureStrategy, bufferSize);
+  }
+
+  @Override
+  public List<Match> getFinishedMatchSummary() {
+    long start = System.nanoTime();
+    try {
+      return delegate.getFinishedMatchSummary();
+    } catch (RuntimeException e) {
+      getFinishedMatchSummary.recordFailure(e);
+      throw e;
+    } finally {
+      getFinishedMatchSummary.recordSince(start);
+    }
+  }
+
+  @Override
+  public List<Match> getTopFinishedMatches(int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.getTopFinishedMatches(limit);
+    } catch (RuntimeException e) {
+      getTopFinishedMatches.recordFailure(e);
+      throw e;
+    } finally {
+      getTopFinishedMatches.recordSince(start);
+    }
+  }
+
+  @Override
+  public SummaryPage getFinishedMatchSummaryPage(SummaryCursor cursor, int limit) {
+    long start = System.nanoTime();
+    try {
+      return delegate.getFinishedMatchSummaryPage(cursor, limit);
+    } catch (RuntimeException e) {
+      getFinishedMatchSummaryPage.recordFailure(e);
+      throw e;
+    } finally {
+      getFinishedMatchSummaryPage.recordSince(start);
+    }
+  }
+
+  @Override
+  public Stream<Match> streamFinishedMatchSummary() {
+    long start = System.nanoTime();
+    try {
+      return delegate.streamFinishedMatchSummary();
+    } catch (RuntimeException e) {
+      streamFinishedMatchSummary.recordFailure(e);
+      throw e;
+    } finally {
+      streamFinishedMatchSummary.recordSince(start);
+    }
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(WritableByteChannel channel) throws IOException {
+    long start = System.nanoTime();
+    try {
+      delegate.writeFinishedMatchSummary(channel);
+    } catch (IOException | RuntimeException e) {
+      writeFinishedMatchSummary.recordFailure(e);
+      throw e;
+    } finally {
+      writeFinishedMatchSummary.recordSince(start);
+    }
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(OutputStream outputStream) throws IOException {
+    long start = System.nanoTime();
+    try {
+      delegate.writeFinishedMatchSummary(outputStream);
+    } catch (IOException | RuntimeException e) {
+      writeFinishedMatchSummary.recordFailure(e);
+      throw e;
+    } finally {
+      writeFinishedMatchSummary.recordSince(start);
+    }
+  }
+
+  @Override
+  public long countOfOngoingMatches() {
+    long start = System.nanoTime();
+    try {
+      return delegate.countOfOngoingMatches();
+    } catch (RuntimeException e) {
+      countOfOngoingMatches.recordFailure(e);
+      throw e;
+    } finally {
+      countOfOngoingMatches.recordSince(start);
+    }
+  }
+
+  @Override
+  public List<Match> getOngoingMatchSummary() {
+    long start = System.nanoTime();
+    try {
+      return delegate.getOngoingMatchSummary();
+    } catch (RuntimeException e) {
+      getOngoingMatchSummary.recordFailure(e);
+      throw e;
+    } finally {
+      getOngoingMatchSummary.recordSince(start);
+    }
+  }
+}
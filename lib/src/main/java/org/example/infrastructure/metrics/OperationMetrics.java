@@ -0,0 +1,122 @@
+package org.example.infrastructure.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.example.domain.MatchResult;
+import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
+
+/**
+ * Latency histogram and failure counters of one score board operation. The MXBean getters read their value from the
+ * live histogram without taking a snapshot of it, {@link #snapshot()} reads all the values at once.
+ */
+public class OperationMetrics implements OperationMetricsMXBean {
+
+  private final LatencyHistogram latency = new LatencyHistogram();
+  private final LongAdder notFound = new LongAdder();
+  private final LongAdder alreadyExists = new LongAdder();
+  private final LongAdder invalid = new LongAdder();
+  private final LongAdder stale = new LongAdder();
+  private final LongAdder otherFailures = new LongAdder();
+
+  /**
+   * Records the latency of a call started at {@code startNanos} ({@link System#nanoTime()}).
+   */
+  public void recordSince(long startNanos) {
+    latency.record(System.nanoTime() - startNanos);
+  }
+
+  public void recordFailure(Exception exception) {
+    switch (exception) {
+      case NotFoundException ignored -> notFound.increment();
+      case AlreadyExistsException ignored -> alreadyExists.increment();
+      case IllegalArgumentException ignored -> invalid.increment();
+      default -> otherFailures.increment();
+    }
+  }
+
+  /**
+   * Records an update that was ignored because of its sequence.
+   */
+  public void recordStale() {
+    stale.increment();
+  }
+
+  public void recordResults(List<MatchResult> results) {
+    for (MatchResult result : results) {
+      switch (result.status()) {
+        case SUCCESS -> {
+        }
+        case NOT_FOUND -> notFound.increment();
+        case ALREADY_EXISTS -> alreadyExists.increment();
+        case INVALID -> invalid.increment();
+        case STALE -> stale.increment();
+      }
+    }
+  }
+
+  public OperationSnapshot snapshot() {
+    return new OperationSnapshot(notFound.sum(), alreadyExists.sum(), invalid.sum(), stale.sum(), otherFailures.sum(),
+        latency.snapshot());
+  }
+
+  @Override
+  public long getCount() {
+    return latency.count();
+  }
+
+  @Override
+  public long getNotFoundCount() {
+    return notFound.sum();
+  }
+
+  @Override
+  public long getAlreadyExistsCount() {
+    return alreadyExists.sum();
+  }
+
+  @Override
+  public long getInvalidCount() {
+    return invalid.sum();
+  }
+
+  @Override
+  public long getStaleCount() {
+    return stale.sum();
+  }
+
+  @Override
+  public long getOtherFailureCount() {
+    return otherFailures.sum();
+  }
+
+  @Override
+  public double getMeanNanos() {
+    return latency.mean();
+  }
+
+  @Override
+  public long getP50Nanos() {
+    return latency.percentile(0.5);
+  }
+
+  @Override
+  public long getP90Nanos() {
+    return latency.percentile(0.9);
+  }
+
+  @Override
+  public long getP99Nanos() {
+    return latency.percentile(0.99);
+  }
+
+  @Override
+  public long getP999Nanos() {
+    return latency.percentile(0.999);
+  }
+
+  @Override
+  public long getMaxNanos() {
+    return latency.max();
+  }
+}
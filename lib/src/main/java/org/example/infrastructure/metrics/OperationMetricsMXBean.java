@@ -0,0 +1,28 @@
+package org.example.infrastructure.metrics;
+
+public interface OperationMetricsMXBean {
+
+  long getCount();
+
+  long getNotFoundCount();
+
+  long getAlreadyExistsCount();
+
+  long getInvalidCount();
+
+  long getStaleCount();
+
+  long getOtherFailureCount();
+
+  double getMeanNanos();
+
+  long getP50Nanos();
+
+  long getP90Nanos();
+
+  long getP99Nanos();
+
+  long getP999Nanos();
+
+  long getMaxNanos();
+}
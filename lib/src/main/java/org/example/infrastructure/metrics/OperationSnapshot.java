@@ -0,0 +1,18 @@
+package org.example.infrastructure.metrics;
+
+/**
+ * Counters and latencies of one operation. The failures of the batch operations are counted per item.
+ *
+ * @param stale the updates ignored because the match was already updated with the same or a newer sequence
+ */
+public record OperationSnapshot(long notFound,
+                                long alreadyExists,
+                                long invalid,
+                                long stale,
+                                long otherFailures,
+                                LatencySnapshot latency) {
+
+  public long count() {
+    return latency.count();
+  }
+}
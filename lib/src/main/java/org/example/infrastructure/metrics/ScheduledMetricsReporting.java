@@ -0,0 +1,50 @@
+package org.example.infrastructure.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passes the snapshot of the metrics to a {@link MetricsReporter} at a fixed interval.
+ */
+public class ScheduledMetricsReporting implements AutoCloseable {
+
+  private final ScoreBoardMetrics metrics;
+  private final MetricsReporter reporter;
+  private final ScheduledExecutorService scheduler;
+
+  public ScheduledMetricsReporting(ScoreBoardMetrics metrics, MetricsReporter reporter, Duration interval) {
+    if (interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException("interval must be positive.");
+    }
+    this.metrics = metrics;
+    this.reporter = reporter;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().daemon().name("score-board-metrics-reporter").factory());
+    long intervalMillis = interval.toMillis();
+    scheduler.scheduleAtFixedRate(this::report, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void report() {
+    try {
+      reporter.report(metrics.snapshot());
+    } catch (RuntimeException e) {
+      // a failing reporter doesn't stop the next reports
+    }
+  }
+
+  /**
+   * Stops the reporting after a last report.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    report();
+  }
+}
@@ -0,0 +1,30 @@
+package org.example.infrastructure.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The metrics of the operations by operation name.
+ */
+public class ScoreBoardMetrics {
+
+  private final ConcurrentHashMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+  public OperationMetrics operation(String name) {
+    return operations.computeIfAbsent(name, ignored -> new OperationMetrics());
+  }
+
+  Map<String, OperationMetrics> operations() {
+    return Map.copyOf(operations);
+  }
+
+  /**
+   * @return the snapshots of the operations ordered by name
+   */
+  public Map<String, OperationSnapshot> snapshot() {
+    Map<String, OperationSnapshot> snapshot = new TreeMap<>();
+    operations.forEach((name, metrics) -> snapshot.put(name, metrics.snapshot()));
+    return snapshot;
+  }
+}
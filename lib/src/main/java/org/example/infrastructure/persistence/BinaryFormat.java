@@ -0,0 +1,79 @@
+package org.example.infrastructure.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.Team;
+
+/**
+ * Binary layout of the teams and matches in the journal and in the snapshots.
+ */
+final class BinaryFormat {
+
+  static final int UUID_SIZE = 16;
+  static final int SCORES_SIZE = 2 * Integer.BYTES;
+  static final int START_TIME_SIZE = Long.BYTES + Integer.BYTES;
+
+  private BinaryFormat() {
+  }
+
+  static byte[] encodeName(Team team) {
+    byte[] name = team.name().getBytes(StandardCharsets.UTF_8);
+    if (name.length > 0xFFFF) {
+      throw new IllegalArgumentException("Team name is too long: " + team.name());
+    }
+    return name;
+  }
+
+  static int teamSize(byte[] encodedName) {
+    return UUID_SIZE + Short.BYTES + encodedName.length;
+  }
+
+  static int matchSize(byte[] encodedHomeTeamName, byte[] encodedVisitorTeamName) {
+    return UUID_SIZE + teamSize(encodedHomeTeamName) + teamSize(encodedVisitorTeamName) + SCORES_SIZE + START_TIME_SIZE;
+  }
+
+  static void putUuid(ByteBuffer buffer, UUID uuid) {
+    buffer.putLong(uuid.getMostSignificantBits());
+    buffer.putLong(uuid.getLeastSignificantBits());
+  }
+
+  static UUID getUuid(ByteBuffer buffer) {
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+
+  static void putTeam(ByteBuffer buffer, Team team, byte[] encodedName) {
+    putUuid(buffer, team.id());
+    buffer.putShort((short) encodedName.length);
+    buffer.put(encodedName);
+  }
+
+  static Team getTeam(ByteBuffer buffer) {
+    UUID id = getUuid(buffer);
+    byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+    buffer.get(name);
+    return new Team(id, new String(name, StandardCharsets.UTF_8));
+  }
+
+  static void putMatch(ByteBuffer buffer, Match match, byte[] encodedHomeTeamName, byte[] encodedVisitorTeamName) {
+    putUuid(buffer, match.id());
+    putTeam(buffer, match.homeTeam(), encodedHomeTeamName);
+    putTeam(buffer, match.visitorTeam(), encodedVisitorTeamName);
+    buffer.putInt(match.homeTeamScore());
+    buffer.putInt(match.visitorTeamScore());
+    buffer.putLong(match.startTime().getEpochSecond());
+    buffer.putInt(match.startTime().getNano());
+  }
+
+  static Match getMatch(ByteBuffer buffer) {
+    UUID id = getUuid(buffer);
+    Team homeTeam = getTeam(buffer);
+    Team visitorTeam = getTeam(buffer);
+    int homeTeamScore = buffer.getInt();
+    int visitorTeamScore = buffer.getInt();
+    Instant startTime = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+    return new Match(id, homeTeam, visitorTeam, homeTeamScore, visitorTeamScore, startTime);
+  }
+}
@@ -0,0 +1,28 @@
+package org.example.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Forces the entries of a directory to the storage device. A created or renamed file survives a crash only once the
+ * entry in its directory is forced, forcing the file itself doesn't write the entry. Windows cannot open a directory as
+ * a channel, the directory is not forced there.
+ */
+final class DirectorySync {
+
+  private static final boolean SUPPORTED = !System.getProperty("os.name", "").startsWith("Windows");
+
+  private DirectorySync() {
+  }
+
+  static void force(Path directory) throws IOException {
+    if (!SUPPORTED) {
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    }
+  }
+}
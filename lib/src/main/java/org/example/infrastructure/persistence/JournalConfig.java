@@ -0,0 +1,41 @@
+package org.example.infrastructure.persistence;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * @param directory        directory of the journal segments and snapshots, created if it doesn't exist
+ * @param flushInterval    how often the buffered records are written to the file as one group commit when no writer
+ *                         waits for its commit, a waiting writer starts the next commit right away
+ * @param fsync            whether every group commit is forced to the storage device
+ * @param bufferSize       initial size of the record buffers, a full buffer is written without waiting for the flush
+ *                         interval while the appenders wait for room
+ * @param snapshotInterval how often a snapshot is taken in the background, {@link Duration#ZERO} turns the periodic
+ *                         snapshots off
+ */
+public record JournalConfig(Path directory, Duration flushInterval, boolean fsync, int bufferSize,
+                            Duration snapshotInterval) {
+
+  public JournalConfig {
+    Objects.requireNonNull(directory);
+    Objects.requireNonNull(flushInterval);
+    Objects.requireNonNull(snapshotInterval);
+
+    if (flushInterval.isNegative() || flushInterval.isZero()) {
+      throw new IllegalArgumentException("flushInterval must be a positive duration.");
+    }
+
+    if (bufferSize < 1024) {
+      throw new IllegalArgumentException("bufferSize must be at least 1024 bytes.");
+    }
+
+    if (snapshotInterval.isNegative()) {
+      throw new IllegalArgumentException("snapshotInterval must be 0 or a positive duration.");
+    }
+  }
+
+  public JournalConfig(Path directory) {
+    this(directory, Duration.ofMillis(10), true, 1 << 20, Duration.ofMinutes(1));
+  }
+}
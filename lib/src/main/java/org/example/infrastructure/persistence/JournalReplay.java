@@ -0,0 +1,235 @@
+package org.example.infrastructure.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import org.example.domain.Match;
+import org.example.domain.Team;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.FinishedMatchStorage;
+import org.example.infrastructure.OngoingMatchStorage;
+import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
+
+/**
+ * Replays the journal segments into the storages and completes the operations that a crash interrupted between their
+ * records. Starting a match appends {@code TEAM_PAIR_TAKEN} and {@code MATCH_STARTED}, finishing one appends
+ * {@code MATCH_FINISHED}, {@code FINISHED_MATCH_ADDED} and a {@code TEAM_PUT} per team. The replay keeps the operations
+ * whose last record is missing: the teams of a match that was never started are put back, a finished match that was
+ * not added yet is added and its teams are put back. The repairs have to be appended to the journal, so the next replay
+ * ends in the same state.
+ * <p>
+ * The segment before the snapshot's segment is only tracked, the snapshot already contains its records, but it may
+ * have been copied between the records of an operation.
+ */
+final class JournalReplay {
+
+  private final AvailableTeamStorage availableTeamStorage;
+  private final OngoingMatchStorage ongoingMatchStorage;
+  private final FinishedMatchStorage finishedMatchStorage;
+  private final Set<UUID> finishedMatchIds;
+  // teams taken for a match that was not started yet
+  private final Map<UUID, Team> takenTeams = new LinkedHashMap<>();
+  // matches finished but not added to the finished matches yet
+  private final Map<UUID, Match> finishedMatches = new LinkedHashMap<>();
+  // teams of the finished matches that were not put back yet
+  private final Map<UUID, Team> finishedTeams = new LinkedHashMap<>();
+
+  /**
+   * @param finishedMatchIds ids of the finished matches in the snapshot, their records are skipped
+   */
+  JournalReplay(AvailableTeamStorage availableTeamStorage, OngoingMatchStorage ongoingMatchStorage,
+      FinishedMatchStorage finishedMatchStorage, Set<UUID> finishedMatchIds) {
+    this.availableTeamStorage = availableTeamStorage;
+    this.ongoingMatchStorage = ongoingMatchStorage;
+    this.finishedMatchStorage = finishedMatchStorage;
+    this.finishedMatchIds = finishedMatchIds;
+  }
+
+  /**
+   * @param apply        whether the records are applied to the storages or only tracked
+   * @param mayBeApplied whether the storages may already contain the effect of the records, only then a record that
+   *                     cannot be applied because of it is skipped
+   * @return the position after the last complete record
+   */
+  long replay(FileChannel channel, boolean apply, boolean mayBeApplied) throws IOException {
+    channel.position(0);
+    var input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+    var checksum = new CRC32C();
+    byte[] record = new byte[256];
+    long validLength = 0;
+    while (true) {
+      int payloadLength;
+      try {
+        payloadLength = input.readInt();
+        if (payloadLength < 0 || payloadLength > channel.size()) {
+          return validLength;
+        }
+        int recordLength = 1 + payloadLength + ScoreBoardJournal.CRC_SIZE;
+        if (record.length < recordLength) {
+          record = new byte[Math.max(recordLength, record.length * 2)];
+        }
+        input.readFully(record, 0, recordLength);
+      } catch (EOFException e) {
+        return validLength;
+      }
+      checksum.reset();
+      checksum.update(record, 0, 1 + payloadLength);
+      ByteBuffer buffer = ByteBuffer.wrap(record, 0, 1 + payloadLength + ScoreBoardJournal.CRC_SIZE);
+      if ((int) checksum.getValue() != buffer.getInt(1 + payloadLength)) {
+        return validLength;
+      }
+      apply(buffer, apply, mayBeApplied);
+      validLength += ScoreBoardJournal.HEADER_SIZE + payloadLength + ScoreBoardJournal.CRC_SIZE;
+    }
+  }
+
+  /**
+   * Completes the interrupted operations in the storages. A team that is in an ongoing match is not put back, the
+   * snapshot may contain the effect of records that were lost.
+   */
+  Repairs repair() {
+    Set<UUID> playingTeamIds = new HashSet<>();
+    for (Match match : ongoingMatchStorage.getOngoingMatchSummary()) {
+      playingTeamIds.add(match.homeTeam().id());
+      playingTeamIds.add(match.visitorTeam().id());
+    }
+    List<Match> addedMatches = new ArrayList<>();
+    for (Match match : finishedMatches.values()) {
+      if (!finishedMatchIds.contains(match.id())) {
+        finishedMatchStorage.addMatch(match);
+        addedMatches.add(match);
+      }
+    }
+    List<Team> putTeams = new ArrayList<>();
+    for (Map<UUID, Team> teams : List.of(finishedTeams, takenTeams)) {
+      for (Team team : teams.values()) {
+        if (playingTeamIds.contains(team.id())) {
+          continue;
+        }
+        try {
+          putTeams.add(availableTeamStorage.put(team));
+        } catch (AlreadyExistsException e) {
+          // the snapshot already contains the team
+        }
+      }
+    }
+    return new Repairs(addedMatches, putTeams);
+  }
+
+  /**
+   * Applies the record if it is not applied yet. The records of a team or a match are replayed in order, so skipping
+   * the already applied ones ends in the same state as the one that was journaled. Outside the snapshot's segment
+   * every record has to apply, a record that doesn't means the journal is inconsistent.
+   */
+  private void apply(ByteBuffer record, boolean apply, boolean mayBeApplied) {
+    byte type = record.get();
+    try {
+      switch (type) {
+        case ScoreBoardJournal.TEAM_PUT -> {
+          Team team = BinaryFormat.getTeam(record);
+          takenTeams.remove(team.id());
+          finishedTeams.remove(team.id());
+          if (apply) {
+            availableTeamStorage.put(team);
+          }
+        }
+        case ScoreBoardJournal.TEAM_TAKEN -> {
+          UUID teamUuid = BinaryFormat.getUuid(record);
+          if (apply) {
+            availableTeamStorage.take(teamUuid);
+          }
+        }
+        case ScoreBoardJournal.TEAM_PAIR_TAKEN -> {
+          Team homeTeam = BinaryFormat.getTeam(record);
+          Team visitorTeam = BinaryFormat.getTeam(record);
+          takenTeams.put(homeTeam.id(), homeTeam);
+          takenTeams.put(visitorTeam.id(), visitorTeam);
+          if (apply) {
+            // the snapshot may already contain only one of the taken teams
+            availableTeamStorage.take(homeTeam.id());
+            availableTeamStorage.take(visitorTeam.id());
+          }
+        }
+        case ScoreBoardJournal.MATCH_STARTED -> {
+          Match match = BinaryFormat.getMatch(record);
+          takenTeams.remove(match.homeTeam().id());
+          takenTeams.remove(match.visitorTeam().id());
+          if (apply) {
+            ongoingMatchStorage.addMatch(match);
+          }
+        }
+        case ScoreBoardJournal.MATCH_UPDATED -> {
+          UUID matchUuid = BinaryFormat.getUuid(record);
+          int homeTeamScore = record.getInt();
+          int visitorTeamScore = record.getInt();
+          if (apply) {
+            ongoingMatchStorage.updateScore(matchUuid, homeTeamScore, visitorTeamScore);
+          }
+        }
+        case ScoreBoardJournal.MATCH_UPDATED_IN_SEQUENCE -> {
+          UUID matchUuid = BinaryFormat.getUuid(record);
+          int homeTeamScore = record.getInt();
+          int visitorTeamScore = record.getInt();
+          long sequence = record.getLong();
+          if (apply && sequence == ongoingMatchStorage.lastSequence(matchUuid)) {
+            // the update of the restored sequence is applied again, the replayed updates before it may have changed
+            // the restored score
+            ongoingMatchStorage.updateScore(matchUuid, homeTeamScore, visitorTeamScore);
+          } else if (apply) {
+            ongoingMatchStorage.updateScore(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+          }
+        }
+        case ScoreBoardJournal.MATCH_FINISHED -> {
+          Match match = BinaryFormat.getMatch(record);
+          finishedMatches.put(match.id(), match);
+          finishedTeams.put(match.homeTeam().id(), match.homeTeam());
+          finishedTeams.put(match.visitorTeam().id(), match.visitorTeam());
+          if (apply) {
+            ongoingMatchStorage.finishMatch(match.id());
+          }
+        }
+        case ScoreBoardJournal.FINISHED_MATCH_ADDED -> {
+          Match match = BinaryFormat.getMatch(record);
+          finishedMatches.remove(match.id());
+          // an engine that doesn't journal its ongoing matches finishes with this record
+          finishedTeams.put(match.homeTeam().id(), match.homeTeam());
+          finishedTeams.put(match.visitorTeam().id(), match.visitorTeam());
+          if (apply && !finishedMatchIds.contains(match.id())) {
+            finishedMatchStorage.addMatch(match);
+          }
+        }
+        default -> throw new IllegalStateException("Unknown journal record type: " + type);
+      }
+    } catch (AlreadyExistsException | NotFoundException e) {
+      if (!mayBeApplied) {
+        throw new IllegalStateException("Journal record of type " + type + " cannot be replayed.", e);
+      }
+      // already applied
+    } catch (RuntimeException e) {
+      throw new IllegalStateException("Journal record of type " + type + " cannot be replayed.", e);
+    }
+  }
+
+  /**
+   * The mutations of the {@link #repair()}, in the order they have to be appended to the journal.
+   */
+  record Repairs(List<Match> addedMatches, List<Team> putTeams) {
+
+    boolean isEmpty() {
+      return addedMatches.isEmpty() && putTeams.isEmpty();
+    }
+  }
+}
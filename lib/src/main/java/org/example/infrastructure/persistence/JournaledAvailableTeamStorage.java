@@ -0,0 +1,97 @@
+package org.example.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import org.example.domain.Team;
+import org.example.domain.TeamPair;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.StripedLocks;
+
+/**
+ * Appends the successful mutations of the delegate to the {@link MutationLog}, e.g. the {@link ScoreBoardJournal}.
+ * A mutation and its record are done under the lock of the team, so the records of a team are in the order they
+ * were applied. The mutation returns once its record is committed.
+ */
+public class JournaledAvailableTeamStorage implements AvailableTeamStorage {
+
+  private final AvailableTeamStorage delegate;
+  private final MutationLog journal;
+  private final StripedLocks locks = new StripedLocks(256);
+
+  public JournaledAvailableTeamStorage(AvailableTeamStorage delegate, MutationLog journal) {
+    this.delegate = delegate;
+    this.journal = journal;
+  }
+
+  @Override
+  public Team put(Team team) {
+    ReentrantLock lock = locks.lockFor(team.id());
+    Team storedTeam;
+    long ticket;
+    lock.lock();
+    try {
+      storedTeam = delegate.put(team);
+      ticket = journal.teamPut(storedTeam);
+    } finally {
+      lock.unlock();
+    }
+    journal.awaitCommit(ticket);
+    return storedTeam;
+  }
+
+  @Override
+  public Optional<Team> take(UUID id) {
+    ReentrantLock lock = locks.lockFor(id);
+    Optional<Team> takenTeam;
+    long ticket;
+    lock.lock();
+    try {
+      takenTeam = delegate.take(id);
+      if (takenTeam.isEmpty()) {
+        return takenTeam;
+      }
+      ticket = journal.teamTaken(id);
+    } finally {
+      lock.unlock();
+    }
+    journal.awaitCommit(ticket);
+    return takenTeam;
+  }
+
+  @Override
+  public Optional<TeamPair> takePair(UUID homeTeamId, UUID visitorTeamId) {
+    int homeTeamLock = locks.index(homeTeamId);
+    int visitorTeamLock = locks.index(visitorTeamId);
+    // the locks are always taken in the order of their index, so two pairs cannot wait for each other
+    ReentrantLock firstLock = locks.lock(Math.min(homeTeamLock, visitorTeamLock));
+    ReentrantLock secondLock = locks.lock(Math.max(homeTeamLock, visitorTeamLock));
+    Optional<TeamPair> takenTeams;
+    long ticket;
+    firstLock.lock();
+    secondLock.lock();
+    try {
+      takenTeams = delegate.takePair(homeTeamId, visitorTeamId);
+      if (takenTeams.isEmpty()) {
+        return takenTeams;
+      }
+      ticket = journal.teamPairTaken(takenTeams.get().homeTeam(), takenTeams.get().visitorTeam());
+    } finally {
+      secondLock.unlock();
+      firstLock.unlock();
+    }
+    journal.awaitCommit(ticket);
+    return takenTeams;
+  }
+
+  @Override
+  public long count() {
+    return delegate.count();
+  }
+
+  @Override
+  public List<Team> getTeams() {
+    return delegate.getTeams();
+  }
+}
@@ -0,0 +1,57 @@
+package org.example.infrastructure.persistence;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.example.domain.Match;
+import org.example.domain.SummaryCursor;
+import org.example.infrastructure.FinishedMatchStorage;
+
+/**
+ * Appends the added matches to the {@link MutationLog}, {@link #addMatch} returns once the record is committed.
+ */
+public class JournaledFinishedMatchStorage implements FinishedMatchStorage {
+
+  private final FinishedMatchStorage delegate;
+  private final MutationLog journal;
+
+  public JournaledFinishedMatchStorage(FinishedMatchStorage delegate, MutationLog journal) {
+    this.delegate = delegate;
+    this.journal = journal;
+  }
+
+  @Override
+  public void addMatch(Match match) {
+    delegate.addMatch(match);
+    journal.awaitCommit(journal.finishedMatchAdded(match));
+  }
+
+  @Override
+  public List<Match> getMatches() {
+    return delegate.getMatches();
+  }
+
+  @Override
+  public List<Match> getMatchSummary() {
+    return delegate.getMatchSummary();
+  }
+
+  @Override
+  public Stream<Match> streamMatchSummary() {
+    return delegate.streamMatchSummary();
+  }
+
+  @Override
+  public List<Match> getTopMatches(int limit) {
+    return delegate.getTopMatches(limit);
+  }
+
+  @Override
+  public List<Match> getMatchSummaryPage(int offset, int limit) {
+    return delegate.getMatchSummaryPage(offset, limit);
+  }
+
+  @Override
+  public List<Match> getMatchSummaryAfter(SummaryCursor cursor, int limit) {
+    return delegate.getMatchSummaryAfter(cursor, limit);
+  }
+}
@@ -0,0 +1,142 @@
+package org.example.infrastructure.persistence;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import org.example.domain.Match;
+import org.example.infrastructure.OngoingMatchStorage;
+import org.example.infrastructure.StripedLocks;
+
+/**
+ * Appends the successful mutations of the delegate to the {@link MutationLog}, e.g. the {@link ScoreBoardJournal}.
+ * A mutation and its record are done under the lock of the match, so the records of a match are in the order they
+ * were applied. The mutation returns once its record is committed, the commit is awaited after the lock is released,
+ * so the writers of the other matches of the stripe join the same commit.
+ */
+public class JournaledOngoingMatchStorage implements OngoingMatchStorage {
+
+  private final OngoingMatchStorage delegate;
+  private final MutationLog journal;
+  private final StripedLocks locks = new StripedLocks(256);
+
+  public JournaledOngoingMatchStorage(OngoingMatchStorage delegate, MutationLog journal) {
+    this.delegate = delegate;
+    this.journal = journal;
+  }
+
+  @Override
+  public Match addMatch(Match match) {
+    ReentrantLock lock = locks.lockFor(match.id());
+    Match addedMatch;
+    long ticket;
+    lock.lock();
+    try {
+      addedMatch = delegate.addMatch(match);
+      ticket = journal.matchStarted(addedMatch);
+    } finally {
+      lock.unlock();
+    }
+    journal.awaitCommit(ticket);
+    return addedMatch;
+  }
+
+  @Override
+  public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    ReentrantLock lock = locks.lockFor(matchUuid);
+    Match updatedMatch;
+    long ticket;
+    lock.lock();
+    try {
+      updatedMatch = delegate.updateMatch(matchUuid, homeTeamScore, visitorTeamScore);
+      ticket = journal.matchUpdated(matchUuid, homeTeamScore, visitorTeamScore);
+    } finally {
+      lock.unlock();
+    }
+    journal.awaitCommit(ticket);
+    return updatedMatch;
+  }
+
+  /**
+   * The stale updates are not journaled.
+   */
+  @Override
+  public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    ReentrantLock lock = locks.lockFor(matchUuid);
+    Match updatedMatch;
+    long ticket;
+    lock.lock();
+    try {
+      updatedMatch = delegate.updateMatch(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+      if (updatedMatch == null) {
+        return null;
+      }
+      ticket = journal.matchUpdated(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+    } finally {
+      lock.unlock();
+    }
+    journal.awaitCommit(ticket);
+    return updatedMatch;
+  }
+
+  @Override
+  public void updateScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    ReentrantLock lock = locks.lockFor(matchUuid);
+    long ticket;
+    lock.lock();
+    try {
+      delegate.updateScore(matchUuid, homeTeamScore, visitorTeamScore);
+      ticket = journal.matchUpdated(matchUuid, homeTeamScore, visitorTeamScore);
+    } finally {
+      lock.unlock();
+    }
+    journal.awaitCommit(ticket);
+  }
+
+  @Override
+  public boolean updateScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    ReentrantLock lock = locks.lockFor(matchUuid);
+    long ticket;
+    lock.lock();
+    try {
+      if (!delegate.updateScore(matchUuid, homeTeamScore, visitorTeamScore, sequence)) {
+        return false;
+      }
+      ticket = journal.matchUpdated(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+    } finally {
+      lock.unlock();
+    }
+    journal.awaitCommit(ticket);
+    return true;
+  }
+
+  @Override
+  public Match finishMatch(UUID matchUuid) {
+    ReentrantLock lock = locks.lockFor(matchUuid);
+    Match finishedMatch;
+    long ticket;
+    lock.lock();
+    try {
+      finishedMatch = delegate.finishMatch(matchUuid);
+      ticket = journal.matchFinished(finishedMatch);
+    } finally {
+      lock.unlock();
+    }
+    journal.awaitCommit(ticket);
+    return finishedMatch;
+  }
+
+  @Override
+  public long lastSequence(UUID matchUuid) {
+    return delegate.lastSequence(matchUuid);
+  }
+
+  @Override
+  public long countOfOngoingMatches() {
+    return delegate.countOfOngoingMatches();
+  }
+
+  @Override
+  public List<Match> getOngoingMatchSummary() {
+    return delegate.getOngoingMatchSummary();
+  }
+}
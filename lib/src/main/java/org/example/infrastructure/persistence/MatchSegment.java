@@ -0,0 +1,193 @@
+package org.example.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.Team;
+
+/**
+ * Immutable file of evicted finished matches ordered by start time:
+ * {@code [int magic][int team count][int match count][teams][match records]}. The teams are written once per segment
+ * and the fixed size match records reference them by index, so a page of records is located by its number. The file
+ * is memory-mapped, the pages are decoded only when they are read. The first start time and the highest total score of
+ * every page are kept in memory, so the time range and the top N reads skip the pages they don't need.
+ */
+final class MatchSegment {
+
+  private static final int MAGIC = 0x5342_4D53;
+  private static final int HEADER_SIZE = 3 * Integer.BYTES;
+  private static final int RECORD_SIZE =
+      BinaryFormat.UUID_SIZE + 2 * Integer.BYTES + BinaryFormat.SCORES_SIZE + BinaryFormat.START_TIME_SIZE;
+
+  private final int id;
+  private final Path file;
+  private final MappedByteBuffer buffer;
+  private final Team[] teams;
+  private final int matchCount;
+  private final int recordsOffset;
+  private final int pageSize;
+  private final Instant[] pageFirstStartTimes;
+  private final int[] pageMaxTotalScores;
+  private final Instant lastStartTime;
+
+  private MatchSegment(int id, Path file, MappedByteBuffer buffer, Team[] teams, int matchCount, int recordsOffset,
+      int pageSize, Instant[] pageFirstStartTimes, int[] pageMaxTotalScores, Instant lastStartTime) {
+    this.id = id;
+    this.file = file;
+    this.buffer = buffer;
+    this.teams = teams;
+    this.matchCount = matchCount;
+    this.recordsOffset = recordsOffset;
+    this.pageSize = pageSize;
+    this.pageFirstStartTimes = pageFirstStartTimes;
+    this.pageMaxTotalScores = pageMaxTotalScores;
+    this.lastStartTime = lastStartTime;
+  }
+
+  /**
+   * @param matches the matches ordered by start time, at least one
+   */
+  static MatchSegment write(int id, Path file, List<Match> matches, int pageSize) throws IOException {
+    Map<UUID, Integer> teamIndexes = new HashMap<>();
+    List<Team> teams = new ArrayList<>();
+    List<byte[]> encodedNames = new ArrayList<>();
+    long teamsSize = 0;
+    for (Match match : matches) {
+      for (Team team : List.of(match.homeTeam(), match.visitorTeam())) {
+        if (teamIndexes.putIfAbsent(team.id(), teams.size()) == null) {
+          byte[] encodedName = BinaryFormat.encodeName(team);
+          teams.add(team);
+          encodedNames.add(encodedName);
+          teamsSize += BinaryFormat.teamSize(encodedName);
+        }
+      }
+    }
+    long size = HEADER_SIZE + teamsSize + (long) matches.size() * RECORD_SIZE;
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many matches for one segment: " + matches.size());
+    }
+
+    int pageCount = (matches.size() + pageSize - 1) / pageSize;
+    Instant[] pageFirstStartTimes = new Instant[pageCount];
+    int[] pageMaxTotalScores = new int[pageCount];
+    ByteBuffer content = ByteBuffer.allocate((int) size);
+    content.putInt(MAGIC);
+    content.putInt(teams.size());
+    content.putInt(matches.size());
+    for (int i = 0; i < teams.size(); i++) {
+      BinaryFormat.putTeam(content, teams.get(i), encodedNames.get(i));
+    }
+    int recordsOffset = content.position();
+    for (int i = 0; i < matches.size(); i++) {
+      Match match = matches.get(i);
+      int page = i / pageSize;
+      if (i % pageSize == 0) {
+        pageFirstStartTimes[page] = match.startTime();
+      }
+      pageMaxTotalScores[page] = Math.max(pageMaxTotalScores[page], match.totalScore());
+      BinaryFormat.putUuid(content, match.id());
+      content.putInt(teamIndexes.get(match.homeTeam().id()));
+      content.putInt(teamIndexes.get(match.visitorTeam().id()));
+      content.putInt(match.homeTeamScore());
+      content.putInt(match.visitorTeamScore());
+      content.putLong(match.startTime().getEpochSecond());
+      content.putInt(match.startTime().getNano());
+    }
+    content.flip();
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      while (content.hasRemaining()) {
+        channel.write(content);
+      }
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      return new MatchSegment(id, file, mapped, teams.toArray(Team[]::new), matches.size(), recordsOffset, pageSize,
+          pageFirstStartTimes, pageMaxTotalScores, matches.getLast().startTime());
+    }
+  }
+
+  int id() {
+    return id;
+  }
+
+  int matchCount() {
+    return matchCount;
+  }
+
+  int pageCount() {
+    return pageFirstStartTimes.length;
+  }
+
+  int pageMaxTotalScore(int page) {
+    return pageMaxTotalScores[page];
+  }
+
+  Instant firstStartTime() {
+    return pageFirstStartTimes[0];
+  }
+
+  Instant lastStartTime() {
+    return lastStartTime;
+  }
+
+  /**
+   * @return the first page that can contain a match started at or after {@code startTime}
+   */
+  int firstPageFrom(Instant startTime) {
+    int low = 0;
+    int high = pageFirstStartTimes.length - 1;
+    // the last page that starts before the start time, the matches of the page before it are all earlier
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (pageFirstStartTimes[middle].isBefore(startTime)) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Decodes the page from the mapped file with absolute reads, so the pages can be read concurrently.
+   */
+  List<Match> readPage(int page) {
+    int from = page * pageSize;
+    int to = Math.min(from + pageSize, matchCount);
+    List<Match> matches = new ArrayList<>(to - from);
+    for (int position = recordsOffset + from * RECORD_SIZE; matches.size() < to - from; position += RECORD_SIZE) {
+      matches.add(new Match(new UUID(buffer.getLong(position), buffer.getLong(position + 8)),
+          teams[buffer.getInt(position + 16)], teams[buffer.getInt(position + 20)], buffer.getInt(position + 24),
+          buffer.getInt(position + 28), Instant.ofEpochSecond(buffer.getLong(position + 32),
+          buffer.getInt(position + 40))));
+    }
+    return List.copyOf(matches);
+  }
+
+  /**
+   * Deletes the file. The mapping is released when the segment is garbage collected.
+   */
+  void delete() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  static String fileName(int id) {
+    return "segment-%010d.seg".formatted(id);
+  }
+
+  static boolean isSegmentFile(Path file) {
+    String fileName = file.getFileName().toString();
+    return fileName.startsWith("segment-") && fileName.endsWith(".seg");
+  }
+}
@@ -0,0 +1,37 @@
+package org.example.infrastructure.persistence;
+
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.Team;
+
+/**
+ * Receives the successful storage mutations from the {@code Journaled*Storage} decorators. The decorators call it
+ * under the lock of the team or the match, so the mutations of a team or a match arrive in the order they were
+ * applied. Every append returns a commit ticket, the decorators wait for it with {@link #awaitCommit(long)} after the
+ * lock is released.
+ */
+public interface MutationLog {
+
+  long teamPut(Team team);
+
+  long teamTaken(UUID teamUuid);
+
+  long teamPairTaken(Team homeTeam, Team visitorTeam);
+
+  long matchStarted(Match match);
+
+  long matchUpdated(UUID matchUuid, int homeTeamScore, int visitorTeamScore);
+
+  long matchUpdated(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence);
+
+  long matchFinished(Match match);
+
+  long finishedMatchAdded(Match match);
+
+  /**
+   * Waits until the mutation of the ticket and all mutations appended before it are committed. The logs that don't
+   * commit return immediately.
+   */
+  default void awaitCommit(long ticket) {
+  }
+}
@@ -0,0 +1,599 @@
+package org.example.infrastructure.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.example.domain.Match;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.Team;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.FinishedMatchStorage;
+import org.example.infrastructure.OngoingMatchStorage;
+
+/**
+ * Append-only log of the storage mutations. Every record is {@code [int payload length][byte type][payload][int crc]},
+ * a torn record at the end of the last segment is dropped on the next start. An invalid record in an earlier segment
+ * means the journal is corrupt, it fails to open instead of replaying the later segments over the gap.
+ * <p>
+ * The records are appended by the {@code Journaled*Storage} decorators right after their mutation, which keep the
+ * records of the same team or match in the order they were applied. An append only copies the record into an
+ * in-memory buffer and returns a commit ticket. A background thread writes the buffer to the file and forces it to the
+ * storage device, then completes the tickets of all records of the batch at once (group commit). The decorators wait
+ * for their ticket, so a mutation is acknowledged only once its record is durable. A writer that waits wakes the
+ * thread, the records appended while a batch is forced go into the next batch. Without waiting writers the buffer is
+ * committed once per {@link JournalConfig#flushInterval()}. The appenders never write to the file: when the buffer is
+ * full they wait until the background thread has swapped it.
+ * <p>
+ * The journal is split into numbered segments. A snapshot starts a new segment, copies the storages while the writers
+ * keep going and deletes the older snapshots and the segments before the previous one once it is written. On start the
+ * latest snapshot is loaded and only the segments from its segment on are replayed. The copy may already contain the
+ * effect of some records of its own segment, so their replay skips the mutations that are already applied. The
+ * directory is forced after a segment is created and after a snapshot is renamed into place, so a crash doesn't lose
+ * their entries.
+ * <p>
+ * Starting and finishing a match append several records, one per storage. A crash between them leaves the operation
+ * half done in the journal, the {@link JournalReplay} completes it on start and appends the repairs to the new segment.
+ */
+public final class ScoreBoardJournal implements MutationLog, Closeable {
+
+  static final byte TEAM_PUT = 1;
+  static final byte TEAM_TAKEN = 2;
+  static final byte TEAM_PAIR_TAKEN = 3;
+  static final byte MATCH_STARTED = 4;
+  static final byte MATCH_UPDATED = 5;
+  static final byte MATCH_FINISHED = 6;
+  static final byte FINISHED_MATCH_ADDED = 7;
+  static final byte MATCH_UPDATED_IN_SEQUENCE = 8;
+
+  static final int HEADER_SIZE = Integer.BYTES + 1;
+  static final int CRC_SIZE = Integer.BYTES;
+  private static final Pattern SEGMENT_FILE = Pattern.compile("journal-(\\d{20})\\.log");
+  private static final Pattern SNAPSHOT_FILE = Pattern.compile("snapshot-(\\d{20})\\.bin");
+
+  private final JournalConfig config;
+  private final AvailableTeamStorage availableTeamStorage;
+  private final OngoingMatchStorage ongoingMatchStorage;
+  private final FinishedMatchStorage finishedMatchStorage;
+  private final ReentrantLock bufferLock = new ReentrantLock();
+  private final Condition bufferSwapped = bufferLock.newCondition();
+  private final ReentrantLock commitLock = new ReentrantLock();
+  private final Condition committed = commitLock.newCondition();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final ReentrantLock snapshotLock = new ReentrantLock();
+  private final CRC32C crc = new CRC32C();
+  private final Thread flusher;
+  private final ScheduledExecutorService snapshotScheduler;
+  // guarded by the bufferLock
+  private ByteBuffer activeBuffer;
+  private ByteBuffer standbyBuffer;
+  private int recordStart;
+  // end of the last appended record, counted over all segments
+  private long appendedPosition;
+  // guarded by the flushLock
+  private long segment;
+  private FileChannel channel;
+  private boolean unsynced;
+  // written under the flushLock and the commitLock, every record that ends before it is committed
+  private volatile long committedPosition;
+  private volatile boolean flushRequested;
+  private volatile boolean closed;
+  private volatile IOException failure;
+
+  private ScoreBoardJournal(JournalConfig config, long segment, AvailableTeamStorage availableTeamStorage,
+      OngoingMatchStorage ongoingMatchStorage, FinishedMatchStorage finishedMatchStorage) throws IOException {
+    this.config = config;
+    this.segment = segment;
+    this.channel = openSegment(config.directory(), segment);
+    this.availableTeamStorage = availableTeamStorage;
+    this.ongoingMatchStorage = ongoingMatchStorage;
+    this.finishedMatchStorage = finishedMatchStorage;
+    this.activeBuffer = ByteBuffer.allocateDirect(config.bufferSize());
+    this.standbyBuffer = ByteBuffer.allocateDirect(config.bufferSize());
+    this.flusher = Thread.ofPlatform().daemon().name("score-board-journal-flusher").start(this::runFlusher);
+    if (config.snapshotInterval().isZero()) {
+      this.snapshotScheduler = null;
+    } else {
+      this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().daemon().name("score-board-journal-snapshot").factory());
+      long intervalMillis = config.snapshotInterval().toMillis();
+      this.snapshotScheduler.scheduleWithFixedDelay(this::snapshotInBackground, intervalMillis, intervalMillis,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Loads the latest snapshot and replays the journal segments after it into the given empty storages, then opens a
+   * new segment for appending.
+   *
+   * @return the journal, the given storages have to be wrapped into the {@code Journaled*Storage} decorators so their
+   * mutations are appended to it
+   */
+  public static ScoreBoardJournal open(JournalConfig config, AvailableTeamStorage availableTeamStorage,
+      OngoingMatchStorage ongoingMatchStorage, FinishedMatchStorage finishedMatchStorage) {
+    try {
+      Files.createDirectories(config.directory());
+      long firstSegment = 1;
+      long snapshotSegment = -1;
+      Set<UUID> finishedMatchIds = Set.of();
+      List<Long> snapshots = listFiles(config.directory(), SNAPSHOT_FILE);
+      if (!snapshots.isEmpty()) {
+        long snapshot = snapshots.get(snapshots.size() - 1);
+        ScoreBoardSnapshot.Loaded loaded = ScoreBoardSnapshot.read(snapshotFile(config.directory(), snapshot),
+            availableTeamStorage, ongoingMatchStorage, finishedMatchStorage);
+        firstSegment = loaded.segment();
+        snapshotSegment = loaded.segment();
+        finishedMatchIds = loaded.finishedMatchIds();
+      }
+
+      List<Long> segments = listFiles(config.directory(), SEGMENT_FILE);
+      long lastSegment = Math.max(firstSegment - 1, segments.isEmpty() ? 0 : segments.get(segments.size() - 1));
+      var replay = new JournalReplay(availableTeamStorage, ongoingMatchStorage, finishedMatchStorage, finishedMatchIds);
+      for (long segment : segments) {
+        // the segment before the snapshot is kept for the operations that were open when the snapshot was copied
+        boolean tracked = segment == snapshotSegment - 1;
+        if (segment < firstSegment && !tracked) {
+          continue;
+        }
+        Path file = segmentFile(config.directory(), segment);
+        try (FileChannel segmentChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+          // the snapshot was copied while the records of its own segment were appended, not of the later ones
+          long validLength = replay.replay(segmentChannel, !tracked, segment == snapshotSegment);
+          if (validLength < segmentChannel.size()) {
+            // only the last segment was being appended to, the earlier ones were forced before the next one started
+            if (segment != lastSegment) {
+              throw new IOException("Journal segment is corrupt at position " + validLength + ": " + file);
+            }
+            segmentChannel.truncate(validLength);
+          }
+        }
+      }
+      JournalReplay.Repairs repairs = replay.repair();
+      var journal = new ScoreBoardJournal(config, lastSegment + 1, availableTeamStorage, ongoingMatchStorage,
+          finishedMatchStorage);
+      if (!repairs.isEmpty()) {
+        try {
+          repairs.addedMatches().forEach(journal::finishedMatchAdded);
+          repairs.putTeams().forEach(journal::teamPut);
+          journal.sync();
+        } catch (RuntimeException e) {
+          journal.close();
+          throw e;
+        }
+      }
+      return journal;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Journal cannot be opened: " + config.directory(), e);
+    }
+  }
+
+  /**
+   * Starts a new segment and writes a snapshot of the storages. The writers are not stopped, the snapshot is a copy of
+   * the storages taken after the new segment is started. The older segments and snapshots are deleted afterwards.
+   */
+  public void snapshot() {
+    snapshotLock.lock();
+    try {
+      long snapshotSegment = startNewSegment();
+      // the sequences are read before the scores, so a restored score is never older than the update of its sequence
+      Map<UUID, Long> ongoingSequences = new HashMap<>();
+      for (Match match : ongoingMatchStorage.getOngoingMatchSummary()) {
+        long sequence = ongoingMatchStorage.lastSequence(match.id());
+        if (sequence != ScoreUpdate.NO_SEQUENCE) {
+          ongoingSequences.put(match.id(), sequence);
+        }
+      }
+      ScoreBoardSnapshot.write(snapshotFile(config.directory(), snapshotSegment), snapshotSegment,
+          availableTeamStorage.getTeams(), ongoingMatchStorage.getOngoingMatchSummary(), ongoingSequences,
+          List.copyOf(finishedMatchStorage.getMatches()));
+      for (long segment : listFiles(config.directory(), SEGMENT_FILE)) {
+        if (segment < snapshotSegment - 1) {
+          Files.deleteIfExists(segmentFile(config.directory(), segment));
+        }
+      }
+      for (long snapshot : listFiles(config.directory(), SNAPSHOT_FILE)) {
+        if (snapshot < snapshotSegment) {
+          Files.deleteIfExists(snapshotFile(config.directory(), snapshot));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Snapshot cannot be written.", e);
+    } finally {
+      snapshotLock.unlock();
+    }
+  }
+
+  private void snapshotInBackground() {
+    try {
+      snapshot();
+    } catch (RuntimeException e) {
+      // the journal is still complete, the next snapshot is tried after the interval
+    }
+  }
+
+  /**
+   * Writes the buffered records into the current segment and switches to a new one.
+   *
+   * @return the new segment
+   */
+  private long startNewSegment() throws IOException {
+    flushLock.lock();
+    try {
+      FileChannel newChannel = openSegment(config.directory(), segment + 1);
+      long position = writeActiveBuffer();
+      channel.force(false);
+      channel.close();
+      channel = newChannel;
+      unsynced = false;
+      segment++;
+      commit(position);
+      return segment;
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Forces the directory after creating the file, so the records of the segment are not lost with its entry.
+   */
+  private static FileChannel openSegment(Path directory, long segment) throws IOException {
+    FileChannel segmentChannel = FileChannel.open(segmentFile(directory, segment), StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.WRITE);
+    try {
+      DirectorySync.force(directory);
+    } catch (IOException e) {
+      segmentChannel.close();
+      throw e;
+    }
+    return segmentChannel;
+  }
+
+  private static Path segmentFile(Path directory, long segment) {
+    return directory.resolve("journal-%020d.log".formatted(segment));
+  }
+
+  private static Path snapshotFile(Path directory, long segment) {
+    return directory.resolve("snapshot-%020d.bin".formatted(segment));
+  }
+
+  private static List<Long> listFiles(Path directory, Pattern pattern) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .map(file -> pattern.matcher(file.getFileName().toString()))
+          .filter(Matcher::matches)
+          .map(matcher -> Long.parseLong(matcher.group(1)))
+          .sorted()
+          .toList();
+    }
+  }
+
+  @Override
+  public long teamPut(Team team) {
+    byte[] name = BinaryFormat.encodeName(team);
+    ByteBuffer buffer = begin(TEAM_PUT, BinaryFormat.teamSize(name));
+    try {
+      BinaryFormat.putTeam(buffer, team, name);
+      return end(buffer);
+    } finally {
+      bufferLock.unlock();
+    }
+  }
+
+  @Override
+  public long teamTaken(UUID teamUuid) {
+    ByteBuffer buffer = begin(TEAM_TAKEN, BinaryFormat.UUID_SIZE);
+    try {
+      BinaryFormat.putUuid(buffer, teamUuid);
+      return end(buffer);
+    } finally {
+      bufferLock.unlock();
+    }
+  }
+
+  @Override
+  public long teamPairTaken(Team homeTeam, Team visitorTeam) {
+    byte[] homeTeamName = BinaryFormat.encodeName(homeTeam);
+    byte[] visitorTeamName = BinaryFormat.encodeName(visitorTeam);
+    ByteBuffer buffer = begin(TEAM_PAIR_TAKEN,
+        BinaryFormat.teamSize(homeTeamName) + BinaryFormat.teamSize(visitorTeamName));
+    try {
+      BinaryFormat.putTeam(buffer, homeTeam, homeTeamName);
+      BinaryFormat.putTeam(buffer, visitorTeam, visitorTeamName);
+      return end(buffer);
+    } finally {
+      bufferLock.unlock();
+    }
+  }
+
+  @Override
+  public long matchStarted(Match match) {
+    return appendMatch(MATCH_STARTED, match);
+  }
+
+  @Override
+  public long matchUpdated(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    ByteBuffer buffer = begin(MATCH_UPDATED, BinaryFormat.UUID_SIZE + BinaryFormat.SCORES_SIZE);
+    try {
+      BinaryFormat.putUuid(buffer, matchUuid);
+      buffer.putInt(homeTeamScore);
+      buffer.putInt(visitorTeamScore);
+      return end(buffer);
+    } finally {
+      bufferLock.unlock();
+    }
+  }
+
+  @Override
+  public long matchUpdated(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    ByteBuffer buffer = begin(MATCH_UPDATED_IN_SEQUENCE,
+        BinaryFormat.UUID_SIZE + BinaryFormat.SCORES_SIZE + Long.BYTES);
+    try {
+      BinaryFormat.putUuid(buffer, matchUuid);
+      buffer.putInt(homeTeamScore);
+      buffer.putInt(visitorTeamScore);
+      buffer.putLong(sequence);
+      return end(buffer);
+    } finally {
+      bufferLock.unlock();
+    }
+  }
+
+  @Override
+  public long matchFinished(Match match) {
+    return appendMatch(MATCH_FINISHED, match);
+  }
+
+  @Override
+  public long finishedMatchAdded(Match match) {
+    return appendMatch(FINISHED_MATCH_ADDED, match);
+  }
+
+  private long appendMatch(byte type, Match match) {
+    byte[] homeTeamName = BinaryFormat.encodeName(match.homeTeam());
+    byte[] visitorTeamName = BinaryFormat.encodeName(match.visitorTeam());
+    ByteBuffer buffer = begin(type, BinaryFormat.matchSize(homeTeamName, visitorTeamName));
+    try {
+      BinaryFormat.putMatch(buffer, match, homeTeamName, visitorTeamName);
+      return end(buffer);
+    } finally {
+      bufferLock.unlock();
+    }
+  }
+
+  /**
+   * Reserves room for the record and writes its header, returns with the buffer lock held. A full buffer is handed to
+   * the flusher, the appender waits until it is swapped instead of writing it.
+   */
+  private ByteBuffer begin(byte type, int payloadLength) {
+    checkWritable();
+    int recordLength = HEADER_SIZE + payloadLength + CRC_SIZE;
+    bufferLock.lock();
+    while (activeBuffer.remaining() < recordLength) {
+      if (activeBuffer.position() == 0) {
+        activeBuffer = ByteBuffer.allocateDirect(recordLength);
+        break;
+      }
+      requestFlush();
+      bufferSwapped.awaitUninterruptibly();
+      if (closed || failure != null) {
+        bufferLock.unlock();
+        checkWritable();
+      }
+    }
+    recordStart = activeBuffer.position();
+    activeBuffer.putInt(payloadLength);
+    activeBuffer.put(type);
+    return activeBuffer;
+  }
+
+  /**
+   * Writes the checksum of the record.
+   *
+   * @return the commit ticket of the record
+   */
+  private long end(ByteBuffer buffer) {
+    int end = buffer.position();
+    buffer.position(recordStart + Integer.BYTES);
+    buffer.limit(end);
+    crc.reset();
+    crc.update(buffer);
+    buffer.limit(buffer.capacity());
+    buffer.position(end);
+    buffer.putInt((int) crc.getValue());
+    appendedPosition += buffer.position() - recordStart;
+    return appendedPosition;
+  }
+
+  private void checkWritable() {
+    if (closed) {
+      throw new IllegalStateException("Journal is already closed.");
+    }
+    if (failure != null) {
+      throw new UncheckedIOException("Journal cannot be written.", failure);
+    }
+  }
+
+  /**
+   * Waits until the batch with the record of the ticket is written and, if {@link JournalConfig#fsync()} is on, forced
+   * to the storage device.
+   *
+   * @throws UncheckedIOException if the batch cannot be written
+   */
+  @Override
+  public void awaitCommit(long ticket) {
+    if (committedPosition >= ticket) {
+      return;
+    }
+    requestFlush();
+    commitLock.lock();
+    try {
+      while (committedPosition < ticket) {
+        if (failure != null) {
+          throw new UncheckedIOException("Journal cannot be written.", failure);
+        }
+        committed.awaitUninterruptibly();
+      }
+    } finally {
+      commitLock.unlock();
+    }
+  }
+
+  /**
+   * Writes the buffered records to the file and forces them to the storage device.
+   */
+  public void sync() {
+    try {
+      flush();
+    } catch (IOException e) {
+      fail(e);
+      throw new UncheckedIOException("Journal cannot be written.", e);
+    }
+  }
+
+  private void flush() throws IOException {
+    flushLock.lock();
+    try {
+      long position = writeActiveBuffer();
+      if (unsynced) {
+        unsynced = false;
+        if (config.fsync()) {
+          channel.force(false);
+        }
+      }
+      commit(position);
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Swaps the buffers, so the appenders can go on while the full one is written to the current segment.
+   *
+   * @return the end of the last record in the written buffer
+   */
+  private long writeActiveBuffer() throws IOException {
+    ByteBuffer buffer;
+    long position;
+    bufferLock.lock();
+    try {
+      buffer = activeBuffer;
+      activeBuffer = standbyBuffer;
+      standbyBuffer = buffer;
+      position = appendedPosition;
+      bufferSwapped.signalAll();
+    } finally {
+      bufferLock.unlock();
+    }
+    if (buffer.position() > 0) {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+      unsynced = true;
+    }
+    return position;
+  }
+
+  private void commit(long position) {
+    commitLock.lock();
+    try {
+      if (position > committedPosition) {
+        committedPosition = position;
+      }
+      committed.signalAll();
+    } finally {
+      commitLock.unlock();
+    }
+  }
+
+  /**
+   * Fails the waiting appenders and the waiting commits.
+   */
+  private void fail(IOException e) {
+    failure = e;
+    bufferLock.lock();
+    try {
+      bufferSwapped.signalAll();
+    } finally {
+      bufferLock.unlock();
+    }
+    commitLock.lock();
+    try {
+      committed.signalAll();
+    } finally {
+      commitLock.unlock();
+    }
+  }
+
+  /**
+   * Wakes the flusher. The flag keeps the request when the flusher is not parked, e.g. while it waits for a lock.
+   */
+  private void requestFlush() {
+    flushRequested = true;
+    LockSupport.unpark(flusher);
+  }
+
+  private void runFlusher() {
+    long intervalNanos = config.flushInterval().toNanos();
+    while (!closed) {
+      if (!flushRequested) {
+        LockSupport.parkNanos(this, intervalNanos);
+      }
+      flushRequested = false;
+      try {
+        flush();
+      } catch (IOException e) {
+        fail(e);
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    LockSupport.unpark(flusher);
+    try {
+      if (snapshotScheduler != null) {
+        snapshotScheduler.shutdown();
+        snapshotScheduler.awaitTermination(1, TimeUnit.MINUTES);
+      }
+      flusher.join();
+      flush();
+      flushLock.lock();
+      try {
+        channel.close();
+      } finally {
+        flushLock.unlock();
+      }
+    } catch (IOException e) {
+      fail(e);
+      throw new UncheckedIOException("Journal cannot be closed.", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package org.example.infrastructure.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import org.example.domain.Match;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.Team;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.FinishedMatchStorage;
+import org.example.infrastructure.OngoingMatchStorage;
+
+/**
+ * Contents of the storages at the start of a journal segment. The layout is
+ * {@code [int magic][long segment][teams][ongoing matches][finished matches][int crc]}, every section starts with its
+ * count. Every ongoing match is followed by the sequence of its last applied sequenced update. The snapshots of the
+ * first version without the sequences are still read.
+ */
+final class ScoreBoardSnapshot {
+
+  private static final int MAGIC_WITHOUT_SEQUENCES = 0x53424E31;
+  private static final int MAGIC = 0x53424E32;
+  private static final int CHUNK_SIZE = 1 << 16;
+
+  /**
+   * @param segment          the journal segments from this one have to be replayed on top of the snapshot
+   * @param finishedMatchIds ids of the finished matches in the snapshot, their records in the replayed segments are
+   *                         skipped
+   */
+  record Loaded(long segment, Set<UUID> finishedMatchIds) {
+  }
+
+  private ScoreBoardSnapshot() {
+  }
+
+  /**
+   * @param ongoingSequences the last applied sequence per ongoing match, the matches without one have none
+   */
+  static void write(Path file, long segment, List<Team> teams, List<Match> ongoingMatches,
+      Map<UUID, Long> ongoingSequences, List<Match> finishedMatches) throws IOException {
+    Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (var writer = new ChunkWriter(FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+      writer.reserve(Integer.BYTES + Long.BYTES).putInt(MAGIC).putLong(segment);
+      writer.reserve(Integer.BYTES).putInt(teams.size());
+      for (Team team : teams) {
+        byte[] name = BinaryFormat.encodeName(team);
+        BinaryFormat.putTeam(writer.reserve(BinaryFormat.teamSize(name)), team, name);
+      }
+      writer.reserve(Integer.BYTES).putInt(ongoingMatches.size());
+      for (Match match : ongoingMatches) {
+        writeMatch(writer, match, Long.BYTES).putLong(ongoingSequences.getOrDefault(match.id(),
+            ScoreUpdate.NO_SEQUENCE));
+      }
+      writer.reserve(Integer.BYTES).putInt(finishedMatches.size());
+      for (Match match : finishedMatches) {
+        writeMatch(writer, match, 0);
+      }
+      writer.finish();
+    }
+    Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    DirectorySync.force(file.getParent());
+  }
+
+  /**
+   * @return the chunk, with room for the given number of bytes after the match
+   */
+  private static ByteBuffer writeMatch(ChunkWriter writer, Match match, int trailerSize) throws IOException {
+    byte[] homeTeamName = BinaryFormat.encodeName(match.homeTeam());
+    byte[] visitorTeamName = BinaryFormat.encodeName(match.visitorTeam());
+    ByteBuffer chunk = writer.reserve(BinaryFormat.matchSize(homeTeamName, visitorTeamName) + trailerSize);
+    BinaryFormat.putMatch(chunk, match, homeTeamName, visitorTeamName);
+    return chunk;
+  }
+
+  static Loaded read(Path file, AvailableTeamStorage availableTeamStorage, OngoingMatchStorage ongoingMatchStorage,
+      FinishedMatchStorage finishedMatchStorage) throws IOException {
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      int contentLength = buffer.limit() - Integer.BYTES;
+      int magic = contentLength < Integer.BYTES + Long.BYTES ? 0 : buffer.getInt(0);
+      if (magic != MAGIC && magic != MAGIC_WITHOUT_SEQUENCES) {
+        throw new IllegalStateException("Not a score board snapshot: " + file);
+      }
+      var crc = new CRC32C();
+      crc.update(buffer.slice(0, contentLength));
+      if ((int) crc.getValue() != buffer.getInt(contentLength)) {
+        throw new IllegalStateException("Score board snapshot is corrupted: " + file);
+      }
+
+      buffer.position(Integer.BYTES);
+      long segment = buffer.getLong();
+      for (int i = buffer.getInt(); i > 0; i--) {
+        availableTeamStorage.put(BinaryFormat.getTeam(buffer));
+      }
+      for (int i = buffer.getInt(); i > 0; i--) {
+        Match match = ongoingMatchStorage.addMatch(BinaryFormat.getMatch(buffer));
+        long sequence = magic == MAGIC ? buffer.getLong() : ScoreUpdate.NO_SEQUENCE;
+        if (sequence != ScoreUpdate.NO_SEQUENCE) {
+          ongoingMatchStorage.updateScore(match.id(), match.homeTeamScore(), match.visitorTeamScore(), sequence);
+        }
+      }
+      Set<UUID> finishedMatchIds = new HashSet<>();
+      for (int i = buffer.getInt(); i > 0; i--) {
+        Match match = BinaryFormat.getMatch(buffer);
+        finishedMatchStorage.addMatch(match);
+        finishedMatchIds.add(match.id());
+      }
+      return new Loaded(segment, finishedMatchIds);
+    }
+  }
+
+  /**
+   * Writes the snapshot in chunks and computes its checksum on the way.
+   */
+  private static final class ChunkWriter implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final CRC32C crc = new CRC32C();
+    private ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+
+    ChunkWriter(FileChannel channel) {
+      this.channel = channel;
+    }
+
+    ByteBuffer reserve(int size) throws IOException {
+      if (chunk.remaining() < size) {
+        writeChunk();
+        if (chunk.capacity() < size) {
+          chunk = ByteBuffer.allocate(size);
+        }
+      }
+      return chunk;
+    }
+
+    void finish() throws IOException {
+      writeChunk();
+      chunk.putInt((int) crc.getValue());
+      chunk.flip();
+      while (chunk.hasRemaining()) {
+        channel.write(chunk);
+      }
+      channel.force(true);
+    }
+
+    private void writeChunk() throws IOException {
+      chunk.flip();
+      crc.update(chunk.duplicate());
+      while (chunk.hasRemaining()) {
+        channel.write(chunk);
+      }
+      chunk.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package org.example.infrastructure.persistence;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.example.domain.Match;
+
+/**
+ * LRU cache of the decoded pages of the {@link MatchSegment}s. The pages are decoded outside the lock, two readers
+ * missing the same page may both decode it.
+ */
+final class SegmentPageCache {
+
+  private final int capacity;
+  private final LinkedHashMap<PageKey, List<Match>> pages;
+  private long hits;
+  private long misses;
+
+  SegmentPageCache(int capacity) {
+    this.capacity = capacity;
+    this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<PageKey, List<Match>> eldest) {
+        return size() > SegmentPageCache.this.capacity;
+      }
+    };
+  }
+
+  List<Match> page(MatchSegment segment, int page) {
+    PageKey key = new PageKey(segment.id(), page);
+    synchronized (this) {
+      List<Match> matches = pages.get(key);
+      if (matches != null) {
+        hits++;
+        return matches;
+      }
+      misses++;
+    }
+    List<Match> matches = segment.readPage(page);
+    if (capacity > 0) {
+      synchronized (this) {
+        pages.put(key, matches);
+      }
+    }
+    return matches;
+  }
+
+  synchronized long hits() {
+    return hits;
+  }
+
+  synchronized long misses() {
+    return misses;
+  }
+
+  synchronized void clear() {
+    pages.clear();
+  }
+
+  private record PageKey(int segment, int page) {
+  }
+}
@@ -0,0 +1,436 @@
+package org.example.infrastructure.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.example.domain.Match;
+import org.example.domain.Team;
+import org.example.infrastructure.FinishedMatchStorage;
+
+/**
+ * Keeps the recently started finished matches in memory and evicts the older ones to immutable segment files, see
+ * {@link MatchSegment}. The matches are evicted in start time order when more than
+ * {@link TieredStorageConfig#maxHotMatches()} matches are in memory (the oldest half is evicted), or when a page of
+ * matches started more than {@link TieredStorageConfig#hotWindow()} before the most recently started match. The reads
+ * merge the two tiers, the cold matches are read on demand from the memory-mapped segments through an LRU page cache.
+ * <p>
+ * The segment files are the overflow of this storage, not a persistent copy of it: the segments left in the directory
+ * are deleted when the storage is created. The {@link ScoreBoardJournal} keeps the finished matches durable.
+ * <p>
+ * The adds don't lock, one adding thread at a time does the eviction. The eviction writes the segment, then publishes
+ * it and removes its matches from memory under the write lock. The reads take the two tiers under the read lock, so a
+ * match that is being evicted is read exactly once. A failed eviction keeps the matches in memory, it is counted in
+ * {@link TieredStorageStats#evictionFailures()} and retried by the first add a second later.
+ * <p>
+ * The summary merges the sorted matches in memory with the cold pages in the order of their highest total score, a
+ * page is decoded only when the next match of the summary can be on it.
+ */
+public final class TieredFinishedMatchStorage implements FinishedMatchStorage, Closeable {
+
+  private static final Comparator<Match> START_TIME_ORDER =
+      Comparator.comparing(Match::startTime).thenComparing(Match::id);
+  private static final Comparator<Match> SUMMARY_INDEX_ORDER = Match.SUMMARY_ORDER.thenComparing(Match::id);
+  private static final UUID PROBE_MATCH_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+  private static final Team PROBE_HOME_TEAM = new Team(new UUID(0, 0), "");
+  private static final Team PROBE_VISITOR_TEAM = new Team(new UUID(0, 1), "");
+  private static final Duration EVICTION_RETRY_INTERVAL = Duration.ofSeconds(1);
+
+  private final TieredStorageConfig config;
+  private final ConcurrentSkipListSet<Match> hotMatches = new ConcurrentSkipListSet<>(START_TIME_ORDER);
+  private final AtomicInteger hotMatchCount = new AtomicInteger();
+  private final AtomicReference<Instant> newestStartTime = new AtomicReference<>();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final ReentrantReadWriteLock tierLock = new ReentrantReadWriteLock();
+  private final SegmentPageCache pageCache;
+  private final LongAdder evictionFailures = new LongAdder();
+  private volatile List<MatchSegment> segments = List.of();
+  // System.nanoTime() before which a failed eviction is not retried
+  private volatile long evictionRetryNanos;
+  private volatile boolean evictionFailed;
+  // guarded by the eviction lock
+  private int nextSegmentId = 1;
+
+  public TieredFinishedMatchStorage(TieredStorageConfig config) {
+    this.config = config;
+    this.pageCache = new SegmentPageCache(config.cachedPages());
+    try {
+      Files.createDirectories(config.directory());
+      try (Stream<Path> files = Files.list(config.directory())) {
+        for (Path file : files.filter(MatchSegment::isSegmentFile).toList()) {
+          Files.delete(file);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Segment directory cannot be prepared: " + config.directory(), e);
+    }
+  }
+
+  @Override
+  public void addMatch(Match match) {
+    add(match);
+    evictIfNeeded();
+  }
+
+  @Override
+  public void addMatches(List<Match> matches) {
+    matches.forEach(this::add);
+    evictIfNeeded();
+  }
+
+  /**
+   * @return the cold matches segment by segment in start time order, then the matches in memory in start time order
+   */
+  @Override
+  public List<Match> getMatches() {
+    List<MatchSegment> currentSegments;
+    List<Match> currentHotMatches;
+    tierLock.readLock().lock();
+    try {
+      currentSegments = segments;
+      currentHotMatches = List.copyOf(hotMatches);
+    } finally {
+      tierLock.readLock().unlock();
+    }
+    List<Match> matches = new ArrayList<>(coldMatchCount(currentSegments) + currentHotMatches.size());
+    for (MatchSegment segment : currentSegments) {
+      for (int page = 0; page < segment.pageCount(); page++) {
+        matches.addAll(pageCache.page(segment, page));
+      }
+    }
+    matches.addAll(currentHotMatches);
+    return matches;
+  }
+
+  /**
+   * Reads the cold pages through the page cache only if they all fit into it, a larger scan would evict the cached
+   * pages without a hit.
+   */
+  @Override
+  public List<Match> getMatchSummary() {
+    SummaryIterator iterator = summaryIterator(false);
+    List<Match> summary = new ArrayList<>(iterator.size);
+    iterator.forEachRemaining(summary::add);
+    return List.copyOf(summary);
+  }
+
+  /**
+   * Decodes the cold pages as the stream reaches them, reading the first matches of the summary reads only the pages
+   * with the highest scores.
+   */
+  @Override
+  public Stream<Match> streamMatchSummary() {
+    SummaryIterator iterator = summaryIterator(true);
+    return StreamSupport.stream(Spliterators.spliterator(iterator, iterator.size,
+        Spliterator.ORDERED | Spliterator.NONNULL), false);
+  }
+
+  /**
+   * Skips the cold pages whose highest total score is below the last of the {@code limit} matches selected so far,
+   * those pages are not read.
+   */
+  @Override
+  public List<Match> getTopMatches(int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit must be 0 or a positive number.");
+    }
+    if (limit == 0) {
+      return List.of();
+    }
+    List<MatchSegment> currentSegments;
+    PriorityQueue<Match> top = new PriorityQueue<>(Math.min(limit, 1024) + 1, SUMMARY_INDEX_ORDER.reversed());
+    tierLock.readLock().lock();
+    try {
+      currentSegments = segments;
+      hotMatches.forEach(match -> offer(top, match, limit));
+    } finally {
+      tierLock.readLock().unlock();
+    }
+    for (MatchSegment segment : currentSegments) {
+      for (int page = 0; page < segment.pageCount(); page++) {
+        if (top.size() < limit || segment.pageMaxTotalScore(page) >= top.peek().totalScore()) {
+          pageCache.page(segment, page).forEach(match -> offer(top, match, limit));
+        }
+      }
+    }
+    List<Match> matches = new ArrayList<>(top);
+    matches.sort(SUMMARY_INDEX_ORDER);
+    return List.copyOf(matches);
+  }
+
+  /**
+   * Reads only the segments and the pages that overlap the time range.
+   *
+   * @return the matches started in {@code [from, to)} ordered by start time
+   */
+  public List<Match> getMatchesStartedBetween(Instant from, Instant to) {
+    List<MatchSegment> currentSegments;
+    List<Match> matches = new ArrayList<>();
+    tierLock.readLock().lock();
+    try {
+      currentSegments = segments;
+      matches.addAll(hotMatches.subSet(probe(from), probe(to)));
+    } finally {
+      tierLock.readLock().unlock();
+    }
+    for (MatchSegment segment : currentSegments) {
+      if (segment.lastStartTime().isBefore(from) || !segment.firstStartTime().isBefore(to)) {
+        continue;
+      }
+      for (int page = segment.firstPageFrom(from); page < segment.pageCount(); page++) {
+        List<Match> pageMatches = pageCache.page(segment, page);
+        for (Match match : pageMatches) {
+          if (!match.startTime().isBefore(from) && match.startTime().isBefore(to)) {
+            matches.add(match);
+          }
+        }
+        if (!pageMatches.getLast().startTime().isBefore(to)) {
+          break;
+        }
+      }
+    }
+    matches.sort(START_TIME_ORDER);
+    return matches;
+  }
+
+  public TieredStorageStats stats() {
+    List<MatchSegment> currentSegments = segments;
+    return new TieredStorageStats(hotMatchCount.get(), coldMatchCount(currentSegments), currentSegments.size(),
+        pageCache.hits(), pageCache.misses(), evictionFailures.sum());
+  }
+
+  /**
+   * Deletes the segment files, the evicted matches are no longer read.
+   */
+  @Override
+  public void close() {
+    evictionLock.lock();
+    tierLock.writeLock().lock();
+    try {
+      for (MatchSegment segment : segments) {
+        segment.delete();
+      }
+      segments = List.of();
+      pageCache.clear();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Segments cannot be deleted.", e);
+    } finally {
+      tierLock.writeLock().unlock();
+      evictionLock.unlock();
+    }
+  }
+
+  private void add(Match match) {
+    if (hotMatches.add(match)) {
+      hotMatchCount.incrementAndGet();
+      newestStartTime.accumulateAndGet(match.startTime(),
+          (newest, startTime) -> newest == null || startTime.isAfter(newest) ? startTime : newest);
+    }
+  }
+
+  private void evictIfNeeded() {
+    if (evictionFailed && System.nanoTime() - evictionRetryNanos < 0) {
+      return;
+    }
+    while (needsEviction() && evictionLock.tryLock()) {
+      try {
+        if (needsEviction() && !evict()) {
+          return;
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  private boolean needsEviction() {
+    if (hotMatchCount.get() > config.maxHotMatches()) {
+      return true;
+    }
+    Instant cutoff = cutoff();
+    if (cutoff == null) {
+      return false;
+    }
+    Iterator<Match> iterator = hotMatches.iterator();
+    int expiredMatches = 0;
+    while (expiredMatches < config.pageSize() && iterator.hasNext() && iterator.next().startTime().isBefore(cutoff)) {
+      expiredMatches++;
+    }
+    return expiredMatches == config.pageSize();
+  }
+
+  /**
+   * @return false if the segment cannot be written
+   */
+  private boolean evict() {
+    int count = hotMatchCount.get();
+    int keep = count > config.maxHotMatches() ? config.maxHotMatches() / 2 : count;
+    Instant cutoff = cutoff();
+    List<Match> evicted = new ArrayList<>();
+    for (Match match : hotMatches) {
+      if (count - evicted.size() > keep || (cutoff != null && match.startTime().isBefore(cutoff))) {
+        evicted.add(match);
+      } else {
+        break;
+      }
+    }
+    if (evicted.isEmpty()) {
+      return true;
+    }
+
+    int segmentId = nextSegmentId++;
+    Path file = config.directory().resolve(MatchSegment.fileName(segmentId));
+    MatchSegment segment;
+    try {
+      segment = MatchSegment.write(segmentId, file, evicted, config.pageSize());
+    } catch (IOException e) {
+      // the matches stay in memory, a later add retries
+      evictionFailures.increment();
+      evictionRetryNanos = System.nanoTime() + EVICTION_RETRY_INTERVAL.toNanos();
+      evictionFailed = true;
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException ignore) {
+        // the segment files are deleted by the next storage created in the directory
+      }
+      return false;
+    }
+    evictionFailed = false;
+    tierLock.writeLock().lock();
+    try {
+      List<MatchSegment> newSegments = new ArrayList<>(segments);
+      newSegments.add(segment);
+      segments = List.copyOf(newSegments);
+      evicted.forEach(hotMatches::remove);
+      hotMatchCount.addAndGet(-evicted.size());
+    } finally {
+      tierLock.writeLock().unlock();
+    }
+    return true;
+  }
+
+  private SummaryIterator summaryIterator(boolean cached) {
+    List<MatchSegment> currentSegments;
+    List<Match> currentHotMatches;
+    tierLock.readLock().lock();
+    try {
+      currentSegments = segments;
+      currentHotMatches = new ArrayList<>(hotMatches);
+    } finally {
+      tierLock.readLock().unlock();
+    }
+    currentHotMatches.sort(SUMMARY_INDEX_ORDER);
+    int coldPageCount = 0;
+    for (MatchSegment segment : currentSegments) {
+      coldPageCount += segment.pageCount();
+    }
+    return new SummaryIterator(currentSegments, currentHotMatches,
+        cached || coldPageCount <= config.cachedPages());
+  }
+
+  private Instant cutoff() {
+    Instant newest = newestStartTime.get();
+    return newest == null || config.hotWindow().isZero() ? null : newest.minus(config.hotWindow());
+  }
+
+  private static int coldMatchCount(List<MatchSegment> segments) {
+    int count = 0;
+    for (MatchSegment segment : segments) {
+      count += segment.matchCount();
+    }
+    return count;
+  }
+
+  private static void offer(PriorityQueue<Match> top, Match match, int limit) {
+    if (top.size() < limit) {
+      top.add(match);
+    } else if (SUMMARY_INDEX_ORDER.compare(match, top.peek()) < 0) {
+      top.poll();
+      top.add(match);
+    }
+  }
+
+  private static Match probe(Instant startTime) {
+    return new Match(PROBE_MATCH_ID, PROBE_HOME_TEAM, PROBE_VISITOR_TEAM, 0, 0, startTime);
+  }
+
+  private record ColdPage(MatchSegment segment, int page, int maxTotalScore) {
+  }
+
+  /**
+   * Merges the hot matches, sorted in summary order, with the decoded cold matches. The next match is returned only if
+   * its total score is above the highest total score of the pages not decoded yet, otherwise the page with the highest
+   * score is decoded first.
+   */
+  private final class SummaryIterator implements Iterator<Match> {
+
+    private final List<Match> hot;
+    private final PriorityQueue<ColdPage> pendingPages =
+        new PriorityQueue<>(Comparator.comparingInt(ColdPage::maxTotalScore).reversed());
+    private final PriorityQueue<Match> decoded = new PriorityQueue<>(SUMMARY_INDEX_ORDER);
+    private final boolean cached;
+    private final int size;
+    private int hotIndex;
+
+    SummaryIterator(List<MatchSegment> segments, List<Match> hot, boolean cached) {
+      this.hot = hot;
+      this.cached = cached;
+      for (MatchSegment segment : segments) {
+        for (int page = 0; page < segment.pageCount(); page++) {
+          pendingPages.add(new ColdPage(segment, page, segment.pageMaxTotalScore(page)));
+        }
+      }
+      this.size = hot.size() + coldMatchCount(segments);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return hotIndex < hot.size() || !decoded.isEmpty() || !pendingPages.isEmpty();
+    }
+
+    @Override
+    public Match next() {
+      while (true) {
+        Match hotMatch = hotIndex < hot.size() ? hot.get(hotIndex) : null;
+        Match coldMatch = decoded.peek();
+        Match candidate = coldMatch == null
+            || hotMatch != null && SUMMARY_INDEX_ORDER.compare(hotMatch, coldMatch) < 0 ? hotMatch : coldMatch;
+        if (!pendingPages.isEmpty()
+            && (candidate == null || candidate.totalScore() <= pendingPages.peek().maxTotalScore())) {
+          ColdPage page = pendingPages.poll();
+          decoded.addAll(cached ? pageCache.page(page.segment(), page.page()) : page.segment().readPage(page.page()));
+          continue;
+        }
+        if (candidate == null) {
+          throw new NoSuchElementException();
+        }
+        if (candidate == hotMatch) {
+          hotIndex++;
+        } else {
+          decoded.poll();
+        }
+        return candidate;
+      }
+    }
+  }
+}
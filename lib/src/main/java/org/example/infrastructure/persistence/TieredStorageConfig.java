@@ -0,0 +1,43 @@
+package org.example.infrastructure.persistence;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * @param directory     directory of the cold segment files, created if it doesn't exist
+ * @param maxHotMatches maximum number of finished matches kept in memory, above it the oldest half is evicted to a
+ *                      segment
+ * @param hotWindow     the matches started more than this before the most recently started match are evicted,
+ *                      {@link Duration#ZERO} turns the time based eviction off
+ * @param pageSize      number of matches in a segment page, the unit of reading and caching the cold matches
+ * @param cachedPages   maximum number of decoded segment pages kept in the LRU page cache
+ */
+public record TieredStorageConfig(Path directory, int maxHotMatches, Duration hotWindow, int pageSize,
+                                  int cachedPages) {
+
+  public TieredStorageConfig {
+    Objects.requireNonNull(directory);
+    Objects.requireNonNull(hotWindow);
+
+    if (maxHotMatches < 1) {
+      throw new IllegalArgumentException("maxHotMatches must be a positive number.");
+    }
+
+    if (hotWindow.isNegative()) {
+      throw new IllegalArgumentException("hotWindow must be 0 or a positive duration.");
+    }
+
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("pageSize must be a positive number.");
+    }
+
+    if (cachedPages < 0) {
+      throw new IllegalArgumentException("cachedPages must be 0 or a positive number.");
+    }
+  }
+
+  public TieredStorageConfig(Path directory) {
+    this(directory, 100_000, Duration.ofDays(30), 1024, 256);
+  }
+}
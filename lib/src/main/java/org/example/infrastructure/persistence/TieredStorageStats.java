@@ -0,0 +1,18 @@
+package org.example.infrastructure.persistence;
+
+/**
+ * @param hotMatches       number of finished matches kept in memory
+ * @param coldMatches      number of finished matches evicted to the segment files
+ * @param segments         number of segment files
+ * @param pageCacheHits    number of cold page reads served from the page cache
+ * @param pageCacheMisses  number of cold page reads decoded from a segment file
+ * @param evictionFailures number of evictions that could not write their segment, the matches stayed in memory
+ */
+public record TieredStorageStats(int hotMatches,
+                                 long coldMatches,
+                                 int segments,
+                                 long pageCacheHits,
+                                 long pageCacheMisses,
+                                 long evictionFailures) {
+
+}
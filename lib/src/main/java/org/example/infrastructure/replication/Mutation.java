@@ -0,0 +1,66 @@
+package org.example.infrastructure.replication;
+
+import java.util.Objects;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.Team;
+
+/**
+ * Storage mutation of the leader, shipped to the followers in the order of the {@link ReplicationLog}.
+ */
+public sealed interface Mutation {
+
+  record TeamPut(Team team) implements Mutation {
+
+    public TeamPut {
+      Objects.requireNonNull(team);
+    }
+  }
+
+  record TeamTaken(UUID teamUuid) implements Mutation {
+
+    public TeamTaken {
+      Objects.requireNonNull(teamUuid);
+    }
+  }
+
+  record TeamPairTaken(UUID homeTeamUuid, UUID visitorTeamUuid) implements Mutation {
+
+    public TeamPairTaken {
+      Objects.requireNonNull(homeTeamUuid);
+      Objects.requireNonNull(visitorTeamUuid);
+    }
+  }
+
+  record MatchStarted(Match match) implements Mutation {
+
+    public MatchStarted {
+      Objects.requireNonNull(match);
+    }
+  }
+
+  /**
+   * @param sequence {@link ScoreUpdate#NO_SEQUENCE} if the update was not sequenced
+   */
+  record MatchUpdated(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) implements Mutation {
+
+    public MatchUpdated {
+      Objects.requireNonNull(matchUuid);
+    }
+  }
+
+  record MatchFinished(UUID matchUuid) implements Mutation {
+
+    public MatchFinished {
+      Objects.requireNonNull(matchUuid);
+    }
+  }
+
+  record FinishedMatchAdded(Match match) implements Mutation {
+
+    public FinishedMatchAdded {
+      Objects.requireNonNull(match);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package org.example.infrastructure.replication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.example.domain.BackpressureStrategy;
+import org.example.domain.Match;
+import org.example.domain.MatchResult;
+import org.example.domain.NewMatch;
+import org.example.domain.ScoreBoardEvent;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.SummaryCursor;
+import org.example.domain.SummaryPage;
+
+/**
+ * Serves the reads of a follower from its current replica, the mutations are only accepted by the leader.
+ */
+final class ReadOnlyScoreBoardService implements ScoreBoardService {
+
+  private final Supplier<ScoreBoardService> replica;
+
+  ReadOnlyScoreBoardService(Supplier<ScoreBoardService> replica) {
+    this.replica = replica;
+  }
+
+  @Override
+  public Match startNewMatch(UUID homeTeamUuid, UUID visitorTeamUuid, Instant startTime) {
+    throw readOnly();
+  }
+
+  @Override
+  public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    throw readOnly();
+  }
+
+  @Override
+  public void updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    throw readOnly();
+  }
+
+  @Override
+  public Match updateOngoingMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    throw readOnly();
+  }
+
+  @Override
+  public boolean updateOngoingMatchScore(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    throw readOnly();
+  }
+
+  @Override
+  public void finishMatch(UUID matchUuid) {
+    throw readOnly();
+  }
+
+  @Override
+  public List<MatchResult> startNewMatches(List<NewMatch> newMatches) {
+    throw readOnly();
+  }
+
+  @Override
+  public List<MatchResult> updateOngoingMatches(List<ScoreUpdate> updates) {
+    throw readOnly();
+  }
+
+  @Override
+  public List<MatchResult> finishMatches(List<UUID> matchUuids) {
+    throw readOnly();
+  }
+
+  /**
+   * The replicated mutations are not published as events, subscribe to the leader.
+   */
+  @Override
+  public void subscribe(Flow.Subscriber<? super ScoreBoardEvent> subscriber,
+      BackpressureStrategy backpressureStrategy, int bufferSize) {
+    throw new UnsupportedOperationException("Followers don't publish events, subscribe to the leader.");
+  }
+
+  @Override
+  public List<Match> getFinishedMatchSummary() {
+    return replica.get().getFinishedMatchSummary();
+  }
+
+  @Override
+  public List<Match> getTopFinishedMatches(int limit) {
+    return replica.get().getTopFinishedMatches(limit);
+  }
+
+  @Override
+  public SummaryPage getFinishedMatchSummaryPage(SummaryCursor cursor, int limit) {
+    return replica.get().getFinishedMatchSummaryPage(cursor, limit);
+  }
+
+  @Override
+  public Stream<Match> streamFinishedMatchSummary() {
+    return replica.get().streamFinishedMatchSummary();
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(WritableByteChannel channel) throws IOException {
+    replica.get().writeFinishedMatchSummary(channel);
+  }
+
+  @Override
+  public void writeFinishedMatchSummary(OutputStream outputStream) throws IOException {
+    replica.get().writeFinishedMatchSummary(outputStream);
+  }
+
+  @Override
+  public long countOfOngoingMatches() {
+    return replica.get().countOfOngoingMatches();
+  }
+
+  @Override
+  public List<Match> getOngoingMatchSummary() {
+    return replica.get().getOngoingMatchSummary();
+  }
+
+  private static UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException("Followers are read-only, the mutations are accepted by the leader.");
+  }
+}
@@ -0,0 +1,27 @@
+package org.example.infrastructure.replication;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * @param heartbeatInterval time after which an idle leader tells its followers its log offset, so they can measure
+ *                          their lag without traffic
+ * @param reconnectDelay    time a follower waits before it reconnects to the leader
+ */
+public record ReplicationConfig(Duration heartbeatInterval, Duration reconnectDelay) {
+
+  public ReplicationConfig {
+    Objects.requireNonNull(heartbeatInterval);
+    Objects.requireNonNull(reconnectDelay);
+    if (heartbeatInterval.isNegative() || heartbeatInterval.isZero()) {
+      throw new IllegalArgumentException("heartbeatInterval must be positive.");
+    }
+    if (reconnectDelay.isNegative()) {
+      throw new IllegalArgumentException("reconnectDelay must be 0 or positive.");
+    }
+  }
+
+  public ReplicationConfig() {
+    this(Duration.ofMillis(100), Duration.ofMillis(100));
+  }
+}
@@ -0,0 +1,228 @@
+package org.example.infrastructure.replication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.Team;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.FinishedMatchStorage;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.InMemorySortedFinishedMatchStorage;
+import org.example.infrastructure.OngoingMatchStorage;
+import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
+import org.example.infrastructure.metrics.LatencyHistogram;
+import org.example.infrastructure.replication.Mutation.FinishedMatchAdded;
+import org.example.infrastructure.replication.Mutation.MatchFinished;
+import org.example.infrastructure.replication.Mutation.MatchStarted;
+import org.example.infrastructure.replication.Mutation.MatchUpdated;
+import org.example.infrastructure.replication.Mutation.TeamPairTaken;
+import org.example.infrastructure.replication.Mutation.TeamPut;
+import org.example.infrastructure.replication.Mutation.TeamTaken;
+
+/**
+ * Keeps a copy of the leader's storages and serves the read-only {@link #scoreBoardService()} from it. One virtual
+ * thread receives the mutations from the {@link ReplicationLeader} and applies them in the order of the leader's log.
+ * When the connection is lost the follower reconnects and continues from the offset after its last applied mutation,
+ * or from a snapshot if the leader's log doesn't have that offset anymore. A snapshot is loaded into new storages,
+ * the reads are switched to them only when it is loaded completely. A leader that sends nothing, not even a heartbeat,
+ * for {@link #MISSED_HEARTBEATS} heartbeat intervals is treated as a lost connection.
+ */
+public final class ReplicationFollower implements Closeable {
+
+  static final int MISSED_HEARTBEATS = 3;
+
+  private final InetSocketAddress leaderAddress;
+  private final ReplicationConfig config;
+  private final ScoreBoardService scoreBoardService;
+  private final LatencyHistogram applyLag = new LatencyHistogram();
+  private final LongAdder connections = new LongAdder();
+  private final LongAdder snapshots = new LongAdder();
+  private final Thread receiver;
+  private volatile Replica replica = Replica.empty();
+  private volatile long appliedOffset;
+  private volatile long leaderOffset;
+  private volatile boolean connected;
+  private volatile Socket socket;
+  private volatile boolean closed;
+  // owned by the receiver thread
+  private long logId;
+  private Set<UUID> snapshotFinishedMatchIds = Set.of();
+
+  public ReplicationFollower(InetSocketAddress leaderAddress, ReplicationConfig config) {
+    this.leaderAddress = leaderAddress;
+    this.config = config;
+    this.scoreBoardService = new ReadOnlyScoreBoardService(() -> replica.scoreBoardService());
+    this.receiver = Thread.ofVirtual().name("replication-follower").start(this::receive);
+  }
+
+  /**
+   * @return the score board of the replicated storages, the mutations throw {@link UnsupportedOperationException}
+   */
+  public ScoreBoardService scoreBoardService() {
+    return scoreBoardService;
+  }
+
+  public ReplicationStats stats() {
+    return new ReplicationStats(appliedOffset, leaderOffset, connected, connections.sum(), snapshots.sum(),
+        applyLag.snapshot());
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    Socket currentSocket = socket;
+    if (currentSocket != null) {
+      try {
+        currentSocket.close();
+      } catch (IOException ignore) {
+        // already closed
+      }
+    }
+    receiver.interrupt();
+    try {
+      receiver.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void receive() {
+    while (!closed) {
+      try (var connection = new Socket()) {
+        socket = connection;
+        if (closed) {
+          return;
+        }
+        int readTimeoutMillis = Math.clamp(config.heartbeatInterval().toMillis() * MISSED_HEARTBEATS, 1,
+            Integer.MAX_VALUE);
+        connection.connect(leaderAddress, readTimeoutMillis);
+        connection.setSoTimeout(readTimeoutMillis);
+        connection.setTcpNoDelay(true);
+        var output = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+        output.writeLong(logId);
+        output.writeLong(appliedOffset);
+        output.flush();
+        connected = true;
+        connections.increment();
+        receiveFrames(new DataInputStream(new BufferedInputStream(connection.getInputStream(), 1 << 16)));
+      } catch (SocketTimeoutException e) {
+        // the leader or the network is stuck, the connection is lost
+      } catch (IOException e) {
+        // the leader is not reachable or the connection is lost
+      } finally {
+        connected = false;
+      }
+      try {
+        Thread.sleep(config.reconnectDelay());
+      } catch (InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  private void receiveFrames(DataInputStream input) throws IOException {
+    while (true) {
+      byte frame = input.readByte();
+      switch (frame) {
+        case ReplicationProtocol.SNAPSHOT -> loadSnapshot(input);
+        case ReplicationProtocol.MUTATION -> {
+          long offset = input.readLong();
+          long timestampMillis = input.readLong();
+          Mutation mutation = ReplicationProtocol.readMutation(input);
+          if (offset != appliedOffset) {
+            throw new IOException("Mutation " + appliedOffset + " was expected, but " + offset + " was received.");
+          }
+          apply(replica, mutation);
+          appliedOffset = offset + 1;
+          applyLag.record(TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis() - timestampMillis)));
+        }
+        case ReplicationProtocol.HEARTBEAT -> leaderOffset = input.readLong();
+        default -> throw new IOException("Unknown replication frame: " + frame);
+      }
+    }
+  }
+
+  private void loadSnapshot(DataInputStream input) throws IOException {
+    long snapshotLogId = input.readLong();
+    long offset = input.readLong();
+    Replica loaded = Replica.empty();
+    for (Team team : ReplicationProtocol.readTeams(input)) {
+      loaded.availableTeamStorage().put(team);
+    }
+    for (Match match : ReplicationProtocol.readMatches(input)) {
+      loaded.ongoingMatchStorage().addMatch(match);
+    }
+    List<Match> finishedMatches = ReplicationProtocol.readMatches(input);
+    loaded.finishedMatchStorage().addMatches(finishedMatches);
+    snapshotFinishedMatchIds = finishedMatches.stream().map(Match::id).collect(Collectors.toUnmodifiableSet());
+    logId = snapshotLogId;
+    appliedOffset = offset;
+    leaderOffset = offset;
+    replica = loaded;
+    snapshots.increment();
+  }
+
+  /**
+   * Applies the mutation if it is not applied yet. After a snapshot the copy may already contain the first mutations,
+   * the mutations of a team or a match are applied in order, so skipping the applied ones ends in the leader's state.
+   */
+  private void apply(Replica replica, Mutation mutation) {
+    try {
+      switch (mutation) {
+        case TeamPut(Team team) -> replica.availableTeamStorage().put(team);
+        case TeamTaken(UUID teamUuid) -> replica.availableTeamStorage().take(teamUuid);
+        case TeamPairTaken(UUID homeTeamUuid, UUID visitorTeamUuid) -> {
+          // the snapshot may contain only one of the taken teams
+          replica.availableTeamStorage().take(homeTeamUuid);
+          replica.availableTeamStorage().take(visitorTeamUuid);
+        }
+        case MatchStarted(Match match) -> replica.ongoingMatchStorage().addMatch(match);
+        case MatchUpdated(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) -> {
+          if (sequence == ScoreUpdate.NO_SEQUENCE) {
+            replica.ongoingMatchStorage().updateScore(matchUuid, homeTeamScore, visitorTeamScore);
+          } else {
+            replica.ongoingMatchStorage().updateScore(matchUuid, homeTeamScore, visitorTeamScore, sequence);
+          }
+        }
+        case MatchFinished(UUID matchUuid) -> replica.ongoingMatchStorage().finishMatch(matchUuid);
+        case FinishedMatchAdded(Match match) -> {
+          if (!snapshotFinishedMatchIds.contains(match.id())) {
+            replica.finishedMatchStorage().addMatch(match);
+          }
+        }
+      }
+    } catch (AlreadyExistsException | NotFoundException ignore) {
+      // already applied
+    }
+  }
+
+  private record Replica(AvailableTeamStorage availableTeamStorage, OngoingMatchStorage ongoingMatchStorage,
+                         FinishedMatchStorage finishedMatchStorage, ScoreBoardService scoreBoardService) {
+
+    static Replica empty() {
+      var availableTeamStorage = new InMemoryAvailableTeamStorage();
+      var ongoingMatchStorage = new InMemoryOngoingMatchStorage();
+      var finishedMatchStorage = new InMemorySortedFinishedMatchStorage();
+      return new Replica(availableTeamStorage, ongoingMatchStorage, finishedMatchStorage,
+          new ScoreBoardServiceImpl(ongoingMatchStorage, availableTeamStorage, finishedMatchStorage));
+    }
+  }
+}
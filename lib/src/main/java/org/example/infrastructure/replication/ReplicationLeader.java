@@ -0,0 +1,190 @@
+package org.example.infrastructure.replication;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.FinishedMatchStorage;
+import org.example.infrastructure.OngoingMatchStorage;
+
+/**
+ * Streams the {@link ReplicationLog} to the followers connected over TCP, every follower is served by its own virtual
+ * thread. A follower continues from the offset it sends. If the log doesn't have that offset anymore, the follower
+ * gets a snapshot of the storages first: the snapshot offset is taken before the storages are copied, so the copy may
+ * already contain some of the mutations after it, the follower skips them when they are already applied (like the
+ * journal replay).
+ */
+public class ReplicationLeader implements Closeable {
+
+  private static final int MAX_BATCH_SIZE = 1024;
+
+  private final ReplicationLog log;
+  private final AvailableTeamStorage availableTeamStorage;
+  private final OngoingMatchStorage ongoingMatchStorage;
+  private final FinishedMatchStorage finishedMatchStorage;
+  private final ReplicationConfig config;
+  private final ServerSocket serverSocket;
+  private final Set<Socket> followers = ConcurrentHashMap.newKeySet();
+  private final Set<Thread> followerThreads = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger followerCount = new AtomicInteger();
+  private final Thread acceptor;
+  private volatile boolean closed;
+
+  private ReplicationLeader(ReplicationLog log, AvailableTeamStorage availableTeamStorage,
+      OngoingMatchStorage ongoingMatchStorage, FinishedMatchStorage finishedMatchStorage, ReplicationConfig config,
+      ServerSocket serverSocket) {
+    this.log = log;
+    this.availableTeamStorage = availableTeamStorage;
+    this.ongoingMatchStorage = ongoingMatchStorage;
+    this.finishedMatchStorage = finishedMatchStorage;
+    this.config = config;
+    this.serverSocket = serverSocket;
+    this.acceptor = Thread.ofVirtual().name("replication-leader-acceptor").unstarted(this::acceptFollowers);
+  }
+
+  /**
+   * @param bindAddress the address the followers connect to, port 0 for any free port
+   * @param availableTeamStorage the storages the mutations of the log are applied to, the snapshots are copied from
+   *                             them
+   */
+  public static ReplicationLeader start(ReplicationLog log, AvailableTeamStorage availableTeamStorage,
+      OngoingMatchStorage ongoingMatchStorage, FinishedMatchStorage finishedMatchStorage, ReplicationConfig config,
+      InetSocketAddress bindAddress) {
+    try {
+      var serverSocket = new ServerSocket();
+      serverSocket.setReuseAddress(true);
+      serverSocket.bind(bindAddress);
+      var leader = new ReplicationLeader(log, availableTeamStorage, ongoingMatchStorage, finishedMatchStorage, config,
+          serverSocket);
+      leader.acceptor.start();
+      return leader;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Replication leader cannot be started on " + bindAddress, e);
+    }
+  }
+
+  public InetSocketAddress address() {
+    return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+  }
+
+  /**
+   * @return the number of connected followers
+   */
+  public int followerCount() {
+    return followers.size();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      serverSocket.close();
+    } catch (IOException ignore) {
+      // the acceptor stops anyway
+    }
+    try {
+      acceptor.join();
+      disconnectFollowers();
+      for (Thread thread : followerThreads) {
+        thread.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Drops the connections, the followers reconnect and continue from their offset.
+   */
+  void disconnectFollowers() {
+    for (Socket follower : followers) {
+      try {
+        follower.close();
+      } catch (IOException ignore) {
+        // already closed
+      }
+    }
+    followerThreads.forEach(Thread::interrupt);
+  }
+
+  private void acceptFollowers() {
+    while (!closed) {
+      Socket socket;
+      try {
+        socket = serverSocket.accept();
+      } catch (IOException e) {
+        // the server socket is closed
+        return;
+      }
+      followers.add(socket);
+      Thread thread = Thread.ofVirtual().name("replication-follower-" + followerCount.incrementAndGet())
+          .unstarted(() -> serve(socket));
+      followerThreads.add(thread);
+      thread.start();
+    }
+  }
+
+  private void serve(Socket socket) {
+    try (socket) {
+      socket.setTcpNoDelay(true);
+      var input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      var output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+      long logId = input.readLong();
+      long offset = input.readLong();
+      if (logId != log.id()) {
+        offset = -1;
+      }
+      long heartbeatNanos = config.heartbeatInterval().toNanos();
+      List<ReplicationLog.Entry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+      while (!closed) {
+        batch.clear();
+        if (!log.read(offset, MAX_BATCH_SIZE, batch)) {
+          offset = writeSnapshot(output);
+          continue;
+        }
+        if (batch.isEmpty()) {
+          if (!log.awaitAppend(offset, heartbeatNanos, TimeUnit.NANOSECONDS)) {
+            ReplicationProtocol.writeHeartbeat(output, log.endOffset());
+            output.flush();
+          }
+          continue;
+        }
+        for (ReplicationLog.Entry entry : batch) {
+          ReplicationProtocol.writeEntry(output, entry);
+        }
+        offset += batch.size();
+        // tells the follower how far behind it is
+        ReplicationProtocol.writeHeartbeat(output, log.endOffset());
+        output.flush();
+      }
+    } catch (IOException | InterruptedException e) {
+      // the follower disconnected or the leader is closed, the follower reconnects with its offset
+    } finally {
+      followers.remove(socket);
+      followerThreads.remove(Thread.currentThread());
+    }
+  }
+
+  /**
+   * @return the offset the follower continues from after the snapshot
+   */
+  private long writeSnapshot(DataOutputStream output) throws IOException {
+    long offset = log.endOffset();
+    ReplicationProtocol.writeSnapshot(output, log.id(), offset, availableTeamStorage.getTeams(),
+        ongoingMatchStorage.getOngoingMatchSummary(), finishedMatchStorage.getMatches());
+    return offset;
+  }
+}
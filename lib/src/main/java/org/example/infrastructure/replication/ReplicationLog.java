@@ -0,0 +1,273 @@
+package org.example.infrastructure.replication;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.example.domain.Match;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.Team;
+import org.example.infrastructure.codec.ScoreBoardCodec;
+import org.example.infrastructure.persistence.MutationLog;
+
+/**
+ * In-memory log of the leader's storage mutations, every mutation gets the next offset. The storages of the leader
+ * have to be wrapped into the {@code Journaled*Storage} decorators with this log. Only the last {@code capacity}
+ * mutations are kept, a follower that is further behind catches up from a snapshot.
+ * <p>
+ * An append claims its offset with one atomic increment, encodes the mutation into the buffer of the offset's slot and
+ * publishes the slot with a volatile write, like the {@link org.example.infrastructure.engine.MpscRingBuffer}. The
+ * appends don't lock and don't allocate after the first lap, the slot buffers are reused. A reader copies the slot and
+ * checks that it was not overwritten meanwhile.
+ */
+public class ReplicationLog implements MutationLog {
+
+  /**
+   * @param offset          position of the mutation in the log
+   * @param timestampMillis wall clock time of the append
+   * @param mutation        the mutation in the {@link ReplicationProtocol} format
+   */
+  public record Entry(long offset, long timestampMillis, byte[] mutation) {
+
+  }
+
+  private static final long WRITING = Long.MIN_VALUE;
+  private static final int INITIAL_SLOT_SIZE = 128;
+
+  // a follower of another log (e.g. of a restarted leader) cannot continue from its offset
+  private final long id = ThreadLocalRandom.current().nextLong();
+  private final Slot[] slots;
+  private final AtomicLong endOffset = new AtomicLong();
+  // the readers parked in awaitAppend, replaced under the lock of the log
+  private volatile Thread[] waiters = new Thread[0];
+
+  public ReplicationLog(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be a positive number.");
+    }
+    this.slots = new Slot[capacity];
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = new Slot(i - capacity);
+    }
+  }
+
+  public long id() {
+    return id;
+  }
+
+  /**
+   * @return the offset of the next mutation
+   */
+  public long endOffset() {
+    return endOffset.get();
+  }
+
+  /**
+   * @return the offset of the oldest mutation still in the log
+   */
+  public long firstOffset() {
+    return Math.max(0, endOffset.get() - slots.length);
+  }
+
+  /**
+   * Adds the entries from {@code fromOffset} on, at most {@code maxEntries}, to {@code target}. Stops early at an
+   * entry that is not published yet.
+   *
+   * @return false if the log doesn't have the entries from {@code fromOffset} anymore (or yet), {@code target} is left
+   * unchanged then
+   */
+  public boolean read(long fromOffset, int maxEntries, List<Entry> target) {
+    long end = endOffset.get();
+    if (fromOffset < Math.max(0, end - slots.length) || fromOffset > end) {
+      return false;
+    }
+    int targetSize = target.size();
+    long toOffset = Math.min(end, fromOffset + maxEntries);
+    for (long offset = fromOffset; offset < toOffset; offset++) {
+      Slot slot = slot(offset);
+      long published = slot.offset;
+      if (published == offset) {
+        long timestampMillis = slot.timestampMillis;
+        byte[] bytes = slot.buffer.array();
+        byte[] mutation = Arrays.copyOf(bytes, Math.min(slot.size, bytes.length));
+        // orders the copy before the check, a later append marks the slot before it writes
+        VarHandle.acquireFence();
+        if (slot.offset == offset) {
+          target.add(new Entry(offset, timestampMillis, mutation));
+          continue;
+        }
+      }
+      if (offset < endOffset.get() - slots.length) {
+        // overwritten while it was read
+        target.subList(targetSize, target.size()).clear();
+        return false;
+      }
+      // not published yet
+      break;
+    }
+    return true;
+  }
+
+  /**
+   * Waits until a mutation is appended at {@code offset}.
+   *
+   * @return false if the timeout elapsed first
+   */
+  public boolean awaitAppend(long offset, long timeout, TimeUnit unit) throws InterruptedException {
+    if (isPublished(offset)) {
+      return true;
+    }
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    Thread current = Thread.currentThread();
+    addWaiter(current);
+    try {
+      while (!isPublished(offset)) {
+        long nanos = deadline - System.nanoTime();
+        if (nanos <= 0) {
+          return false;
+        }
+        LockSupport.parkNanos(this, nanos);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+      return true;
+    } finally {
+      removeWaiter(current);
+    }
+  }
+
+  @Override
+  public long teamPut(Team team) {
+    Slot slot = begin(ReplicationProtocol.TEAM_PUT, ScoreBoardCodec.teamSize(team));
+    ScoreBoardCodec.encodeTeam(team, slot.buffer);
+    return publish(slot);
+  }
+
+  @Override
+  public long teamTaken(UUID teamUuid) {
+    Slot slot = begin(ReplicationProtocol.TEAM_TAKEN, ScoreBoardCodec.UUID_SIZE);
+    ScoreBoardCodec.encodeUuid(teamUuid, slot.buffer);
+    return publish(slot);
+  }
+
+  @Override
+  public long teamPairTaken(Team homeTeam, Team visitorTeam) {
+    Slot slot = begin(ReplicationProtocol.TEAM_PAIR_TAKEN, 2 * ScoreBoardCodec.UUID_SIZE);
+    ScoreBoardCodec.encodeUuid(homeTeam.id(), slot.buffer);
+    ScoreBoardCodec.encodeUuid(visitorTeam.id(), slot.buffer);
+    return publish(slot);
+  }
+
+  @Override
+  public long matchStarted(Match match) {
+    Slot slot = begin(ReplicationProtocol.MATCH_STARTED, ScoreBoardCodec.matchSize(match));
+    ScoreBoardCodec.encodeMatch(match, slot.buffer);
+    return publish(slot);
+  }
+
+  @Override
+  public long matchUpdated(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+    return matchUpdated(matchUuid, homeTeamScore, visitorTeamScore, ScoreUpdate.NO_SEQUENCE);
+  }
+
+  @Override
+  public long matchUpdated(UUID matchUuid, int homeTeamScore, int visitorTeamScore, long sequence) {
+    Slot slot = begin(ReplicationProtocol.MATCH_UPDATED, ReplicationProtocol.MATCH_UPDATED_SIZE);
+    ScoreBoardCodec.encodeUuid(matchUuid, slot.buffer);
+    slot.buffer.putInt(homeTeamScore).putInt(visitorTeamScore).putLong(sequence);
+    return publish(slot);
+  }
+
+  @Override
+  public long matchFinished(Match match) {
+    Slot slot = begin(ReplicationProtocol.MATCH_FINISHED, ScoreBoardCodec.UUID_SIZE);
+    ScoreBoardCodec.encodeUuid(match.id(), slot.buffer);
+    return publish(slot);
+  }
+
+  @Override
+  public long finishedMatchAdded(Match match) {
+    Slot slot = begin(ReplicationProtocol.FINISHED_MATCH_ADDED, ScoreBoardCodec.matchSize(match));
+    ScoreBoardCodec.encodeMatch(match, slot.buffer);
+    return publish(slot);
+  }
+
+  /**
+   * Claims the next offset and marks its slot as being written.
+   *
+   * @return the slot with its buffer positioned after the mutation type
+   */
+  private Slot begin(byte type, int size) {
+    long offset = endOffset.getAndIncrement();
+    Slot slot = slot(offset);
+    // the append of the previous lap may not be published yet
+    long previousOffset = offset - slots.length;
+    while (slot.offset != previousOffset) {
+      Thread.onSpinWait();
+    }
+    slot.offset = WRITING;
+    // keeps the writes of the slot after the mark
+    VarHandle.storeStoreFence();
+    slot.writingOffset = offset;
+    if (slot.buffer == null) {
+      slot.buffer = ByteBuffer.allocate(Math.max(1 + size, INITIAL_SLOT_SIZE));
+    } else if (slot.buffer.capacity() < 1 + size) {
+      slot.buffer = ByteBuffer.allocate(Math.max(1 + size, 2 * slot.buffer.capacity()));
+    }
+    slot.buffer.clear().put(type);
+    return slot;
+  }
+
+  private long publish(Slot slot) {
+    long offset = slot.writingOffset;
+    slot.size = slot.buffer.position();
+    slot.timestampMillis = System.currentTimeMillis();
+    slot.offset = offset;
+    for (Thread waiter : waiters) {
+      LockSupport.unpark(waiter);
+    }
+    return offset;
+  }
+
+  private boolean isPublished(long offset) {
+    long published = slot(offset).offset;
+    return published != WRITING && published >= offset || offset < endOffset.get() - slots.length;
+  }
+
+  private Slot slot(long offset) {
+    return slots[(int) (offset % slots.length)];
+  }
+
+  private synchronized void addWaiter(Thread waiter) {
+    Thread[] current = waiters;
+    Thread[] updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = waiter;
+    waiters = updated;
+  }
+
+  private synchronized void removeWaiter(Thread waiter) {
+    waiters = Arrays.stream(waiters).filter(thread -> thread != waiter).toArray(Thread[]::new);
+  }
+
+  private static final class Slot {
+
+    // offset of the published mutation, WRITING while an append writes the slot
+    volatile long offset;
+    // written by the appender between the mark and the publication
+    long writingOffset;
+    long timestampMillis;
+    int size;
+    // allocated by the first append, reused by the next laps
+    ByteBuffer buffer;
+
+    Slot(long offset) {
+      this.offset = offset;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package org.example.infrastructure.replication;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.example.domain.Match;
+import org.example.domain.Team;
+import org.example.infrastructure.codec.ScoreBoardCodec;
+import org.example.infrastructure.replication.Mutation.FinishedMatchAdded;
+import org.example.infrastructure.replication.Mutation.MatchFinished;
+import org.example.infrastructure.replication.Mutation.MatchStarted;
+import org.example.infrastructure.replication.Mutation.MatchUpdated;
+import org.example.infrastructure.replication.Mutation.TeamPairTaken;
+import org.example.infrastructure.replication.Mutation.TeamPut;
+import org.example.infrastructure.replication.Mutation.TeamTaken;
+
+/**
+ * Messages between the leader and a follower. The follower starts with {@code [long log id][long next offset]}, the
+ * leader answers with a stream of frames, each starting with its type:
+ * <ul>
+ *   <li>{@link #SNAPSHOT}: {@code [long log id][long offset][int size][teams][int size][ongoing summary][int size]
+ *   [finished summary]}, the follower continues from the offset</li>
+ *   <li>{@link #MUTATION}: {@code [long offset][long timestamp][int size][byte mutation type][mutation]}</li>
+ *   <li>{@link #HEARTBEAT}: {@code [long end offset of the leader's log]}</li>
+ * </ul>
+ * The teams, the matches and the summaries use the {@link ScoreBoardCodec} format, the teams of the snapshot are
+ * {@code [int count][teams]}. The {@link ReplicationLog} encodes the mutations when they are appended, the leader
+ * writes them to the followers as they are.
+ */
+final class ReplicationProtocol {
+
+  static final byte SNAPSHOT = 1;
+  static final byte MUTATION = 2;
+  static final byte HEARTBEAT = 3;
+
+  static final byte TEAM_PUT = 1;
+  static final byte TEAM_TAKEN = 2;
+  static final byte TEAM_PAIR_TAKEN = 3;
+  static final byte MATCH_STARTED = 4;
+  static final byte MATCH_UPDATED = 5;
+  static final byte MATCH_FINISHED = 6;
+  static final byte FINISHED_MATCH_ADDED = 7;
+
+  // [uuid][int home team score][int visitor team score][long sequence]
+  static final int MATCH_UPDATED_SIZE = ScoreBoardCodec.UUID_SIZE + Integer.BYTES + Integer.BYTES + Long.BYTES;
+
+  private ReplicationProtocol() {
+  }
+
+  static void writeSnapshot(DataOutputStream output, long logId, long offset, List<Team> teams,
+      List<Match> ongoingMatches, List<Match> finishedMatches) throws IOException {
+    int teamsSize = Integer.BYTES;
+    for (Team team : teams) {
+      teamsSize += ScoreBoardCodec.teamSize(team);
+    }
+    ByteBuffer teamsBuffer = ByteBuffer.allocate(teamsSize).putInt(teams.size());
+    for (Team team : teams) {
+      ScoreBoardCodec.encodeTeam(team, teamsBuffer);
+    }
+    output.writeByte(SNAPSHOT);
+    output.writeLong(logId);
+    output.writeLong(offset);
+    writeBuffer(output, teamsBuffer.flip());
+    writeBuffer(output, ScoreBoardCodec.encodeSummary(ongoingMatches));
+    writeBuffer(output, ScoreBoardCodec.encodeSummary(finishedMatches));
+  }
+
+  static void writeEntry(DataOutputStream output, ReplicationLog.Entry entry) throws IOException {
+    output.writeByte(MUTATION);
+    output.writeLong(entry.offset());
+    output.writeLong(entry.timestampMillis());
+    output.writeInt(entry.mutation().length);
+    output.write(entry.mutation());
+  }
+
+  static void writeHeartbeat(DataOutputStream output, long endOffset) throws IOException {
+    output.writeByte(HEARTBEAT);
+    output.writeLong(endOffset);
+  }
+
+  static Mutation readMutation(DataInputStream input) throws IOException {
+    return decode(readBuffer(input), ReplicationProtocol::decodeMutation);
+  }
+
+  static List<Team> readTeams(DataInputStream input) throws IOException {
+    return decode(readBuffer(input), buffer -> {
+      int count = buffer.getInt();
+      if (count < 0 || count > buffer.remaining()) {
+        throw new IllegalArgumentException("Malformed team count: " + count);
+      }
+      List<Team> teams = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        teams.add(ScoreBoardCodec.decodeTeam(buffer));
+      }
+      return teams;
+    });
+  }
+
+  static List<Match> readMatches(DataInputStream input) throws IOException {
+    return decode(readBuffer(input), ScoreBoardCodec::decodeSummary);
+  }
+
+  /**
+   * Reads a mutation encoded by the {@link ReplicationLog}.
+   */
+  static Mutation decodeMutation(ByteBuffer buffer) {
+    byte type = buffer.get();
+    return switch (type) {
+      case TEAM_PUT -> new TeamPut(ScoreBoardCodec.decodeTeam(buffer));
+      case TEAM_TAKEN -> new TeamTaken(ScoreBoardCodec.decodeUuid(buffer));
+      case TEAM_PAIR_TAKEN -> new TeamPairTaken(ScoreBoardCodec.decodeUuid(buffer), ScoreBoardCodec.decodeUuid(buffer));
+      case MATCH_STARTED -> new MatchStarted(ScoreBoardCodec.decodeMatch(buffer));
+      case MATCH_UPDATED -> new MatchUpdated(ScoreBoardCodec.decodeUuid(buffer), buffer.getInt(), buffer.getInt(),
+          buffer.getLong());
+      case MATCH_FINISHED -> new MatchFinished(ScoreBoardCodec.decodeUuid(buffer));
+      case FINISHED_MATCH_ADDED -> new FinishedMatchAdded(ScoreBoardCodec.decodeMatch(buffer));
+      default -> throw new IllegalArgumentException("Unknown mutation type: " + type);
+    };
+  }
+
+  private static <T> T decode(ByteBuffer buffer, Function<ByteBuffer, T> decoder) throws IOException {
+    try {
+      return decoder.apply(buffer);
+    } catch (IllegalArgumentException | BufferUnderflowException e) {
+      throw new IOException("Malformed replication frame.", e);
+    }
+  }
+
+  private static void writeBuffer(DataOutputStream output, ByteBuffer buffer) throws IOException {
+    output.writeInt(buffer.remaining());
+    output.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+  }
+
+  private static ByteBuffer readBuffer(DataInputStream input) throws IOException {
+    int size = input.readInt();
+    if (size < 0) {
+      throw new IOException("Malformed replication frame size: " + size);
+    }
+    byte[] bytes = new byte[size];
+    input.readFully(bytes);
+    return ByteBuffer.wrap(bytes);
+  }
+}
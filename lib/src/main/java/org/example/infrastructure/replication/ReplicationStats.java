@@ -0,0 +1,27 @@
+package org.example.infrastructure.replication;
+
+import org.example.infrastructure.metrics.LatencySnapshot;
+
+/**
+ * @param appliedOffset offset of the next mutation the follower needs, all the mutations before it are applied
+ * @param leaderOffset  end of the leader's log, as last reported by the leader
+ * @param connected     whether the follower is connected to the leader
+ * @param connections   connections made to the leader, every reconnect adds one
+ * @param snapshots     snapshots loaded, a follower loads one when the leader doesn't have its offset anymore
+ * @param applyLag      time between the leader appending a mutation and the follower applying it, measured with the
+ *                      wall clocks of the two hosts
+ */
+public record ReplicationStats(long appliedOffset,
+                               long leaderOffset,
+                               boolean connected,
+                               long connections,
+                               long snapshots,
+                               LatencySnapshot applyLag) {
+
+  /**
+   * @return the number of mutations the follower is behind the leader
+   */
+  public long offsetLag() {
+    return Math.max(0, leaderOffset - appliedOffset);
+  }
+}
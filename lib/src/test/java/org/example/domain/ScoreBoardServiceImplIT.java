@@ -1,16 +1,26 @@
 package org.example.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.domain.MatchResult.Status;
 import org.example.infrastructure.AvailableTeamStorage;
 import org.example.infrastructure.FinishedMatchStorage;
 import org.example.infrastructure.InMemoryAvailableTeamStorage;
@@ -56,6 +66,7 @@ class ScoreBoardServiceImplIT {
 
     assertThrows(NotFoundException.class,
         () -> scoreBoardService.startNewMatch(homeTeamUuid, visitorTeamUuid, Instant.parse("2024-10-07T12:00:00Z")));
+    assertEquals(1, inMemoryAvailableTeamStorage.count(), "The home team should be still available");
   }
 
   @Test
@@ -202,6 +213,176 @@ class ScoreBoardServiceImplIT {
     assertEquals(match4.id(), summary.get(3).id());
   }
 
+  @Test
+  void shouldSummarizeOngoingMatchesOrderedByTotalScoresAndStartTime() {
+    var homeTeam1Uuid = UUID.randomUUID();
+    var visitorTeam1Uuid = UUID.randomUUID();
+    var homeTeam2Uuid = UUID.randomUUID();
+    var visitorTeam2Uuid = UUID.randomUUID();
+    var homeTeam3Uuid = UUID.randomUUID();
+    var visitorTeam3Uuid = UUID.randomUUID();
+    inMemoryAvailableTeamStorage.put(new Team(homeTeam1Uuid, "Austria"));
+    inMemoryAvailableTeamStorage.put(new Team(visitorTeam1Uuid, "England"));
+    inMemoryAvailableTeamStorage.put(new Team(homeTeam2Uuid, "France"));
+    inMemoryAvailableTeamStorage.put(new Team(visitorTeam2Uuid, "Belgium"));
+    inMemoryAvailableTeamStorage.put(new Team(homeTeam3Uuid, "Turkey"));
+    inMemoryAvailableTeamStorage.put(new Team(visitorTeam3Uuid, "Hungary"));
+
+    Match match1 = scoreBoardService.startNewMatch(homeTeam1Uuid, visitorTeam1Uuid,
+        Instant.parse("2024-10-07T12:00:00Z"));
+    Match match2 = scoreBoardService.startNewMatch(homeTeam2Uuid, visitorTeam2Uuid,
+        Instant.parse("2024-10-07T13:00:00Z"));
+    Match match3 = scoreBoardService.startNewMatch(homeTeam3Uuid, visitorTeam3Uuid,
+        Instant.parse("2024-10-07T12:00:00Z"));
+
+    scoreBoardService.updateOngoingMatch(match1.id(), 1, 1);
+    scoreBoardService.updateOngoingMatch(match2.id(), 0, 2);
+    scoreBoardService.updateOngoingMatch(match3.id(), 3, 0);
+
+    List<Match> summary = scoreBoardService.getOngoingMatchSummary();
+    assertEquals(3, summary.size());
+    assertEquals(match3.id(), summary.get(0).id());
+    assertEquals(match2.id(), summary.get(1).id());
+    assertEquals(match1.id(), summary.get(2).id());
+  }
+
+  @Test
+  void shouldStartUpdateAndFinishMatchesInBatches() {
+    var austria = inMemoryAvailableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var england = inMemoryAvailableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    var france = inMemoryAvailableTeamStorage.put(new Team(UUID.randomUUID(), "France"));
+    var belgium = inMemoryAvailableTeamStorage.put(new Team(UUID.randomUUID(), "Belgium"));
+    var startTime = Instant.parse("2024-10-07T12:00:00Z");
+
+    List<MatchResult> started = scoreBoardService.startNewMatches(List.of(
+        new NewMatch(austria.id(), england.id(), startTime),
+        new NewMatch(france.id(), UUID.randomUUID(), startTime),
+        new NewMatch(france.id(), france.id(), startTime),
+        new NewMatch(france.id(), belgium.id(), startTime)));
+    assertEquals(List.of(Status.SUCCESS, Status.NOT_FOUND, Status.INVALID, Status.SUCCESS),
+        started.stream().map(MatchResult::status).toList());
+    var match1 = started.get(0).match();
+    var match2 = started.get(3).match();
+    assertEquals(2, scoreBoardService.countOfOngoingMatches());
+
+    List<MatchResult> updated = scoreBoardService.updateOngoingMatches(List.of(
+        new ScoreUpdate(match1.id(), 2, 1),
+        new ScoreUpdate(UUID.randomUUID(), 1, 1),
+        new ScoreUpdate(match2.id(), -1, 0)));
+    assertEquals(List.of(Status.SUCCESS, Status.NOT_FOUND, Status.INVALID),
+        updated.stream().map(MatchResult::status).toList());
+    assertEquals(2, updated.get(0).match().homeTeamScore());
+
+    List<MatchResult> finished = scoreBoardService.finishMatches(List.of(match1.id(), match2.id(), match1.id()));
+    assertEquals(List.of(Status.SUCCESS, Status.SUCCESS, Status.NOT_FOUND),
+        finished.stream().map(MatchResult::status).toList());
+    assertEquals(0, scoreBoardService.countOfOngoingMatches());
+    assertEquals(4, inMemoryAvailableTeamStorage.count());
+    assertEquals(2, scoreBoardService.getFinishedMatchSummary().size());
+  }
+
+  @Test
+  void shouldPublishEvents_whenMatchIsStartedUpdatedAndFinished() throws InterruptedException {
+    var homeTeamUuid = UUID.randomUUID();
+    var visitorTeamUuid = UUID.randomUUID();
+    inMemoryAvailableTeamStorage.put(new Team(homeTeamUuid, "Austria"));
+    inMemoryAvailableTeamStorage.put(new Team(visitorTeamUuid, "England"));
+    var events = new LinkedBlockingQueue<ScoreBoardEvent>();
+    scoreBoardService.subscribe(new Flow.Subscriber<>() {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(ScoreBoardEvent item) {
+        events.add(item);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+      }
+
+      @Override
+      public void onComplete() {
+      }
+    }, BackpressureStrategy.BLOCK, 16);
+
+    Match match = scoreBoardService.startNewMatch(homeTeamUuid, visitorTeamUuid, Instant.parse("2024-10-07T12:00:00Z"));
+    Match updatedMatch = scoreBoardService.updateOngoingMatch(match.id(), 1, 0);
+    scoreBoardService.finishMatch(match.id());
+
+    assertEquals(new ScoreBoardEvent.MatchStarted(match), events.poll(5, TimeUnit.SECONDS));
+    assertEquals(new ScoreBoardEvent.ScoreUpdated(updatedMatch), events.poll(5, TimeUnit.SECONDS));
+    assertEquals(new ScoreBoardEvent.MatchFinished(updatedMatch), events.poll(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void shouldConflateToTheLatestScore_whenUpdatingMatchConcurrently() throws Exception {
+    var homeTeamUuid = UUID.randomUUID();
+    var visitorTeamUuid = UUID.randomUUID();
+    var secondUpdateDone = new CountDownLatch(1);
+    // the first update waits after it is applied until the second one is done, or until the wait times out when the
+    // second one cannot be applied before the first one is published
+    scoreBoardService = new ScoreBoardServiceImpl(new InMemoryOngoingMatchStorage() {
+      @Override
+      public Match updateMatch(UUID matchUuid, int homeTeamScore, int visitorTeamScore) {
+        Match updatedMatch = super.updateMatch(matchUuid, homeTeamScore, visitorTeamScore);
+        if (homeTeamScore == 1) {
+          try {
+            secondUpdateDone.await(200, TimeUnit.MILLISECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        return updatedMatch;
+      }
+    }, inMemoryAvailableTeamStorage, finishedMatchStorage);
+    inMemoryAvailableTeamStorage.put(new Team(homeTeamUuid, "Austria"));
+    inMemoryAvailableTeamStorage.put(new Team(visitorTeamUuid, "England"));
+    var events = new LinkedBlockingQueue<ScoreBoardEvent>();
+    var subscriptions = new LinkedBlockingQueue<Flow.Subscription>();
+    scoreBoardService.subscribe(new Flow.Subscriber<>() {
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+        // nothing is requested until the updates are done, so they are conflated in the buffer
+        subscriptions.add(subscription);
+      }
+
+      @Override
+      public void onNext(ScoreBoardEvent item) {
+        events.add(item);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+      }
+
+      @Override
+      public void onComplete() {
+      }
+    }, BackpressureStrategy.CONFLATE, 16);
+    Match match = scoreBoardService.startNewMatch(homeTeamUuid, visitorTeamUuid, Instant.parse("2024-10-07T12:00:00Z"));
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var firstUpdate = executor.submit(() -> scoreBoardService.updateOngoingMatch(match.id(), 1, 0));
+      while (scoreBoardService.getOngoingMatchSummary().getFirst().homeTeamScore() != 1) {
+        Thread.onSpinWait();
+      }
+      executor.submit(() -> {
+        scoreBoardService.updateOngoingMatch(match.id(), 2, 0);
+        secondUpdateDone.countDown();
+      }).get(5, TimeUnit.SECONDS);
+      firstUpdate.get(5, TimeUnit.SECONDS);
+    }
+    subscriptions.poll(5, TimeUnit.SECONDS).request(Long.MAX_VALUE);
+
+    assertEquals(new ScoreBoardEvent.MatchStarted(match), events.poll(5, TimeUnit.SECONDS));
+    Match latestMatch = scoreBoardService.getOngoingMatchSummary().getFirst();
+    assertEquals(2, latestMatch.homeTeamScore());
+    assertEquals(new ScoreBoardEvent.ScoreUpdated(latestMatch), events.poll(5, TimeUnit.SECONDS));
+  }
+
   @Test
   void shouldStoragesRemainConsistent_whenStartingAndFinishingMatchesConcurrently() throws InterruptedException {
     var homeTeam1Uuid = UUID.randomUUID();
@@ -244,4 +425,68 @@ class ScoreBoardServiceImplIT {
     assertNotNull(summary);
     assertEquals(4, summary.size());
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldFinishEveryMatchExactlyOnce_whenFinishingMatchesConcurrently() throws InterruptedException {
+    int countOfMatches = 2_000;
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < countOfMatches; i++) {
+      var homeTeam = inMemoryAvailableTeamStorage.put(new Team(UUID.randomUUID(), "Home " + i));
+      var visitorTeam = inMemoryAvailableTeamStorage.put(new Team(UUID.randomUUID(), "Visitor " + i));
+      matches.add(scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(), Instant.parse("2024-10-07T12:00:00Z")));
+    }
+
+    // every match is finished by two threads at the same time, only one of them can win
+    var successfulFinishes = new AtomicInteger();
+    var failedFinishes = new AtomicInteger();
+    var executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+    for (int i = 0; i < 2; i++) {
+      matches.forEach(match -> executor.execute(() -> {
+        try {
+          scoreBoardService.finishMatch(match.id());
+          successfulFinishes.incrementAndGet();
+        } catch (NotFoundException e) {
+          failedFinishes.incrementAndGet();
+        }
+      }));
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(countOfMatches, successfulFinishes.get());
+    assertEquals(countOfMatches, failedFinishes.get());
+    assertEquals(0, scoreBoardService.countOfOngoingMatches());
+    assertEquals(countOfMatches * 2L, inMemoryAvailableTeamStorage.count());
+    assertEquals(countOfMatches, scoreBoardService.getFinishedMatchSummary().size());
+  }
+
+  @Test
+  void shouldPageAndWriteFinishedMatchSummary() throws IOException {
+    List<Match> finishedMatches = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      var homeTeam = inMemoryAvailableTeamStorage.put(new Team(UUID.randomUUID(), "Home " + i));
+      var visitorTeam = inMemoryAvailableTeamStorage.put(new Team(UUID.randomUUID(), "Visitor " + i));
+      var match = scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(),
+          Instant.parse("2024-10-07T12:00:00Z").plusSeconds(i));
+      finishedMatches.add(scoreBoardService.updateOngoingMatch(match.id(), i, 1));
+      scoreBoardService.finishMatch(match.id());
+    }
+    var summary = finishedMatches.reversed();
+
+    var firstPage = scoreBoardService.getFinishedMatchSummaryPage(null, 2);
+    var secondPage = scoreBoardService.getFinishedMatchSummaryPage(firstPage.nextCursor(), 2);
+    var lastPage = scoreBoardService.getFinishedMatchSummaryPage(secondPage.nextCursor(), 2);
+    assertEquals(summary.subList(0, 2), firstPage.matches());
+    assertEquals(summary.subList(2, 4), secondPage.matches());
+    assertEquals(summary.subList(4, 5), lastPage.matches());
+    assertFalse(lastPage.hasNext());
+    assertEquals(summary.subList(0, 3), scoreBoardService.getTopFinishedMatches(3));
+    assertEquals(summary, scoreBoardService.streamFinishedMatchSummary().toList());
+
+    var outputStream = new ByteArrayOutputStream();
+    scoreBoardService.writeFinishedMatchSummary(outputStream);
+    var lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+    assertEquals(5, lines.size());
+    assertEquals("Home 4 4 - 1 Visitor 4", lines.getFirst());
+  }
+}
@@ -0,0 +1,73 @@
+package org.example.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.InMemorySortedFinishedMatchStorage;
+import org.example.infrastructure.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+class ShardedScoreBoardTest {
+
+  private static final Instant START_TIME = Instant.parse("2024-10-07T12:00:00Z");
+
+  @Test
+  void shouldIsolateTournaments() {
+    var scoreBoard = ShardedScoreBoard.inMemory();
+    var qualifiers = scoreBoard.tournament("qualifiers");
+    var friendlies = scoreBoard.tournament("friendlies");
+
+    assertSame(qualifiers, scoreBoard.tournament("qualifiers"));
+    assertNotSame(qualifiers, friendlies);
+    assertEquals(Set.of("qualifiers", "friendlies"), scoreBoard.tournaments());
+    assertThrows(NotFoundException.class, () -> scoreBoard.existingTournament("youth"));
+  }
+
+  @Test
+  void shouldMergeSummariesOfTournaments() {
+    List<InMemoryAvailableTeamStorage> teamStorages = new ArrayList<>();
+    var scoreBoard = new ShardedScoreBoard(tournament -> {
+      var teamStorage = new InMemoryAvailableTeamStorage();
+      teamStorages.add(teamStorage);
+      return new ScoreBoardServiceImpl(new InMemoryOngoingMatchStorage(), teamStorage,
+          new InMemorySortedFinishedMatchStorage());
+    });
+    var qualifiers = scoreBoard.tournament("qualifiers");
+    var friendlies = scoreBoard.tournament("friendlies");
+    var match1 = play(qualifiers, teamStorages.get(0), 3, 2, 0);
+    var match2 = play(friendlies, teamStorages.get(1), 4, 2, 1);
+    var match3 = play(qualifiers, teamStorages.get(0), 1, 1, 2);
+    var match4 = play(friendlies, teamStorages.get(1), 1, 0, 3);
+    var match5 = play(friendlies, teamStorages.get(1), 1, 1, 4);
+
+    assertEquals(List.of(match2, match1, match5, match3, match4), scoreBoard.getOngoingMatchSummary());
+    assertEquals(5, scoreBoard.countOfOngoingMatches());
+
+    List.of(match1, match3).forEach(match -> qualifiers.finishMatch(match.id()));
+    List.of(match2, match4, match5).forEach(match -> friendlies.finishMatch(match.id()));
+
+    assertEquals(List.of(match2, match1, match5, match3, match4), scoreBoard.getFinishedMatchSummary());
+    assertEquals(List.of(match2, match1, match5), scoreBoard.getTopFinishedMatches(3));
+    try (var summary = scoreBoard.streamFinishedMatchSummary()) {
+      assertEquals(List.of(match2, match1, match5, match3, match4), summary.toList());
+    }
+    assertEquals(0, scoreBoard.countOfOngoingMatches());
+  }
+
+  private static Match play(ScoreBoardService scoreBoard, InMemoryAvailableTeamStorage teamStorage,
+      int homeTeamScore, int visitorTeamScore, int startMinute) {
+    var homeTeam = teamStorage.put(new Team(UUID.randomUUID(), "Home " + startMinute));
+    var visitorTeam = teamStorage.put(new Team(UUID.randomUUID(), "Visitor " + startMinute));
+    var match = scoreBoard.startNewMatch(homeTeam.id(), visitorTeam.id(), START_TIME.plusSeconds(60L * startMinute));
+    return scoreBoard.updateOngoingMatch(match.id(), homeTeamScore, visitorTeamScore);
+  }
+}
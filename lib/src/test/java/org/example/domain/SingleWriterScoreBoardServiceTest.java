@@ -0,0 +1,197 @@
+package org.example.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.domain.MatchResult.Status;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemorySortedFinishedMatchStorage;
+import org.example.infrastructure.exceptions.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleWriterScoreBoardServiceTest {
+
+  private static final Instant START_TIME = Instant.parse("2024-10-07T12:00:00Z");
+
+  private InMemoryAvailableTeamStorage availableTeamStorage;
+  private SingleWriterScoreBoardService scoreBoardService;
+
+  @BeforeEach
+  void init() {
+    availableTeamStorage = new InMemoryAvailableTeamStorage();
+    scoreBoardService = new SingleWriterScoreBoardService(availableTeamStorage,
+        new InMemorySortedFinishedMatchStorage());
+  }
+
+  @AfterEach
+  void close() {
+    scoreBoardService.close();
+  }
+
+  @Test
+  void shouldStartUpdateAndFinishMatch() {
+    var match = startMatch(0);
+    var updatedMatch = scoreBoardService.updateOngoingMatch(match.id(), 2, 1);
+
+    assertEquals(List.of(updatedMatch), scoreBoardService.getOngoingMatchSummary());
+    assertEquals(1, scoreBoardService.countOfOngoingMatches());
+
+    scoreBoardService.finishMatch(match.id());
+
+    assertEquals(List.of(), scoreBoardService.getOngoingMatchSummary());
+    assertEquals(List.of(updatedMatch), scoreBoardService.getFinishedMatchSummary());
+    assertEquals(2, availableTeamStorage.count());
+  }
+
+  @Test
+  void shouldThrowExceptionsInCallerThread() {
+    var match = startMatch(0);
+
+    assertThrows(NotFoundException.class, () -> scoreBoardService.updateOngoingMatch(UUID.randomUUID(), 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> scoreBoardService.updateOngoingMatch(match.id(), -1, 0));
+    assertThrows(NotFoundException.class,
+        () -> scoreBoardService.startNewMatch(UUID.randomUUID(), UUID.randomUUID(), START_TIME));
+    scoreBoardService.finishMatch(match.id());
+    assertThrows(NotFoundException.class, () -> scoreBoardService.finishMatch(match.id()));
+  }
+
+  @Test
+  void shouldOrderOngoingSummaryByTotalScoresAndStartTime() {
+    var match1 = startMatch(0);
+    var match2 = startMatch(1);
+    var match3 = startMatch(2);
+    var results = scoreBoardService.updateOngoingMatches(List.of(new ScoreUpdate(match1.id(), 3, 3),
+        new ScoreUpdate(match2.id(), 1, 0), new ScoreUpdate(UUID.randomUUID(), 1, 0)));
+
+    assertEquals(List.of(Status.SUCCESS, Status.SUCCESS, Status.NOT_FOUND),
+        results.stream().map(MatchResult::status).toList());
+    assertEquals(List.of(match1.id(), match2.id(), match3.id()),
+        scoreBoardService.getOngoingMatchSummary().stream().map(Match::id).toList());
+  }
+
+  @Test
+  void shouldReuseOngoingSummary_untilOngoingMatchesChange() {
+    var match = startMatch(0);
+    var summary = scoreBoardService.getOngoingMatchSummary();
+
+    assertSame(summary, scoreBoardService.getOngoingMatchSummary());
+    scoreBoardService.finishMatches(List.of(UUID.randomUUID()));
+    assertSame(summary, scoreBoardService.getOngoingMatchSummary());
+
+    var updatedMatch = scoreBoardService.updateOngoingMatch(match.id(), 1, 0);
+
+    assertNotSame(summary, scoreBoardService.getOngoingMatchSummary());
+    assertEquals(List.of(updatedMatch), scoreBoardService.getOngoingMatchSummary());
+  }
+
+  @Test
+  void shouldApplyEveryUpdate_whenUpdatingConcurrently() throws InterruptedException {
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      matches.add(startMatch(i));
+    }
+    var failures = new AtomicInteger();
+    var executor = Executors.newFixedThreadPool(8);
+    for (Match match : matches) {
+      executor.execute(() -> {
+        for (int score = 1; score <= 500; score++) {
+          try {
+            scoreBoardService.updateOngoingMatchScore(match.id(), score, 0);
+          } catch (RuntimeException e) {
+            failures.incrementAndGet();
+          }
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(0, failures.get());
+    scoreBoardService.getOngoingMatchSummary().forEach(match -> assertEquals(500, match.homeTeamScore()));
+  }
+
+  @Test
+  void shouldRejectCommands_whenClosed() {
+    scoreBoardService.close();
+
+    assertThrows(IllegalStateException.class, () -> scoreBoardService.finishMatch(UUID.randomUUID()));
+  }
+
+  @Test
+  void shouldRejectStaleUpdates_whenUpdatesAreSequenced() {
+    var match = startMatch(0);
+    var updatedMatch = scoreBoardService.updateOngoingMatch(match.id(), 2, 0, 7);
+
+    assertNull(scoreBoardService.updateOngoingMatch(match.id(), 1, 0, 6));
+    assertEquals(List.of(Status.STALE, Status.SUCCESS), scoreBoardService.updateOngoingMatches(List.of(
+        new ScoreUpdate(match.id(), 1, 0, 7), new ScoreUpdate(match.id(), 3, 0))).stream()
+        .map(MatchResult::status)
+        .toList());
+    assertFalse(scoreBoardService.updateOngoingMatchScore(match.id(), 1, 0, 7));
+    assertEquals(3, scoreBoardService.getOngoingMatchSummary().getFirst().homeTeamScore());
+    assertEquals(2, updatedMatch.homeTeamScore());
+  }
+
+  @Test
+  void shouldNotWaitForEventDelivery_whenSubscriberBlocks() throws Exception {
+    var events = new LinkedBlockingQueue<ScoreBoardEvent>();
+    var subscription = new CompletableFuture<Flow.Subscription>();
+    scoreBoardService.subscribe(new Flow.Subscriber<>() {
+      @Override
+      public void onSubscribe(Flow.Subscription newSubscription) {
+        subscription.complete(newSubscription);
+      }
+
+      @Override
+      public void onNext(ScoreBoardEvent item) {
+        events.add(item);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+      }
+
+      @Override
+      public void onComplete() {
+      }
+    }, BackpressureStrategy.BLOCK, 1);
+    var match = startMatch(0);
+
+    // the subscriber requests nothing, its buffer is full after the first event
+    var updates = CompletableFuture.runAsync(() -> {
+      for (int score = 1; score <= 10; score++) {
+        scoreBoardService.updateOngoingMatch(match.id(), score, 0);
+      }
+    });
+    updates.get(5, TimeUnit.SECONDS);
+    subscription.get(5, TimeUnit.SECONDS).request(Long.MAX_VALUE);
+
+    assertEquals(new ScoreBoardEvent.MatchStarted(match), events.poll(5, TimeUnit.SECONDS));
+    for (int score = 1; score <= 10; score++) {
+      assertEquals(score, events.poll(5, TimeUnit.SECONDS).match().homeTeamScore());
+    }
+  }
+
+  private Match startMatch(int minute) {
+    var homeTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "Home " + minute));
+    var visitorTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "Visitor " + minute));
+    return scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(), START_TIME.plusSeconds(60L * minute));
+  }
+}
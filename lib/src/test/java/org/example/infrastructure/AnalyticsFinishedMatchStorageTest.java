@@ -0,0 +1,82 @@
+package org.example.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.Team;
+import org.example.domain.TeamStatistics;
+import org.example.infrastructure.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+class AnalyticsFinishedMatchStorageTest {
+
+  private static final Instant START_TIME = Instant.parse("2024-10-07T12:00:00Z");
+
+  private final Team austria = new Team(UUID.randomUUID(), "Austria");
+  private final Team england = new Team(UUID.randomUUID(), "England");
+  private final Team france = new Team(UUID.randomUUID(), "France");
+
+  @Test
+  void shouldAggregateTeamStatistics() {
+    var storage = new AnalyticsFinishedMatchStorage(new InMemoryFinishedMatchStorage());
+    storage.addMatch(new Match(UUID.randomUUID(), austria, england, 3, 1, START_TIME));
+    storage.addMatch(new Match(UUID.randomUUID(), france, austria, 2, 2, START_TIME.plusSeconds(60)));
+
+    assertEquals(Optional.of(new TeamStatistics(austria, 2, 1, 1, 0, 5, 3)), storage.getTeamStatistics(austria.id()));
+    assertEquals(Optional.of(new TeamStatistics(england, 1, 0, 0, 1, 1, 3)), storage.getTeamStatistics(england.id()));
+    assertEquals(Optional.empty(), storage.getTeamStatistics(UUID.randomUUID()));
+  }
+
+  @Test
+  void shouldCountMatchOnce_whenItIsAddedTwice() {
+    var storage = new AnalyticsFinishedMatchStorage(new InMemoryFinishedMatchStorage());
+    var match = new Match(UUID.randomUUID(), austria, england, 3, 1, START_TIME);
+    storage.addMatch(match);
+    storage.addMatches(List.of(match));
+
+    assertEquals(1, storage.getTeamStatistics(austria.id()).orElseThrow().played());
+  }
+
+  @Test
+  void shouldIndexMatchesOfDelegate() {
+    var delegate = new InMemoryFinishedMatchStorage();
+    delegate.addMatch(new Match(UUID.randomUUID(), austria, england, 3, 1, START_TIME));
+    var storage = new AnalyticsFinishedMatchStorage(delegate);
+
+    assertEquals(3, storage.getTeamStatistics(austria.id()).orElseThrow().points());
+  }
+
+  @Test
+  void shouldOrderStandingsByPointsAndGoalDifference() {
+    var storage = new AnalyticsFinishedMatchStorage(new InMemoryFinishedMatchStorage());
+    storage.addMatch(new Match(UUID.randomUUID(), austria, england, 1, 0, START_TIME));
+    storage.addMatch(new Match(UUID.randomUUID(), france, england, 4, 0, START_TIME));
+    storage.addMatch(new Match(UUID.randomUUID(), austria, france, 0, 0, START_TIME));
+
+    var standings = storage.getStandings(List.of(england.id(), austria.id(), france.id()));
+
+    assertEquals(List.of(france, austria, england), standings.stream().map(TeamStatistics::team).toList());
+    assertThrows(NotFoundException.class, () -> storage.getStandings(List.of(UUID.randomUUID())));
+  }
+
+  @Test
+  void shouldReturnMatchesStartedInTimeWindow() {
+    var storage = new AnalyticsFinishedMatchStorage(new InMemorySortedFinishedMatchStorage());
+    var match1 = new Match(UUID.randomUUID(), austria, england, 1, 0, START_TIME);
+    var match2 = new Match(UUID.randomUUID(), france, england, 4, 0, START_TIME.plusSeconds(60));
+    var match3 = new Match(UUID.randomUUID(), austria, france, 2, 0, START_TIME.plusSeconds(120));
+    var match4 = new Match(UUID.randomUUID(), england, france, 5, 5, START_TIME.plusSeconds(180));
+    storage.addMatches(List.of(match4, match3, match2, match1));
+
+    assertEquals(List.of(match1, match2, match3),
+        storage.getMatchesStartedBetween(START_TIME, START_TIME.plusSeconds(180)));
+    assertEquals(List.of(match2, match3),
+        storage.getHighestScoringMatchesStartedBetween(START_TIME, START_TIME.plusSeconds(180), 2));
+    assertEquals(List.of(), storage.getMatchesStartedBetween(START_TIME.plusSeconds(181), START_TIME.plusSeconds(240)));
+  }
+}
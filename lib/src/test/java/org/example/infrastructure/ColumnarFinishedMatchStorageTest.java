@@ -0,0 +1,57 @@
+package org.example.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.Team;
+import org.junit.jupiter.api.Test;
+
+class ColumnarFinishedMatchStorageTest {
+
+  @Test
+  void shouldAddMatch() {
+    var storage = new ColumnarFinishedMatchStorage();
+    var homeTeam = new Team(UUID.randomUUID(), "Austria");
+    var visitorTeam = new Team(UUID.randomUUID(), "England");
+    var match = new Match(UUID.randomUUID(), homeTeam, visitorTeam, 3, 2, Instant.parse("2024-10-07T12:00:00.123Z"));
+    storage.addMatch(match);
+
+    assertEquals(List.of(match), storage.getMatches());
+  }
+
+  @Test
+  void shouldReturnMatchesInInsertionOrder_whenMatchesSpanMultipleChunks() {
+    var storage = new ColumnarFinishedMatchStorage();
+    var teams = List.of(new Team(UUID.randomUUID(), "Austria"), new Team(UUID.randomUUID(), "England"),
+        new Team(UUID.randomUUID(), "France"));
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      matches.add(new Match(UUID.randomUUID(), teams.get(i % 3), teams.get((i + 1) % 3), i % 5, i % 7,
+          Instant.parse("2024-10-07T12:00:00Z").plusSeconds(i)));
+    }
+    storage.addMatches(matches.subList(0, 5_000));
+    matches.subList(5_000, matches.size()).forEach(storage::addMatch);
+
+    assertEquals(10_000, storage.size());
+    assertEquals(matches, storage.getMatches());
+  }
+
+  @Test
+  void shouldReturnMatchesOrderedByTotalScoresAndStartTime() {
+    var storage = new ColumnarFinishedMatchStorage();
+    var homeTeam = new Team(UUID.randomUUID(), "Austria");
+    var visitorTeam = new Team(UUID.randomUUID(), "England");
+    var match1 = new Match(UUID.randomUUID(), homeTeam, visitorTeam, 1, 1, Instant.parse("2024-10-07T12:00:00Z"));
+    var match2 = new Match(UUID.randomUUID(), homeTeam, visitorTeam, 4, 1, Instant.parse("2024-10-07T12:00:00Z"));
+    var match3 = new Match(UUID.randomUUID(), homeTeam, visitorTeam, 1, 1, Instant.parse("2024-10-07T13:00:00Z"));
+    storage.addMatch(match1);
+    storage.addMatch(match2);
+    storage.addMatch(match3);
+
+    assertEquals(List.of(match2, match3, match1), storage.getMatchSummary());
+  }
+}
@@ -5,7 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.example.domain.Team;
 import org.example.infrastructure.exceptions.AlreadyExistsException;
 import org.junit.jupiter.api.Test;
@@ -61,4 +66,67 @@ class InMemoryAvailableTeamStorageTest {
     var alreadyTakenTeam = storage.take(storedTeam.id());
     assertTrue(alreadyTakenTeam.isEmpty());
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldTakePairOfTeams() {
+    var storage = new InMemoryAvailableTeamStorage();
+    var homeTeam = storage.put(new Team(UUID.randomUUID(), "France"));
+    var visitorTeam = storage.put(new Team(UUID.randomUUID(), "Spain"));
+
+    var takenTeams = storage.takePair(homeTeam.id(), visitorTeam.id());
+
+    assertTrue(takenTeams.isPresent());
+    assertEquals(homeTeam, takenTeams.get().homeTeam());
+    assertEquals(visitorTeam, takenTeams.get().visitorTeam());
+    assertEquals(0, storage.count());
+  }
+
+  @Test
+  void shouldNotTakeAnyTeam_whenOneOfThePairIsNotAvailable() {
+    var storage = new InMemoryAvailableTeamStorage();
+    var team = storage.put(new Team(UUID.randomUUID(), "France"));
+
+    assertTrue(storage.takePair(team.id(), UUID.randomUUID()).isEmpty());
+    assertTrue(storage.takePair(UUID.randomUUID(), team.id()).isEmpty());
+    assertEquals(1, storage.count());
+  }
+
+  @Test
+  void shouldThrowException_whenTryToTakeTheSameTeamAsPair() {
+    var storage = new InMemoryAvailableTeamStorage();
+    var team = storage.put(new Team(UUID.randomUUID(), "France"));
+
+    assertThrows(IllegalArgumentException.class, () -> storage.takePair(team.id(), team.id()));
+  }
+
+  @Test
+  void shouldNotLeakTeams_whenTakingOverlappingPairsConcurrently() throws InterruptedException {
+    var storage = new InMemoryAvailableTeamStorage();
+    List<Team> teams = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      teams.add(storage.put(new Team(UUID.randomUUID(), "Team " + i)));
+    }
+
+    var executor = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; t++) {
+      executor.execute(() -> {
+        var random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10_000; i++) {
+          var home = teams.get(random.nextInt(teams.size()));
+          var visitor = teams.get(random.nextInt(teams.size()));
+          if (home.equals(visitor)) {
+            continue;
+          }
+          storage.takePair(home.id(), visitor.id()).ifPresent(pair -> {
+            storage.put(pair.homeTeam());
+            storage.put(pair.visitorTeam());
+          });
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(teams.size(), storage.count());
+  }
+}
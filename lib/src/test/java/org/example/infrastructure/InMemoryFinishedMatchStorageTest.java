@@ -1,10 +1,13 @@
 package org.example.infrastructure;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import org.example.domain.Match;
+import org.example.domain.SummaryCursor;
 import org.example.domain.Team;
 import org.junit.jupiter.api.Test;
 
@@ -19,4 +22,34 @@ class InMemoryFinishedMatchStorageTest {
 
     assertEquals(1, storage.getMatches().size(), "There should be one match in the FinishedMatchStorage");
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldReturnImmutableMatches_whenMatchesAreAddedLater() {
+    var storage = new InMemoryFinishedMatchStorage();
+    var homeTeam = new Team(UUID.randomUUID(), "Austria");
+    var visitorTeam = new Team(UUID.randomUUID(), "England");
+    var match = new Match(homeTeam, visitorTeam, Instant.parse("2024-10-07T12:00:00Z"));
+    storage.addMatch(match);
+    var matches = storage.getMatches();
+    storage.addMatch(new Match(homeTeam, visitorTeam, Instant.parse("2024-10-07T13:00:00Z")));
+
+    assertEquals(List.of(match), matches);
+    assertThrows(UnsupportedOperationException.class, () -> matches.add(match));
+  }
+
+  @Test
+  void shouldReturnTopMatchesAndMatchesAfterCursor() {
+    var storage = new InMemoryFinishedMatchStorage();
+    var homeTeam = new Team(UUID.randomUUID(), "Austria");
+    var visitorTeam = new Team(UUID.randomUUID(), "England");
+    var match1 = new Match(UUID.randomUUID(), homeTeam, visitorTeam, 4, 1, Instant.parse("2024-10-07T12:00:00Z"));
+    var match2 = new Match(UUID.randomUUID(), homeTeam, visitorTeam, 1, 1, Instant.parse("2024-10-07T13:00:00Z"));
+    var match3 = new Match(UUID.randomUUID(), homeTeam, visitorTeam, 1, 1, Instant.parse("2024-10-07T12:00:00Z"));
+    storage.addMatches(List.of(match3, match1, match2));
+
+    assertEquals(List.of(match1, match2), storage.getTopMatches(2));
+    assertEquals(List.of(match1, match2, match3), storage.getTopMatches(5));
+    assertEquals(List.of(match3), storage.getMatchSummaryAfter(SummaryCursor.after(match2), 5));
+    assertEquals(List.of(match1, match2, match3), storage.streamMatchSummary().toList());
+  }
+}
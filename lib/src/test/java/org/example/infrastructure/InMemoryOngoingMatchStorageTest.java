@@ -2,11 +2,22 @@ package org.example.infrastructure;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.example.domain.Match;
+import org.example.domain.MatchResult;
+import org.example.domain.MatchResult.Status;
+import org.example.domain.ScoreUpdate;
 import org.example.domain.Team;
 import org.example.infrastructure.exceptions.AlreadyExistsException;
 import org.example.infrastructure.exceptions.NotFoundException;
@@ -69,4 +80,114 @@ class InMemoryOngoingMatchStorageTest {
     assertEquals(2, updatedMatch.homeTeamScore());
     assertEquals(1, updatedMatch.visitorTeamScore());
   }
-}
\ No newline at end of file
+
+  @Test
+  void shouldKeepMatchInSummary_whenUpdateKeepsTotalScore() {
+    var storage = new InMemoryOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+    storage.updateMatch(match.id(), 1, 0);
+
+    var correctedMatch = storage.updateMatch(match.id(), 0, 1);
+    assertEquals(List.of(correctedMatch), storage.getOngoingMatchSummary());
+
+    var repeatedMatch = storage.updateMatch(match.id(), 0, 1);
+    assertEquals(List.of(repeatedMatch), storage.getOngoingMatchSummary());
+    assertEquals(1, storage.countOfOngoingMatches());
+  }
+
+  @Test
+  void shouldReturnOngoingMatchesOrderedByTotalScoresAndStartTime() {
+    var storage = new InMemoryOngoingMatchStorage();
+    var match1 = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+    var match2 = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+    var match3 = storage.addMatch(newMatch("2024-10-07T13:00:00Z"));
+    var match4 = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    var updatedMatch1 = storage.updateMatch(match1.id(), 4, 1);
+    var updatedMatch2 = storage.updateMatch(match2.id(), 1, 3);
+    var updatedMatch3 = storage.updateMatch(match3.id(), 1, 1);
+    var updatedMatch4 = storage.updateMatch(match4.id(), 1, 1);
+
+    assertEquals(List.of(updatedMatch1, updatedMatch2, updatedMatch3, updatedMatch4), storage.getOngoingMatchSummary());
+
+    storage.finishMatch(match2.id());
+    assertEquals(List.of(updatedMatch1, updatedMatch3, updatedMatch4), storage.getOngoingMatchSummary());
+  }
+
+  @Test
+  void shouldReturnEveryOngoingMatchExactlyOnce_whenScoresAreUpdatedConcurrently() throws InterruptedException {
+    var storage = new InMemoryOngoingMatchStorage();
+    int countOfMatches = 50;
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < countOfMatches; i++) {
+      matches.add(storage.addMatch(newMatch("2024-10-07T12:00:00Z")));
+    }
+
+    var running = new AtomicBoolean(true);
+    var executor = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 3; t++) {
+      executor.execute(() -> {
+        int score = 0;
+        while (running.get()) {
+          for (Match match : matches) {
+            storage.updateMatch(match.id(), score % 7, score % 5);
+          }
+          score++;
+        }
+      });
+    }
+    try {
+      for (int i = 0; i < 1_000; i++) {
+        var summary = storage.getOngoingMatchSummary();
+        var ids = new HashSet<UUID>();
+        summary.forEach(match -> ids.add(match.id()));
+        assertEquals(countOfMatches, summary.size());
+        assertEquals(countOfMatches, ids.size());
+      }
+    } finally {
+      running.set(false);
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void shouldUpdateAndFinishMatchesInBatches() {
+    var storage = new InMemoryOngoingMatchStorage();
+    var match1 = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+    var match2 = storage.addMatch(newMatch("2024-10-07T13:00:00Z"));
+
+    var updated = storage.updateMatches(List.of(new ScoreUpdate(match1.id(), 1, 0),
+        new ScoreUpdate(UUID.randomUUID(), 1, 0), new ScoreUpdate(match2.id(), 0, -1)));
+    assertEquals(List.of(Status.SUCCESS, Status.NOT_FOUND, Status.INVALID),
+        updated.stream().map(MatchResult::status).toList());
+    assertEquals(List.of(updated.get(0).match(), match2), storage.getOngoingMatchSummary());
+
+    var finished = storage.finishMatches(List.of(match1.id(), match1.id()));
+    assertEquals(List.of(Status.SUCCESS, Status.NOT_FOUND), finished.stream().map(MatchResult::status).toList());
+    assertEquals(List.of(match2), storage.getOngoingMatchSummary());
+  }
+
+  @Test
+  void shouldRejectStaleUpdates_whenUpdatesAreSequenced() {
+    var storage = new InMemoryOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    var updatedMatch = storage.updateMatch(match.id(), 2, 0, 5);
+    assertNull(storage.updateMatch(match.id(), 1, 0, 5));
+    assertNull(storage.updateMatch(match.id(), 1, 0, 4));
+    assertEquals(List.of(updatedMatch), storage.getOngoingMatchSummary());
+    assertEquals(List.of(Status.STALE, Status.SUCCESS), storage.updateMatches(List.of(
+        new ScoreUpdate(match.id(), 0, 0, 3), new ScoreUpdate(match.id(), 3, 0, 6))).stream()
+        .map(MatchResult::status)
+        .toList());
+    assertEquals(3, storage.finishMatch(match.id()).homeTeamScore());
+    assertThrows(IllegalArgumentException.class, () -> storage.updateMatch(match.id(), 1, 0, -1));
+  }
+
+  private static Match newMatch(String startTime) {
+    var homeTeam = new Team(UUID.randomUUID(), "Austria");
+    var visitorTeam = new Team(UUID.randomUUID(), "England");
+    return new Match(homeTeam, visitorTeam, Instant.parse(startTime));
+  }
+}
@@ -0,0 +1,184 @@
+package org.example.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.Match;
+import org.example.domain.MatchResult;
+import org.example.domain.MatchResult.Status;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.Team;
+import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+class InMemorySlotOngoingMatchStorageTest {
+
+  @Test
+  void shouldAddMatch() {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    assertEquals(1, storage.countOfOngoingMatches(), "There should be one match in the OngoingMatchStorage");
+    assertEquals(List.of(match), storage.getOngoingMatchSummary());
+  }
+
+  @Test
+  void shouldThrowException_whenMatchIsAlreadyAdded() {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    assertThrows(AlreadyExistsException.class, () -> storage.addMatch(match));
+  }
+
+  @Test
+  void shouldUpdateMatch() {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    var updatedMatch = storage.updateMatch(match.id(), 2, 1);
+    assertEquals(2, updatedMatch.homeTeamScore());
+    assertEquals(1, updatedMatch.visitorTeamScore());
+
+    storage.updateScore(match.id(), 3, 1);
+    var finishedMatch = storage.finishMatch(match.id());
+    assertEquals(new Match(match.id(), match.homeTeam(), match.visitorTeam(), 3, 1, match.startTime()), finishedMatch);
+  }
+
+  @Test
+  void shouldThrowException_whenTryToUpdateMatchWithInvalidScores() {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    assertThrows(IllegalArgumentException.class, () -> storage.updateScore(match.id(), -2, -1));
+    assertThrows(IllegalArgumentException.class,
+        () -> storage.updateScore(match.id(), InMemorySlotOngoingMatchStorage.MAX_SCORE + 1, 0));
+  }
+
+  @Test
+  void shouldThrowException_whenTryToUpdateFinishedMatch() {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+    storage.finishMatch(match.id());
+
+    assertThrows(NotFoundException.class, () -> storage.updateScore(match.id(), 2, 1));
+    assertThrows(NotFoundException.class, () -> storage.finishMatch(match.id()));
+    assertEquals(0, storage.countOfOngoingMatches());
+  }
+
+  @Test
+  void shouldReturnOngoingMatchesOrderedByTotalScoresAndStartTime() {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match1 = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+    var match2 = storage.addMatch(newMatch("2024-10-07T13:00:00Z"));
+    var match3 = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    var updatedMatch1 = storage.updateMatch(match1.id(), 1, 1);
+    var updatedMatch2 = storage.updateMatch(match2.id(), 0, 2);
+    var updatedMatch3 = storage.updateMatch(match3.id(), 3, 0);
+
+    assertEquals(List.of(updatedMatch3, updatedMatch2, updatedMatch1), storage.getOngoingMatchSummary());
+  }
+
+  @Test
+  void shouldNotLoseUpdates_whenFinishingMatchConcurrently() throws InterruptedException {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    var executor = Executors.newFixedThreadPool(2);
+    var lastAcceptedScore = new int[1];
+    executor.execute(() -> {
+      try {
+        for (int score = 1; score <= InMemorySlotOngoingMatchStorage.MAX_SCORE; score++) {
+          storage.updateScore(match.id(), score, 0);
+          lastAcceptedScore[0] = score;
+        }
+      } catch (NotFoundException ignore) {
+      }
+    });
+    executor.shutdown();
+    Thread.sleep(5);
+    var finishedMatch = storage.finishMatch(match.id());
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+    assertEquals(lastAcceptedScore[0], finishedMatch.homeTeamScore());
+  }
+
+  @Test
+  void shouldRejectStaleUpdates_whenUpdatesAreSequenced() {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    assertEquals(2, storage.updateMatch(match.id(), 2, 0, 5).homeTeamScore());
+    assertNull(storage.updateMatch(match.id(), 1, 0, 4));
+    assertFalse(storage.updateScore(match.id(), 1, 0, 5));
+    assertEquals(2, storage.getOngoingMatchSummary().getFirst().homeTeamScore());
+    storage.updateScore(match.id(), 3, 0);
+    assertFalse(storage.updateScore(match.id(), 1, 0, 5));
+    assertTrue(storage.updateScore(match.id(), 3, 1, 6));
+    assertEquals(4, storage.getOngoingMatchSummary().getFirst().totalScore());
+  }
+
+  @Test
+  void shouldReportStaleUpdatesInBatch() {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    List<MatchResult> results = storage.updateMatches(List.of(new ScoreUpdate(match.id(), 1, 0, 2),
+        new ScoreUpdate(match.id(), 0, 0, 1), new ScoreUpdate(match.id(), 2, 0, 3),
+        new ScoreUpdate(match.id(), -1, 0, 4)));
+
+    assertEquals(List.of(Status.SUCCESS, Status.STALE, Status.SUCCESS, Status.INVALID),
+        results.stream().map(MatchResult::status).toList());
+    assertEquals(2, storage.getOngoingMatchSummary().getFirst().homeTeamScore());
+    assertThrows(IllegalArgumentException.class, () -> storage.updateScore(match.id(), 1, 0, -2));
+  }
+
+  @Test
+  void shouldAcceptSequences_whenSequencesAreEpochMillis() {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+    long eventTime = Instant.parse("2024-10-07T12:30:00Z").toEpochMilli();
+
+    assertTrue(storage.updateScore(match.id(), 1, 0, eventTime));
+    assertFalse(storage.updateScore(match.id(), 0, 0, eventTime - 1));
+    assertTrue(storage.updateScore(match.id(), 2, 0, Long.MAX_VALUE));
+    assertFalse(storage.updateScore(match.id(), 3, 0, Long.MAX_VALUE));
+    assertEquals(2, storage.getOngoingMatchSummary().getFirst().homeTeamScore());
+  }
+
+  @Test
+  void shouldKeepNewestUpdate_whenSequencedUpdatesArriveConcurrentlyOutOfOrder() throws InterruptedException {
+    var storage = new InMemorySlotOngoingMatchStorage();
+    var match = storage.addMatch(newMatch("2024-10-07T12:00:00Z"));
+
+    var executor = Executors.newFixedThreadPool(4);
+    for (int feed = 0; feed < 4; feed++) {
+      int offset = feed;
+      executor.execute(() -> {
+        for (int sequence = 0; sequence < 1_000; sequence++) {
+          int shuffled = (sequence * 7 + offset * 13) % 1_000;
+          storage.updateScore(match.id(), shuffled, 0, shuffled);
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+    assertEquals(999, storage.getOngoingMatchSummary().getFirst().homeTeamScore());
+  }
+
+  private static Match newMatch(String startTime) {
+    var homeTeam = new Team(UUID.randomUUID(), "Austria");
+    var visitorTeam = new Team(UUID.randomUUID(), "England");
+    return new Match(homeTeam, visitorTeam, Instant.parse(startTime));
+  }
+}
@@ -0,0 +1,82 @@
+package org.example.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.SummaryCursor;
+import org.example.domain.Team;
+import org.junit.jupiter.api.Test;
+
+class InMemorySortedFinishedMatchStorageTest {
+
+  @Test
+  void shouldAddMatch() {
+    var storage = new InMemorySortedFinishedMatchStorage();
+    storage.addMatch(match(0, 0, "2024-10-07T12:00:00Z"));
+
+    assertEquals(1, storage.getMatches().size(), "There should be one match in the FinishedMatchStorage");
+  }
+
+  @Test
+  void shouldKeepMatchesWithTheSameScoreAndStartTime() {
+    var storage = new InMemorySortedFinishedMatchStorage();
+    storage.addMatch(match(1, 1, "2024-10-07T12:00:00Z"));
+    storage.addMatch(match(1, 1, "2024-10-07T12:00:00Z"));
+
+    assertEquals(2, storage.getMatchSummary().size());
+  }
+
+  @Test
+  void shouldReturnMatchesOrderedByTotalScoresAndStartTime() {
+    var storage = new InMemorySortedFinishedMatchStorage();
+    var match1 = match(4, 1, "2024-10-07T12:00:00Z");
+    var match2 = match(1, 3, "2024-10-07T12:00:00Z");
+    var match3 = match(1, 1, "2024-10-07T13:00:00Z");
+    var match4 = match(1, 1, "2024-10-07T12:00:00Z");
+    storage.addMatch(match4);
+    storage.addMatch(match2);
+    storage.addMatch(match3);
+    storage.addMatch(match1);
+
+    assertEquals(List.of(match1, match2, match3, match4), storage.getMatchSummary());
+    assertEquals(List.of(match1, match2), storage.getTopMatches(2));
+    assertEquals(List.of(match3), storage.getMatchSummaryPage(2, 1));
+    assertEquals(List.of(), storage.getMatchSummaryPage(4, 10));
+  }
+
+  @Test
+  void shouldReturnMatchesAfterCursor_whenMatchesAreAddedBetweenPages() {
+    var storage = new InMemorySortedFinishedMatchStorage();
+    var match1 = match(4, 1, "2024-10-07T12:00:00Z");
+    var match2 = match(1, 3, "2024-10-07T12:00:00Z");
+    var match3 = match(1, 1, "2024-10-07T13:00:00Z");
+    storage.addMatch(match1);
+    storage.addMatch(match3);
+
+    var firstPage = storage.getMatchSummaryAfter(null, 1);
+    storage.addMatch(match2);
+    var secondPage = storage.getMatchSummaryAfter(SummaryCursor.after(firstPage.getLast()), 5);
+
+    assertEquals(List.of(match1), firstPage);
+    assertEquals(List.of(match2, match3), secondPage);
+    assertEquals(List.of(match1, match2, match3), storage.streamMatchSummary().toList());
+  }
+
+  @Test
+  void shouldThrowException_whenPageIsNegative() {
+    var storage = new InMemorySortedFinishedMatchStorage();
+
+    assertThrows(IllegalArgumentException.class, () -> storage.getMatchSummaryPage(-1, 1));
+  }
+
+  private static Match match(int homeTeamScore, int visitorTeamScore, String startTime) {
+    var homeTeam = new Team(UUID.randomUUID(), "Austria");
+    var visitorTeam = new Team(UUID.randomUUID(), "England");
+    return new Match(UUID.randomUUID(), homeTeam, visitorTeam, homeTeamScore, visitorTeamScore,
+        Instant.parse(startTime));
+  }
+}
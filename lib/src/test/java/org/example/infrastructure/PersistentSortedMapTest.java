@@ -0,0 +1,64 @@
+package org.example.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+class PersistentSortedMapTest {
+
+  @Test
+  void shouldBehaveLikeTreeMap_whenKeysArePutAndRemovedRandomly() {
+    var random = new Random(42);
+    var expected = new TreeMap<Integer, String>();
+    var map = PersistentSortedMap.<Integer, String>empty(Comparator.naturalOrder());
+    for (int i = 0; i < 20_000; i++) {
+      int key = random.nextInt(2_000);
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        map = map.remove(key);
+      } else {
+        expected.put(key, "v" + i);
+        map = map.put(key, "v" + i);
+      }
+    }
+
+    assertEquals(expected.size(), map.size());
+    assertEquals(List.copyOf(expected.values()), map.toList());
+    for (int key = 0; key < 2_000; key++) {
+      assertEquals(expected.get(key), map.get(key));
+    }
+    List<String> after = new ArrayList<>();
+    map.valuesAfter(1_000).forEachRemaining(after::add);
+    assertEquals(List.copyOf(expected.tailMap(1_000, false).values()), after);
+  }
+
+  @Test
+  void shouldKeepPreviousVersionsUnchanged() {
+    var empty = PersistentSortedMap.<Integer, String>empty(Comparator.naturalOrder());
+    var one = empty.put(1, "one");
+    var two = one.put(2, "two");
+    var withoutOne = two.remove(1);
+
+    assertEquals(List.of(), empty.toList());
+    assertEquals(List.of("one"), one.toList());
+    assertEquals(List.of("one", "two"), two.toList());
+    assertEquals(List.of("two"), withoutOne.toList());
+    assertNull(withoutOne.get(1));
+  }
+
+  @Test
+  void shouldReturnSameMap_whenNothingChanges() {
+    var value = "one";
+    var map = PersistentSortedMap.<Integer, String>empty(Comparator.naturalOrder()).put(1, value);
+
+    assertSame(map, map.put(1, value));
+    assertSame(map, map.remove(2));
+  }
+}
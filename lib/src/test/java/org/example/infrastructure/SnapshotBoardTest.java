@@ -0,0 +1,101 @@
+package org.example.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.Team;
+import org.junit.jupiter.api.Test;
+
+class SnapshotBoardTest {
+
+  private static final Instant START_TIME = Instant.parse("2024-10-07T12:00:00Z");
+
+  @Test
+  void shouldKeepSnapshotUnchanged_whenBoardChanges() {
+    var board = new SnapshotBoard();
+    var scoreBoardService = new SnapshotBoardScoreBoardService(board);
+    var match = startMatch(board, scoreBoardService, 0);
+    var updatedMatch = scoreBoardService.updateOngoingMatch(match.id(), 1, 0);
+
+    var snapshot = scoreBoardService.getSnapshot();
+    scoreBoardService.finishMatch(match.id());
+
+    assertEquals(List.of(updatedMatch), snapshot.ongoingMatchSummary());
+    assertEquals(List.of(), snapshot.availableTeams());
+    assertEquals(List.of(), snapshot.finishedMatchSummary());
+    var latest = scoreBoardService.getSnapshot();
+    assertTrue(latest.version() > snapshot.version());
+    assertEquals(List.of(), latest.ongoingMatchSummary());
+    assertEquals(List.of(updatedMatch), latest.finishedMatchSummary());
+    assertEquals(2, latest.availableTeams().size());
+  }
+
+  @Test
+  void shouldSeeEveryMatchEitherOngoingOrFinished_whenMatchesAreFinishedConcurrently() throws InterruptedException {
+    var board = new SnapshotBoard();
+    var scoreBoardService = new SnapshotBoardScoreBoardService(board);
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      matches.add(startMatch(board, scoreBoardService, i));
+    }
+    var executor = Executors.newFixedThreadPool(4);
+    matches.forEach(match -> executor.execute(() -> scoreBoardService.finishMatch(match.id())));
+    executor.shutdown();
+    while (!executor.isTerminated()) {
+      var snapshot = scoreBoardService.getSnapshot();
+      assertEquals(500, snapshot.countOfOngoingMatches() + snapshot.countOfFinishedMatches());
+    }
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(500, scoreBoardService.getSnapshot().countOfFinishedMatches());
+    assertEquals(500, board.finishedMatchStorage().getMatches().size());
+  }
+
+  @Test
+  void shouldPageFinishedMatchesFromSnapshot() {
+    var board = new SnapshotBoard();
+    var scoreBoardService = new SnapshotBoardScoreBoardService(board);
+    for (int i = 0; i < 5; i++) {
+      var match = startMatch(board, scoreBoardService, i);
+      scoreBoardService.updateOngoingMatch(match.id(), i, 0);
+      scoreBoardService.finishMatch(match.id());
+    }
+    var summary = scoreBoardService.getFinishedMatchSummary();
+
+    var firstPage = scoreBoardService.getFinishedMatchSummaryPage(null, 3);
+    var secondPage = scoreBoardService.getFinishedMatchSummaryPage(firstPage.nextCursor(), 3);
+
+    assertEquals(summary.subList(0, 3), firstPage.matches());
+    assertEquals(summary.subList(3, 5), secondPage.matches());
+    assertEquals(summary.subList(1, 3), board.finishedMatchStorage().getMatchSummaryPage(1, 2));
+    assertEquals(4, summary.getFirst().homeTeamScore());
+  }
+
+  @Test
+  void shouldRejectStaleUpdates_whenUpdatesAreSequenced() {
+    var board = new SnapshotBoard();
+    var scoreBoardService = new SnapshotBoardScoreBoardService(board);
+    var match = startMatch(board, scoreBoardService, 0);
+    scoreBoardService.updateOngoingMatch(match.id(), 2, 0, 3);
+    long version = scoreBoardService.getSnapshot().version();
+
+    assertNull(scoreBoardService.updateOngoingMatch(match.id(), 1, 0, 3));
+    assertEquals(version, scoreBoardService.getSnapshot().version());
+    assertEquals(2, scoreBoardService.getSnapshot().ongoingMatch(match.id()).orElseThrow().homeTeamScore());
+  }
+
+  private static Match startMatch(SnapshotBoard board, ScoreBoardService scoreBoardService, int minute) {
+    var homeTeam = board.availableTeamStorage().put(new Team(UUID.randomUUID(), "Home " + minute));
+    var visitorTeam = board.availableTeamStorage().put(new Team(UUID.randomUUID(), "Visitor " + minute));
+    return scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(), START_TIME.plusSeconds(60L * minute));
+  }
+}
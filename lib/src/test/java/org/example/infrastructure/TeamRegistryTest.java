@@ -0,0 +1,84 @@
+package org.example.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.example.domain.Team;
+import org.example.infrastructure.exceptions.AlreadyExistsException;
+import org.example.infrastructure.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+class TeamRegistryTest {
+
+  @Test
+  void shouldAssignDenseIds() {
+    var registry = new TeamRegistry();
+    var austria = new Team(UUID.randomUUID(), "Austria");
+    var england = new Team(UUID.randomUUID(), "England");
+
+    assertEquals(0, registry.register(austria));
+    assertEquals(1, registry.register(england));
+    assertEquals(0, registry.register(austria));
+    assertEquals(2, registry.size());
+    assertEquals(england, registry.team(1));
+    assertEquals(Optional.of(austria), registry.find(austria.id()));
+    assertEquals(Optional.empty(), registry.find(UUID.randomUUID()));
+  }
+
+  @Test
+  void shouldShareNames() {
+    var registry = new TeamRegistry();
+    var team1 = registry.canonical(new Team(UUID.randomUUID(), new String("Austria")));
+    var team2 = registry.canonical(new Team(UUID.randomUUID(), new String("Austria")));
+
+    assertNotEquals(team1, team2);
+    assertSame(team1.name(), team2.name());
+  }
+
+  @Test
+  void shouldThrowException_whenAnotherTeamIsRegisteredWithTheSameId() {
+    var registry = new TeamRegistry();
+    var id = UUID.randomUUID();
+    registry.register(new Team(id, "Austria"));
+
+    assertThrows(AlreadyExistsException.class, () -> registry.register(new Team(id, "England")));
+  }
+
+  @Test
+  void shouldThrowException_whenTeamIdIsUnknown() {
+    var registry = new TeamRegistry();
+
+    assertThrows(NotFoundException.class, () -> registry.team(0));
+  }
+
+  @Test
+  void shouldAssignOneIdPerTeam_whenTeamsAreRegisteredConcurrently() throws Exception {
+    var registry = new TeamRegistry();
+    List<Team> teams = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      teams.add(new Team(UUID.randomUUID(), "Team " + i));
+    }
+    List<Future<?>> futures = new ArrayList<>();
+    try (var executor = Executors.newFixedThreadPool(4)) {
+      for (int i = 0; i < 4; i++) {
+        futures.add(executor.submit(() -> teams.forEach(registry::register)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+
+    assertEquals(1000, registry.size());
+    for (Team team : teams) {
+      assertEquals(team, registry.team(registry.register(team)));
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package org.example.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.domain.Team;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.InMemorySortedFinishedMatchStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingScoreBoardServiceTest {
+
+  private InMemoryAvailableTeamStorage availableTeamStorage;
+  private CachingScoreBoardService scoreBoardService;
+
+  @BeforeEach
+  void init() {
+    availableTeamStorage = new InMemoryAvailableTeamStorage();
+    var ongoingMatchStorage = new VersionedOngoingMatchStorage(new InMemoryOngoingMatchStorage());
+    var finishedMatchStorage = new VersionedFinishedMatchStorage(new InMemorySortedFinishedMatchStorage());
+    scoreBoardService = new CachingScoreBoardService(
+        new ScoreBoardServiceImpl(ongoingMatchStorage, availableTeamStorage, finishedMatchStorage),
+        ongoingMatchStorage, finishedMatchStorage);
+  }
+
+  @Test
+  void shouldReturnSameSummary_whenBoardIsNotChanged() {
+    startMatch("Austria", "England");
+    startMatch("France", "Belgium");
+
+    List<Match> ongoingMatchSummary = scoreBoardService.getOngoingMatchSummary();
+    List<Match> finishedMatchSummary = scoreBoardService.getFinishedMatchSummary();
+
+    assertSame(ongoingMatchSummary, scoreBoardService.getOngoingMatchSummary());
+    assertSame(finishedMatchSummary, scoreBoardService.getFinishedMatchSummary());
+    assertEquals(2, scoreBoardService.countOfOngoingMatches());
+  }
+
+  @Test
+  void shouldRecomputeSummary_whenScoreIsUpdated() {
+    var match1 = startMatch("Austria", "England");
+    var match2 = startMatch("France", "Belgium");
+    List<Match> ongoingMatchSummary = scoreBoardService.getOngoingMatchSummary();
+    long version = scoreBoardService.ongoingMatchVersion();
+
+    scoreBoardService.updateOngoingMatchScore(match1.id(), 1, 0);
+
+    assertEquals(version + 1, scoreBoardService.ongoingMatchVersion());
+    assertNotSame(ongoingMatchSummary, scoreBoardService.getOngoingMatchSummary());
+    assertEquals(List.of(match1.id(), match2.id()),
+        scoreBoardService.getOngoingMatchSummary().stream().map(Match::id).toList());
+  }
+
+  @Test
+  void shouldKeepVersion_whenSequencedUpdateIsStale() {
+    var match = startMatch("Austria", "England");
+    scoreBoardService.updateOngoingMatch(match.id(), 1, 0, 5);
+    List<Match> ongoingMatchSummary = scoreBoardService.getOngoingMatchSummary();
+    long version = scoreBoardService.ongoingMatchVersion();
+
+    assertNull(scoreBoardService.updateOngoingMatch(match.id(), 0, 0, 4));
+
+    assertEquals(version, scoreBoardService.ongoingMatchVersion());
+    assertSame(ongoingMatchSummary, scoreBoardService.getOngoingMatchSummary());
+  }
+
+  @Test
+  void shouldRecomputeSummariesAndCount_whenMatchIsFinished() {
+    var match = startMatch("Austria", "England");
+    assertEquals(1, scoreBoardService.countOfOngoingMatches());
+    assertEquals(List.of(), scoreBoardService.getFinishedMatchSummary());
+
+    scoreBoardService.finishMatch(match.id());
+
+    assertEquals(0, scoreBoardService.countOfOngoingMatches());
+    assertEquals(List.of(), scoreBoardService.getOngoingMatchSummary());
+    assertEquals(List.of(match.id()), scoreBoardService.getFinishedMatchSummary().stream().map(Match::id).toList());
+  }
+
+  private Match startMatch(String homeTeamName, String visitorTeamName) {
+    var homeTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), homeTeamName));
+    var visitorTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), visitorTeamName));
+    return scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(), Instant.parse("2024-10-07T12:00:00Z"));
+  }
+}
@@ -0,0 +1,75 @@
+package org.example.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class VersionedValueTest {
+
+  @Test
+  void shouldComputeOncePerVersion_whenReadersReadConcurrently() throws Exception {
+    var computations = new AtomicInteger();
+    var computing = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var value = new VersionedValue<>(() -> {
+      computations.incrementAndGet();
+      computing.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new Object();
+    });
+
+    List<Future<Object>> reads = new ArrayList<>();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 16; i++) {
+        reads.add(executor.submit(() -> value.get(1)));
+      }
+      assertTrue(computing.await(5, TimeUnit.SECONDS));
+      release.countDown();
+      for (Future<Object> read : reads) {
+        assertSame(reads.getFirst().get(), read.get());
+      }
+    }
+
+    assertEquals(1, computations.get());
+    assertSame(reads.getFirst().get(), value.get(1));
+    assertSame(reads.getFirst().get(), value.get(0));
+  }
+
+  @Test
+  void shouldRecompute_whenVersionChanges() {
+    var computations = new AtomicInteger();
+    var value = new VersionedValue<>(computations::incrementAndGet);
+
+    assertEquals(Integer.valueOf(1), value.get(1));
+    assertEquals(Integer.valueOf(1), value.get(1));
+    assertEquals(Integer.valueOf(2), value.get(2));
+  }
+
+  @Test
+  void shouldNotCacheFailure() {
+    var computations = new AtomicInteger();
+    var value = new VersionedValue<>(() -> {
+      if (computations.incrementAndGet() == 1) {
+        throw new IllegalStateException("storage is not available");
+      }
+      return computations.get();
+    });
+
+    assertThrows(IllegalStateException.class, () -> value.get(1));
+    assertEquals(Integer.valueOf(2), value.get(1));
+  }
+}
@@ -0,0 +1,131 @@
+package org.example.infrastructure.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardEvent;
+import org.example.domain.ScoreBoardEvent.MatchFinished;
+import org.example.domain.ScoreBoardEvent.MatchStarted;
+import org.example.domain.ScoreBoardEvent.ScoreUpdated;
+import org.example.domain.Team;
+import org.junit.jupiter.api.Test;
+
+class ScoreBoardCodecTest {
+
+  private final Team austria = new Team(UUID.randomUUID(), "Österreich");
+  private final Team ivoryCoast = new Team(UUID.randomUUID(), "Côte d'Ivoire ⚽ 🏆");
+
+  @Test
+  void shouldEncodeAndDecodeTeam() {
+    ByteBuffer buffer = ByteBuffer.allocate(ScoreBoardCodec.teamSize(ivoryCoast));
+
+    ScoreBoardCodec.encodeTeam(ivoryCoast, buffer);
+
+    assertFalse(buffer.hasRemaining());
+    assertEquals(ivoryCoast, ScoreBoardCodec.decodeTeam(buffer.flip()));
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  void shouldEncodeAndDecodeMatch_whenBufferIsDirect() {
+    var match = new Match(UUID.randomUUID(), austria, ivoryCoast, 300, 2,
+        Instant.parse("1969-07-20T20:17:40.123456789Z"));
+    ByteBuffer buffer = ByteBuffer.allocateDirect(ScoreBoardCodec.matchSize(match));
+
+    ScoreBoardCodec.encodeMatch(match, buffer);
+
+    assertFalse(buffer.hasRemaining());
+    assertEquals(match, ScoreBoardCodec.decodeMatch(buffer.flip()));
+  }
+
+  @Test
+  void shouldWriteTeamsOnce_whenSummaryIsEncoded() {
+    var england = new Team(UUID.randomUUID(), "England");
+    List<Match> summary = new ArrayList<>();
+    int matchesSize = 0;
+    for (int i = 0; i < 100; i++) {
+      summary.add(new Match(UUID.randomUUID(), i % 2 == 0 ? austria : england, ivoryCoast, i % 7, i % 3,
+          Instant.parse("2024-10-07T12:00:00Z").plusSeconds(i)));
+      matchesSize += ScoreBoardCodec.matchSize(summary.getLast());
+    }
+
+    ByteBuffer buffer = ScoreBoardCodec.encodeSummary(summary);
+
+    assertEquals(ScoreBoardCodec.summarySize(summary), buffer.remaining());
+    assertTrue(buffer.remaining() < matchesSize / 2);
+    assertEquals(summary, ScoreBoardCodec.decodeSummary(buffer));
+    assertFalse(buffer.hasRemaining());
+    assertEquals(List.of(), ScoreBoardCodec.decodeSummary(ScoreBoardCodec.encodeSummary(List.of())));
+  }
+
+  @Test
+  void shouldTakeExpectedSize_whenEncodingDataOfCodecBenchmark() {
+    // the shape of the CodecBenchmark data: 48 teams with short ASCII names, single digit scores, whole minutes
+    List<Team> teams = new ArrayList<>();
+    for (int i = 0; i < 48; i++) {
+      teams.add(new Team(UUID.randomUUID(), "Team " + i));
+    }
+    List<Match> summary = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      summary.add(new Match(UUID.randomUUID(), teams.get(i % 48), teams.get((i + 1) % 48), i % 6, i % 5,
+          Instant.parse("2024-10-07T12:00:00Z").plusSeconds(60L * i)));
+    }
+
+    // uuid, 2 teams of 16 + 1 + 6 bytes, 2 score bytes, 5 bytes of seconds, 1 byte of nanos
+    assertEquals(70, ScoreBoardCodec.matchSize(summary.getFirst()));
+    // 48 teams once, then a 26 byte match referencing the teams by a 1 byte index
+    assertEquals(1 + 10 * 23 + 38 * 24 + 2 + 1000 * 26, ScoreBoardCodec.encodeSummary(summary).remaining());
+  }
+
+  @Test
+  void shouldEncodeAndDecodeEvents() {
+    var match = new Match(UUID.randomUUID(), austria, ivoryCoast, 1, 0, Instant.parse("2024-10-07T12:00:00Z"));
+    List<ScoreBoardEvent> events = List.of(new MatchStarted(match), new ScoreUpdated(match), new MatchFinished(match));
+    ByteBuffer buffer = ByteBuffer.allocate(events.stream().mapToInt(ScoreBoardCodec::eventSize).sum());
+
+    events.forEach(event -> ScoreBoardCodec.encodeEvent(event, buffer));
+    buffer.flip();
+
+    for (ScoreBoardEvent event : events) {
+      assertEquals(event, ScoreBoardCodec.decodeEvent(buffer));
+    }
+    assertThrows(IllegalArgumentException.class, () -> ScoreBoardCodec.decodeEvent(ByteBuffer.wrap(new byte[] {9})));
+  }
+
+  @Test
+  void shouldRejectTruncatedAndMalformedInput() {
+    var match = new Match(UUID.randomUUID(), austria, ivoryCoast, 1, 0, Instant.parse("2024-10-07T12:00:00Z"));
+    ByteBuffer buffer = ByteBuffer.allocate(ScoreBoardCodec.matchSize(match));
+    ScoreBoardCodec.encodeMatch(match, buffer);
+    buffer.flip().limit(buffer.limit() - 1);
+
+    assertThrows(BufferUnderflowException.class, () -> ScoreBoardCodec.decodeMatch(buffer));
+    assertThrows(IllegalArgumentException.class,
+        () -> ScoreBoardCodec.decodeSummary(ByteBuffer.wrap(new byte[] {(byte) 0xFF, 0x7F})));
+    byte[] tooLong = new byte[11];
+    Arrays.fill(tooLong, (byte) 0x80);
+    assertThrows(IllegalArgumentException.class, () -> ScoreBoardCodec.getVarLong(ByteBuffer.wrap(tooLong)));
+  }
+
+  @Test
+  void shouldUseMinimalVarintSize() {
+    assertEquals(1, ScoreBoardCodec.varIntSize(0));
+    assertEquals(1, ScoreBoardCodec.varIntSize(127));
+    assertEquals(2, ScoreBoardCodec.varIntSize(128));
+    assertEquals(5, ScoreBoardCodec.varIntSize(-1));
+    assertEquals(10, ScoreBoardCodec.varLongSize(-1L));
+    ByteBuffer buffer = ByteBuffer.allocate(10);
+    ScoreBoardCodec.putVarLong(buffer, Long.MIN_VALUE);
+    assertEquals(Long.MIN_VALUE, ScoreBoardCodec.getVarLong(buffer.flip()));
+  }
+}
@@ -0,0 +1,80 @@
+package org.example.infrastructure.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+
+  @Test
+  void shouldReturnElementsInOrder() {
+    var buffer = new MpscRingBuffer<Integer>(4);
+    for (int i = 0; i < 10; i++) {
+      buffer.put(i);
+      assertEquals(Integer.valueOf(i), buffer.poll());
+    }
+    assertNull(buffer.poll());
+    assertTrue(buffer.isEmpty());
+  }
+
+  @Test
+  void shouldThrowException_whenCapacityIsNotPowerOfTwo() {
+    assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<Integer>(3));
+  }
+
+  @Test
+  void shouldDeliverEveryElementOnce_whenProducersOutrunTheConsumer() throws Exception {
+    var buffer = new MpscRingBuffer<Integer>(8);
+    int producers = 4;
+    int elementsPerProducer = 10_000;
+    List<Future<?>> futures = new ArrayList<>();
+    long sum = 0;
+    try (var executor = Executors.newFixedThreadPool(producers)) {
+      for (int producer = 0; producer < producers; producer++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 1; i <= elementsPerProducer; i++) {
+            buffer.put(i);
+          }
+        }));
+      }
+      int received = 0;
+      while (received < producers * elementsPerProducer) {
+        Integer element = buffer.poll();
+        if (element != null) {
+          sum += element;
+          received++;
+        }
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+
+    assertEquals((long) producers * elementsPerProducer * (elementsPerProducer + 1) / 2, sum);
+    assertTrue(buffer.isEmpty());
+  }
+
+  @Test
+  void shouldFailWaitingPut_whenConsumerStops() throws Exception {
+    var buffer = new MpscRingBuffer<Integer>(2);
+    buffer.put(1);
+    buffer.put(2);
+    try (var executor = Executors.newSingleThreadExecutor()) {
+      Future<?> blockedPut = executor.submit(() -> buffer.put(3));
+      Thread.sleep(50);
+      buffer.close();
+
+      var exception = assertThrows(ExecutionException.class, blockedPut::get);
+      assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+    assertThrows(IllegalStateException.class, () -> buffer.put(4));
+  }
+}
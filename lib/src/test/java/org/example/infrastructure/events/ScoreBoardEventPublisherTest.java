@@ -0,0 +1,150 @@
+package org.example.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.BackpressureStrategy;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardEvent;
+import org.example.domain.ScoreBoardEvent.MatchFinished;
+import org.example.domain.ScoreBoardEvent.MatchStarted;
+import org.example.domain.ScoreBoardEvent.ScoreUpdated;
+import org.example.domain.Team;
+import org.junit.jupiter.api.Test;
+
+class ScoreBoardEventPublisherTest {
+
+  private static final Match MATCH = new Match(new Team(UUID.randomUUID(), "Austria"),
+      new Team(UUID.randomUUID(), "England"), Instant.parse("2024-10-07T12:00:00Z"));
+
+  @Test
+  void shouldDeliverEventsOnDemand() {
+    var publisher = new ScoreBoardEventPublisher(Runnable::run);
+    var subscriber = new CollectingSubscriber();
+    publisher.subscribe(subscriber, BackpressureStrategy.DROP, 10);
+
+    publisher.publish(new MatchStarted(MATCH));
+    publisher.publish(new ScoreUpdated(score(1, 0)));
+    assertEquals(List.of(), subscriber.events);
+
+    subscriber.subscription.request(1);
+    assertEquals(List.of(new MatchStarted(MATCH)), subscriber.events);
+
+    subscriber.subscription.request(5);
+    assertEquals(List.of(new MatchStarted(MATCH), new ScoreUpdated(score(1, 0))), subscriber.events);
+  }
+
+  @Test
+  void shouldDropNewEvents_whenBufferIsFull() {
+    var publisher = new ScoreBoardEventPublisher(Runnable::run);
+    var subscriber = new CollectingSubscriber();
+    publisher.subscribe(subscriber, BackpressureStrategy.DROP, 2);
+
+    publisher.publish(new ScoreUpdated(score(1, 0)));
+    publisher.publish(new ScoreUpdated(score(2, 0)));
+    publisher.publish(new ScoreUpdated(score(3, 0)));
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertEquals(List.of(new ScoreUpdated(score(1, 0)), new ScoreUpdated(score(2, 0))), subscriber.events);
+    assertEquals(1, publisher.droppedEvents());
+  }
+
+  @Test
+  void shouldKeepOnlyTheLatestScoreOfAMatch_whenConflating() {
+    var publisher = new ScoreBoardEventPublisher(Runnable::run);
+    var subscriber = new CollectingSubscriber();
+    publisher.subscribe(subscriber, BackpressureStrategy.CONFLATE, 2);
+
+    publisher.publish(new MatchStarted(MATCH));
+    publisher.publish(new ScoreUpdated(score(1, 0)));
+    publisher.publish(new ScoreUpdated(score(2, 0)));
+    publisher.publish(new ScoreUpdated(score(2, 1)));
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertEquals(List.of(new MatchStarted(MATCH), new ScoreUpdated(score(2, 1))), subscriber.events);
+    assertEquals(0, publisher.droppedEvents());
+  }
+
+  @Test
+  void shouldDeliverEveryEvent_whenBlocking() throws InterruptedException {
+    var publisher = new ScoreBoardEventPublisher();
+    var subscriber = new CollectingSubscriber();
+    publisher.subscribe(subscriber, BackpressureStrategy.BLOCK, 1);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    for (int score = 0; score < 1_000; score++) {
+      publisher.publish(new ScoreUpdated(score(score, 0)));
+    }
+    publisher.close();
+
+    assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+    assertEquals(1_000, subscriber.events.size());
+  }
+
+  @Test
+  void shouldStopDelivery_whenSubscriptionIsCancelled() {
+    var publisher = new ScoreBoardEventPublisher(Runnable::run);
+    var subscriber = new CollectingSubscriber();
+    publisher.subscribe(subscriber, BackpressureStrategy.DROP, 10);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    subscriber.subscription.cancel();
+    publisher.publish(new MatchFinished(MATCH));
+
+    assertEquals(List.of(), subscriber.events);
+    assertFalse(publisher.hasSubscribers());
+  }
+
+  @Test
+  void shouldSignalError_whenRequestIsNotPositive() {
+    var publisher = new ScoreBoardEventPublisher(Runnable::run);
+    var subscriber = new CollectingSubscriber();
+    publisher.subscribe(subscriber, BackpressureStrategy.DROP, 10);
+
+    subscriber.subscription.request(0);
+
+    assertTrue(subscriber.error instanceof IllegalArgumentException);
+    assertFalse(publisher.hasSubscribers());
+  }
+
+  private static Match score(int homeTeamScore, int visitorTeamScore) {
+    return new Match(MATCH.id(), MATCH.homeTeam(), MATCH.visitorTeam(), homeTeamScore, visitorTeamScore,
+        MATCH.startTime());
+  }
+
+  private static class CollectingSubscriber implements Flow.Subscriber<ScoreBoardEvent> {
+
+    private final List<ScoreBoardEvent> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch completed = new CountDownLatch(1);
+    private volatile Flow.Subscription subscription;
+    private volatile Throwable error;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(ScoreBoardEvent item) {
+      events.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed.countDown();
+    }
+  }
+}
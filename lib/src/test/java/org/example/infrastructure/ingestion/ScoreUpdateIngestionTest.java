@@ -0,0 +1,183 @@
+package org.example.infrastructure.ingestion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.Team;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryFinishedMatchStorage;
+import org.example.infrastructure.InMemorySlotOngoingMatchStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScoreUpdateIngestionTest {
+
+  private InMemoryAvailableTeamStorage availableTeamStorage;
+  private ScoreBoardService scoreBoardService;
+
+  @BeforeEach
+  void init() {
+    availableTeamStorage = new InMemoryAvailableTeamStorage();
+    scoreBoardService = new ScoreBoardServiceImpl(new InMemorySlotOngoingMatchStorage(), availableTeamStorage,
+        new InMemoryFinishedMatchStorage());
+  }
+
+  @Test
+  void shouldApplyLatestScoreOfEveryMatch_whenFeedsAreRead() {
+    List<Match> matches = startMatches(10);
+    var ingestion = new ScoreUpdateIngestion(scoreBoardService, new IngestionConfig(4, Duration.ofMillis(1), 8));
+    for (int feed = 0; feed < 4; feed++) {
+      // every feed sends increasing scores, the last one is 100 - 0 for every match
+      List<ScoreUpdate> updates = new ArrayList<>();
+      for (int score = 0; score <= 100; score++) {
+        for (Match match : matches) {
+          updates.add(new ScoreUpdate(match.id(), score, 0));
+        }
+      }
+      ingestion.addFeed(feed(updates.iterator()));
+    }
+    awaitSubmitted(ingestion, 4 * 101 * 10);
+    ingestion.close();
+
+    var stats = ingestion.stats();
+    assertEquals(4 * 101 * 10, stats.submitted());
+    assertEquals(stats.submitted(), stats.coalesced() + stats.applied() + stats.failed());
+    assertEquals(0, stats.failed());
+    assertEquals(0, stats.pendingMatches());
+    scoreBoardService.getOngoingMatchSummary()
+        .forEach(match -> assertEquals(100, match.homeTeamScore() + match.visitorTeamScore()));
+  }
+
+  @Test
+  void shouldKeepNewestSequencedUpdate_whenFeedsDeliverUpdatesOutOfOrder() {
+    List<Match> matches = startMatches(10);
+    var ingestion = new ScoreUpdateIngestion(scoreBoardService, new IngestionConfig(4, Duration.ofMillis(1), 8));
+    for (int feed = 0; feed < 2; feed++) {
+      // the redundant feeds send the same updates, the second one in reverse order
+      List<ScoreUpdate> updates = new ArrayList<>();
+      for (int score = 0; score <= 100; score++) {
+        int sequence = feed == 0 ? score : 100 - score;
+        for (Match match : matches) {
+          updates.add(new ScoreUpdate(match.id(), sequence, 0, sequence));
+        }
+      }
+      ingestion.addFeed(feed(updates.iterator()));
+    }
+    awaitSubmitted(ingestion, 2 * 101 * 10);
+    ingestion.close();
+
+    var stats = ingestion.stats();
+    assertEquals(stats.submitted(), stats.coalesced() + stats.applied() + stats.stale() + stats.failed());
+    assertEquals(0, stats.failed());
+    scoreBoardService.getOngoingMatchSummary().forEach(match -> assertEquals(100, match.homeTeamScore()));
+  }
+
+  @Test
+  void shouldCountFailedUpdatesAndFeeds() throws InterruptedException {
+    var ingestion = new ScoreUpdateIngestion(scoreBoardService, new IngestionConfig());
+    ingestion.submit(new ScoreUpdate(UUID.randomUUID(), 1, 0));
+    ingestion.addFeed(() -> {
+      throw new IllegalStateException("connection lost");
+    });
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (ingestion.stats().feedFailures() == 0 && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+    ingestion.close();
+
+    assertEquals(1, ingestion.stats().failed());
+    assertEquals(1, ingestion.stats().feedFailures());
+    assertThrows(IllegalStateException.class, () -> ingestion.submit(new ScoreUpdate(UUID.randomUUID(), 1, 0)));
+  }
+
+  @Test
+  void shouldInterruptBlockedFeeds_whenIngestionIsClosed() throws InterruptedException {
+    var ingestion = new ScoreUpdateIngestion(scoreBoardService, new IngestionConfig());
+    var reading = new CountDownLatch(1);
+    var closedFeed = new CountDownLatch(1);
+    ingestion.addFeed(new ScoreFeed() {
+      @Override
+      public ScoreUpdate read() throws InterruptedException {
+        reading.countDown();
+        new CountDownLatch(1).await();
+        return null;
+      }
+
+      @Override
+      public void close() {
+        closedFeed.countDown();
+      }
+    });
+    assertTrue(reading.await(5, TimeUnit.SECONDS));
+    ingestion.close();
+
+    assertEquals(0, closedFeed.getCount());
+  }
+
+  @Test
+  void shouldCloseFeeds_whenReadIgnoresInterrupt() throws InterruptedException {
+    var ingestion = new ScoreUpdateIngestion(scoreBoardService, new IngestionConfig());
+    var reading = new CountDownLatch(1);
+    var closedFeed = new CountDownLatch(1);
+    ingestion.addFeed(new ScoreFeed() {
+      @Override
+      public ScoreUpdate read() {
+        reading.countDown();
+        // like a blocking read that only returns when its connection is closed
+        while (true) {
+          try {
+            closedFeed.await();
+            return null;
+          } catch (InterruptedException ignore) {
+            // keeps waiting
+          }
+        }
+      }
+
+      @Override
+      public void close() {
+        closedFeed.countDown();
+      }
+    });
+    assertTrue(reading.await(5, TimeUnit.SECONDS));
+    ingestion.close();
+
+    assertEquals(0, closedFeed.getCount());
+    assertEquals(0, ingestion.stats().feedFailures());
+  }
+
+  private List<Match> startMatches(int count) {
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      var homeTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "Home " + i));
+      var visitorTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "Visitor " + i));
+      matches.add(scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(),
+          Instant.parse("2024-10-07T12:00:00Z")));
+    }
+    return matches;
+  }
+
+  private static ScoreFeed feed(Iterator<ScoreUpdate> updates) {
+    return () -> updates.hasNext() ? updates.next() : null;
+  }
+
+  private static void awaitSubmitted(ScoreUpdateIngestion ingestion, long submitted) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (ingestion.stats().submitted() < submitted && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+  }
+}
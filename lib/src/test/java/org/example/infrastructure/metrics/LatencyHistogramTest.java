@@ -0,0 +1,61 @@
+package org.example.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void shouldMapEveryValueIntoBucketWithinBounds() {
+    for (long value : new long[]{0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE}) {
+      int bucket = LatencyHistogram.bucket(value);
+      assertTrue(value <= LatencyHistogram.upperBound(bucket), "upper bound of " + value);
+      assertTrue(bucket == 0 || value > LatencyHistogram.upperBound(bucket - 1), "lower bound of " + value);
+    }
+  }
+
+  @Test
+  void shouldReportPercentilesWithinBucketPrecision() {
+    var histogram = new LatencyHistogram();
+    for (long nanos = 1; nanos <= 10_000; nanos++) {
+      histogram.record(nanos * 1_000);
+    }
+
+    var snapshot = histogram.snapshot();
+
+    assertEquals(10_000, snapshot.count());
+    assertEquals(5_000_500, snapshot.mean(), 1);
+    assertEquals(10_000_000, snapshot.max());
+    assertWithin(5_000_000, snapshot.p50());
+    assertWithin(9_900_000, snapshot.p99());
+    assertTrue(snapshot.p999() <= snapshot.max());
+  }
+
+  @Test
+  void shouldReadSameValuesAsSnapshot_whenValuesAreReadOneByOne() {
+    var histogram = new LatencyHistogram();
+    for (long nanos = 1; nanos <= 1_000; nanos++) {
+      histogram.record(nanos * nanos);
+    }
+
+    var snapshot = histogram.snapshot();
+
+    assertEquals(snapshot.count(), histogram.count());
+    assertEquals(snapshot.mean(), histogram.mean(), 0);
+    assertEquals(snapshot.p50(), histogram.percentile(0.5));
+    assertEquals(snapshot.p999(), histogram.percentile(0.999));
+    assertEquals(snapshot.max(), histogram.max());
+    assertEquals(0, new LatencyHistogram().percentile(0.99));
+  }
+
+  @Test
+  void shouldReportZeros_whenNothingIsRecorded() {
+    assertEquals(new LatencySnapshot(0, 0, 0, 0, 0, 0, 0), new LatencyHistogram().snapshot());
+  }
+
+  private static void assertWithin(long expected, long actual) {
+    assertTrue(actual >= expected && actual <= expected * 1.0625, "expected about " + expected + " but was " + actual);
+  }
+}
@@ -0,0 +1,83 @@
+package org.example.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.management.ObjectName;
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.domain.ScoreUpdate;
+import org.example.domain.Team;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryFinishedMatchStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+class MetricsScoreBoardServiceTest {
+
+  private final InMemoryAvailableTeamStorage availableTeamStorage = new InMemoryAvailableTeamStorage();
+  private final ScoreBoardMetrics metrics = new ScoreBoardMetrics();
+  private final MetricsScoreBoardService scoreBoardService = new MetricsScoreBoardService(
+      new ScoreBoardServiceImpl(new InMemoryOngoingMatchStorage(), availableTeamStorage,
+          new InMemoryFinishedMatchStorage()), metrics);
+
+  @Test
+  void shouldCountOperationsAndFailures() {
+    var homeTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var visitorTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    var match = scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(), Instant.parse("2024-10-07T12:00:00Z"));
+    scoreBoardService.updateOngoingMatch(match.id(), 1, 0);
+    scoreBoardService.updateOngoingMatches(List.of(new ScoreUpdate(match.id(), 2, 0),
+        new ScoreUpdate(UUID.randomUUID(), 1, 1)));
+    scoreBoardService.updateOngoingMatchScore(match.id(), 2, 0, 2);
+    scoreBoardService.updateOngoingMatchScore(match.id(), 1, 0, 1);
+    scoreBoardService.finishMatch(match.id());
+    assertThrows(NotFoundException.class, () -> scoreBoardService.finishMatch(match.id()));
+
+    Map<String, OperationSnapshot> snapshot = metrics.snapshot();
+
+    assertEquals(1, snapshot.get("startNewMatch").count());
+    assertEquals(0, snapshot.get("startNewMatch").notFound());
+    assertEquals(1, snapshot.get("updateOngoingMatch").count());
+    assertEquals(1, snapshot.get("updateOngoingMatches").count());
+    assertEquals(1, snapshot.get("updateOngoingMatches").notFound());
+    assertEquals(2, snapshot.get("updateOngoingMatchScore").count());
+    assertEquals(1, snapshot.get("updateOngoingMatchScore").stale());
+    assertEquals(2, snapshot.get("finishMatch").count());
+    assertEquals(1, snapshot.get("finishMatch").notFound());
+    assertTrue(snapshot.get("finishMatch").latency().max() > 0);
+  }
+
+  @Test
+  void shouldExportOperationsThroughJmx() throws Exception {
+    var server = ManagementFactory.getPlatformMBeanServer();
+    var name = new ObjectName("org.example:type=ScoreBoard,name=\"jmx-test\",operation=countOfOngoingMatches");
+    scoreBoardService.countOfOngoingMatches();
+
+    try (var ignored = new JmxMetricsExporter(metrics, server, "jmx-test")) {
+      assertEquals(1L, server.getAttribute(name, "Count"));
+    }
+    assertFalse(server.isRegistered(name));
+  }
+
+  @Test
+  void shouldReportSnapshots() throws InterruptedException {
+    var reports = new LinkedBlockingQueue<Map<String, OperationSnapshot>>();
+    scoreBoardService.getFinishedMatchSummary();
+
+    try (var ignored = new ScheduledMetricsReporting(metrics, reports::add, Duration.ofMillis(10))) {
+      var report = reports.poll(5, TimeUnit.SECONDS);
+      assertEquals(1, report.get("getFinishedMatchSummary").count());
+    }
+  }
+}
@@ -0,0 +1,394 @@
+package org.example.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.domain.Team;
+import org.example.infrastructure.AvailableTeamStorage;
+import org.example.infrastructure.FinishedMatchStorage;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryFinishedMatchStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.OngoingMatchStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScoreBoardJournalTest {
+
+  private Path journalDirectory;
+
+  private AvailableTeamStorage availableTeamStorage;
+  private OngoingMatchStorage ongoingMatchStorage;
+  private FinishedMatchStorage finishedMatchStorage;
+  private ScoreBoardJournal journal;
+
+  @BeforeEach
+  void init() throws IOException {
+    journalDirectory = Files.createTempDirectory("score-board-journal");
+  }
+
+  @AfterEach
+  void cleanUp() throws IOException {
+    journal.close();
+    try (Stream<Path> files = Files.list(journalDirectory)) {
+      for (Path file : files.toList()) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(journalDirectory);
+  }
+
+  @Test
+  void shouldRestoreStorages_whenJournalIsReopened() {
+    ScoreBoardService scoreBoardService = open();
+    var austria = availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var england = availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    var france = availableTeamStorage.put(new Team(UUID.randomUUID(), "France"));
+    var belgium = availableTeamStorage.put(new Team(UUID.randomUUID(), "Belgium"));
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "Hungary"));
+
+    var match1 = scoreBoardService.startNewMatch(austria.id(), england.id(), Instant.parse("2024-10-07T12:00:00Z"));
+    var match2 = scoreBoardService.startNewMatch(france.id(), belgium.id(), Instant.parse("2024-10-07T13:00:00Z"));
+    scoreBoardService.updateOngoingMatch(match1.id(), 1, 0);
+    scoreBoardService.updateOngoingMatch(match1.id(), 2, 0);
+    scoreBoardService.updateOngoingMatchScore(match2.id(), 0, 1);
+    scoreBoardService.finishMatch(match1.id());
+    var ongoingMatchSummary = scoreBoardService.getOngoingMatchSummary();
+    var finishedMatchSummary = scoreBoardService.getFinishedMatchSummary();
+    journal.close();
+
+    ScoreBoardService restoredScoreBoardService = open();
+    assertEquals(3, availableTeamStorage.count());
+    assertEquals(ongoingMatchSummary, restoredScoreBoardService.getOngoingMatchSummary());
+    assertEquals(finishedMatchSummary, restoredScoreBoardService.getFinishedMatchSummary());
+  }
+
+  @Test
+  void shouldRestoreSequences_whenJournalIsReopened() {
+    ScoreBoardService scoreBoardService = open();
+    var austria = availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var england = availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    var match = scoreBoardService.startNewMatch(austria.id(), england.id(), Instant.parse("2024-10-07T12:00:00Z"));
+    scoreBoardService.updateOngoingMatch(match.id(), 2, 0, 10);
+    assertNull(scoreBoardService.updateOngoingMatch(match.id(), 1, 0, 9));
+    var ongoingMatchSummary = scoreBoardService.getOngoingMatchSummary();
+    journal.close();
+
+    ScoreBoardService restoredScoreBoardService = open();
+    assertEquals(ongoingMatchSummary, restoredScoreBoardService.getOngoingMatchSummary());
+    assertFalse(restoredScoreBoardService.updateOngoingMatchScore(match.id(), 1, 0, 10));
+    assertTrue(restoredScoreBoardService.updateOngoingMatchScore(match.id(), 3, 0, 11));
+  }
+
+  @Test
+  void shouldRestoreSequences_whenJournalIsReopenedFromSnapshot() {
+    ScoreBoardService scoreBoardService = open();
+    var austria = availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var england = availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    var match = scoreBoardService.startNewMatch(austria.id(), england.id(), Instant.parse("2024-10-07T12:00:00Z"));
+    long eventTime = Instant.parse("2024-10-07T12:30:00Z").toEpochMilli();
+    scoreBoardService.updateOngoingMatch(match.id(), 2, 0, eventTime);
+    journal.snapshot();
+    journal.close();
+
+    ScoreBoardService restoredScoreBoardService = open();
+    assertEquals(eventTime, ongoingMatchStorage.lastSequence(match.id()));
+    assertFalse(restoredScoreBoardService.updateOngoingMatchScore(match.id(), 1, 0, eventTime - 1));
+    assertTrue(restoredScoreBoardService.updateOngoingMatchScore(match.id(), 3, 0, eventTime + 1));
+  }
+
+  @Test
+  void shouldReplayUpdateOfRestoredSequence_whenItFollowsUnsequencedUpdate() throws IOException {
+    ScoreBoardService scoreBoardService = open();
+    var austria = availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var england = availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    var match = scoreBoardService.startNewMatch(austria.id(), england.id(), Instant.parse("2024-10-07T12:00:00Z"));
+    journal.close();
+    scoreBoardService = open();
+    scoreBoardService.updateOngoingMatch(match.id(), 1, 0);
+    scoreBoardService.updateOngoingMatch(match.id(), 2, 0, 10);
+    journal.close();
+    // a snapshot taken after both updates of the second segment were applied
+    ScoreBoardSnapshot.write(journalDirectory.resolve("snapshot-00000000000000000002.bin"), 2, List.of(),
+        List.of(new Match(match.id(), austria, england, 2, 0, match.startTime())), Map.of(match.id(), 10L), List.of());
+
+    open();
+    assertEquals(2, ongoingMatchStorage.getOngoingMatchSummary().getFirst().homeTeamScore());
+    assertEquals(10, ongoingMatchStorage.lastSequence(match.id()));
+  }
+
+  @Test
+  void shouldCommitRecord_beforeMutationReturns() throws IOException {
+    open(new JournalConfig(journalDirectory, Duration.ofHours(1), true, 1024, Duration.ZERO));
+    Path segmentFile = journalDirectory.resolve("journal-00000000000000000001.log");
+
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    long committedLength = Files.size(segmentFile);
+    assertTrue(committedLength > 0);
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    assertTrue(Files.size(segmentFile) > committedLength);
+  }
+
+  @Test
+  void shouldRestoreStorages_whenConcurrentWritersFillTheBuffer() throws InterruptedException {
+    open(new JournalConfig(journalDirectory, Duration.ofHours(1), true, 1024, Duration.ZERO));
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 500; i++) {
+        int team = i;
+        executor.submit(() -> availableTeamStorage.put(new Team(UUID.randomUUID(), "Team " + team)));
+      }
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    }
+    journal.close();
+
+    open();
+    assertEquals(500, availableTeamStorage.count());
+  }
+
+  @Test
+  void shouldDropTornRecordAtTheEndOfTheJournal() throws IOException {
+    open();
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    journal.close();
+    Path segmentFile = journalDirectory.resolve("journal-00000000000000000001.log");
+    long validLength = Files.size(segmentFile);
+    // a record whose write was interrupted by a crash
+    Files.write(segmentFile, new byte[] {0, 0, 0, 40, ScoreBoardJournal.TEAM_PUT, 1, 2}, StandardOpenOption.APPEND);
+
+    open();
+    assertEquals(1, availableTeamStorage.count());
+    assertEquals(validLength, Files.size(segmentFile));
+
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    journal.close();
+    open();
+    assertEquals(2, availableTeamStorage.count());
+  }
+
+  @Test
+  void shouldFailToOpen_whenRecordBeforeTheLastSegmentIsCorrupt() throws IOException {
+    open();
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    journal.close();
+    open();
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "France"));
+    journal.close();
+    Path segmentFile = journalDirectory.resolve("journal-00000000000000000001.log");
+    long length = Files.size(segmentFile);
+    byte[] bytes = Files.readAllBytes(segmentFile);
+    // a flipped bit in the team name of the first record
+    bytes[bytes.length / 4] ^= 1;
+    Files.write(segmentFile, bytes);
+
+    assertThrows(UncheckedIOException.class, this::open);
+    assertEquals(length, Files.size(segmentFile));
+  }
+
+  @Test
+  void shouldRestoreStorages_fromSnapshotAndTheSegmentsAfterIt() {
+    ScoreBoardService scoreBoardService = open();
+    var austria = availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var england = availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    var france = availableTeamStorage.put(new Team(UUID.randomUUID(), "France"));
+    var belgium = availableTeamStorage.put(new Team(UUID.randomUUID(), "Belgium"));
+    var match1 = scoreBoardService.startNewMatch(austria.id(), england.id(), Instant.parse("2024-10-07T12:00:00Z"));
+    var match2 = scoreBoardService.startNewMatch(france.id(), belgium.id(), Instant.parse("2024-10-07T13:00:00Z"));
+    scoreBoardService.updateOngoingMatch(match1.id(), 1, 0);
+    scoreBoardService.finishMatch(match1.id());
+
+    journal.snapshot();
+    scoreBoardService.updateOngoingMatch(match2.id(), 0, 1);
+    scoreBoardService.finishMatch(match2.id());
+    var finishedMatchSummary = scoreBoardService.getFinishedMatchSummary();
+    journal.close();
+
+    ScoreBoardService restoredScoreBoardService = open();
+    assertEquals(4, availableTeamStorage.count());
+    assertEquals(0, restoredScoreBoardService.countOfOngoingMatches());
+    assertEquals(finishedMatchSummary, restoredScoreBoardService.getFinishedMatchSummary());
+  }
+
+  @Test
+  void shouldDeleteOlderSegments_whenSnapshotIsTaken() throws IOException {
+    open();
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    journal.snapshot();
+    availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    journal.snapshot();
+
+    try (Stream<Path> files = Files.list(journalDirectory)) {
+      assertEquals(Set.of("journal-00000000000000000002.log", "journal-00000000000000000003.log",
+          "snapshot-00000000000000000003.bin"),
+          files.map(file -> file.getFileName().toString()).collect(Collectors.toSet()));
+    }
+  }
+
+  @Test
+  void shouldRestoreStorages_whenSnapshotIsTakenWhileWritersKeepGoing() throws InterruptedException {
+    ScoreBoardService scoreBoardService = open();
+    int countOfMatches = 200;
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < countOfMatches; i++) {
+      var homeTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "Home " + i));
+      var visitorTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "Visitor " + i));
+      matches.add(scoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(), Instant.parse("2024-10-07T12:00:00Z")));
+    }
+
+    var executor = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; t++) {
+      int thread = t;
+      executor.execute(() -> {
+        for (int i = thread; i < countOfMatches; i += 4) {
+          var match = matches.get(i);
+          for (int score = 1; score <= 20; score++) {
+            scoreBoardService.updateOngoingMatchScore(match.id(), score, i % 3);
+          }
+          if (i % 2 == 0) {
+            scoreBoardService.finishMatch(match.id());
+          }
+        }
+      });
+    }
+    for (int i = 0; i < 5; i++) {
+      journal.snapshot();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    var ongoingMatchSummary = scoreBoardService.getOngoingMatchSummary();
+    var finishedMatchSummary = scoreBoardService.getFinishedMatchSummary();
+    long countOfAvailableTeams = availableTeamStorage.count();
+    journal.close();
+
+    ScoreBoardService restoredScoreBoardService = open();
+    assertEquals(countOfAvailableTeams, availableTeamStorage.count());
+    assertEquals(ongoingMatchSummary, restoredScoreBoardService.getOngoingMatchSummary());
+    assertEquals(finishedMatchSummary, restoredScoreBoardService.getFinishedMatchSummary());
+  }
+
+  @Test
+  void shouldPutTeamsBack_whenJournalStopsBetweenTakingTeamsAndStartingMatch() {
+    ScoreBoardService scoreBoardService = open();
+    var austria = availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var england = availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    // the start of a match stops after its first record
+    availableTeamStorage.takePair(austria.id(), england.id());
+    journal.close();
+
+    scoreBoardService = open();
+    assertEquals(2, availableTeamStorage.count());
+    assertEquals(0, scoreBoardService.countOfOngoingMatches());
+    journal.close();
+
+    scoreBoardService = open();
+    assertEquals(2, availableTeamStorage.count());
+    var match = scoreBoardService.startNewMatch(austria.id(), england.id(), Instant.parse("2024-10-07T12:00:00Z"));
+    journal.close();
+
+    scoreBoardService = open();
+    assertEquals(0, availableTeamStorage.count());
+    assertEquals(List.of(match), scoreBoardService.getOngoingMatchSummary());
+  }
+
+  @Test
+  void shouldCompleteFinish_whenJournalStopsBetweenFinishingAndAddingMatch() {
+    ScoreBoardService scoreBoardService = open();
+    var austria = availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var england = availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    var match = scoreBoardService.startNewMatch(austria.id(), england.id(), Instant.parse("2024-10-07T12:00:00Z"));
+    var updatedMatch = scoreBoardService.updateOngoingMatch(match.id(), 2, 1);
+    // the finish of the match stops after its first record
+    ongoingMatchStorage.finishMatch(match.id());
+    journal.close();
+
+    scoreBoardService = open();
+    assertEquals(2, availableTeamStorage.count());
+    assertEquals(0, scoreBoardService.countOfOngoingMatches());
+    assertEquals(List.of(updatedMatch), scoreBoardService.getFinishedMatchSummary());
+    journal.close();
+
+    scoreBoardService = open();
+    assertEquals(2, availableTeamStorage.count());
+    assertEquals(List.of(updatedMatch), scoreBoardService.getFinishedMatchSummary());
+  }
+
+  @Test
+  void shouldCompleteOperations_whenSnapshotIsCopiedBetweenTheirRecords() {
+    ScoreBoardService scoreBoardService = open();
+    var austria = availableTeamStorage.put(new Team(UUID.randomUUID(), "Austria"));
+    var england = availableTeamStorage.put(new Team(UUID.randomUUID(), "England"));
+    var france = availableTeamStorage.put(new Team(UUID.randomUUID(), "France"));
+    var belgium = availableTeamStorage.put(new Team(UUID.randomUUID(), "Belgium"));
+    var match = scoreBoardService.startNewMatch(austria.id(), england.id(), Instant.parse("2024-10-07T12:00:00Z"));
+    ongoingMatchStorage.finishMatch(match.id());
+    availableTeamStorage.takePair(france.id(), belgium.id());
+    journal.snapshot();
+    journal.close();
+
+    scoreBoardService = open();
+    assertEquals(4, availableTeamStorage.count());
+    assertEquals(0, scoreBoardService.countOfOngoingMatches());
+    assertEquals(List.of(match), scoreBoardService.getFinishedMatchSummary());
+  }
+
+  @Test
+  void shouldSkipRecordThatCannotBeReplayed_onlyInSnapshotSegment() {
+    open();
+    journal.snapshot();
+    // like a record of a mutation that the snapshot copy already contains
+    journal.matchFinished(newMatch());
+    journal.close();
+
+    open();
+    assertEquals(0, ongoingMatchStorage.getOngoingMatchSummary().size());
+    journal.matchFinished(newMatch());
+    journal.close();
+
+    assertThrows(IllegalStateException.class, this::open);
+  }
+
+  private static Match newMatch() {
+    return new Match(new Team(UUID.randomUUID(), "Austria"), new Team(UUID.randomUUID(), "England"),
+        Instant.parse("2024-10-07T12:00:00Z"));
+  }
+
+  private ScoreBoardService open() {
+    return open(new JournalConfig(journalDirectory, Duration.ofMillis(10), true, 1 << 16, Duration.ZERO));
+  }
+
+  private ScoreBoardService open(JournalConfig config) {
+    var inMemoryAvailableTeamStorage = new InMemoryAvailableTeamStorage();
+    var inMemoryOngoingMatchStorage = new InMemoryOngoingMatchStorage();
+    var inMemoryFinishedMatchStorage = new InMemoryFinishedMatchStorage();
+    journal = ScoreBoardJournal.open(config, inMemoryAvailableTeamStorage, inMemoryOngoingMatchStorage,
+        inMemoryFinishedMatchStorage);
+    availableTeamStorage = new JournaledAvailableTeamStorage(inMemoryAvailableTeamStorage, journal);
+    ongoingMatchStorage = new JournaledOngoingMatchStorage(inMemoryOngoingMatchStorage, journal);
+    finishedMatchStorage = new JournaledFinishedMatchStorage(inMemoryFinishedMatchStorage, journal);
+    return new ScoreBoardServiceImpl(ongoingMatchStorage, availableTeamStorage, finishedMatchStorage);
+  }
+}
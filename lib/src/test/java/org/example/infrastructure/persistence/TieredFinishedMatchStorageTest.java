@@ -0,0 +1,194 @@
+package org.example.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.example.domain.Match;
+import org.example.domain.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TieredFinishedMatchStorageTest {
+
+  private static final Instant START_TIME = Instant.parse("2024-10-07T12:00:00Z");
+
+  private final List<Team> teams = List.of(new Team(UUID.randomUUID(), "Austria"),
+      new Team(UUID.randomUUID(), "England"), new Team(UUID.randomUUID(), "France"),
+      new Team(UUID.randomUUID(), "Belgium"));
+  private Path segmentDirectory;
+  private TieredFinishedMatchStorage storage;
+
+  @BeforeEach
+  void init() throws IOException {
+    segmentDirectory = Files.createTempDirectory("score-board-segments");
+  }
+
+  @AfterEach
+  void cleanUp() throws IOException {
+    storage.close();
+    try (Stream<Path> files = Files.list(segmentDirectory)) {
+      for (Path file : files.toList()) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(segmentDirectory);
+  }
+
+  @Test
+  void shouldReadMatchesAcrossTiers_whenHotMatchLimitIsExceeded() {
+    storage = new TieredFinishedMatchStorage(new TieredStorageConfig(segmentDirectory, 100, Duration.ZERO, 16, 4));
+    var random = new Random(42);
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      matches.add(match(random.nextInt(5), random.nextInt(5), START_TIME.plusSeconds(60L * i)));
+    }
+    List<Match> finishOrder = new ArrayList<>(matches);
+    Collections.shuffle(finishOrder, random);
+    finishOrder.subList(0, 500).forEach(storage::addMatch);
+    storage.addMatches(finishOrder.subList(500, 1_000));
+
+    var stats = storage.stats();
+    assertTrue(stats.hotMatches() <= 100);
+    assertEquals(1_000, stats.hotMatches() + stats.coldMatches());
+    assertTrue(stats.segments() > 0);
+    List<Match> summary = matches.stream().sorted(Match.SUMMARY_ORDER).toList();
+    assertEquals(summary, storage.getMatchSummary());
+    assertEquals(summary.subList(0, 10), storage.getTopMatches(10));
+    assertEquals(new HashSet<>(matches), new HashSet<>(storage.getMatches()));
+    assertEquals(matches.subList(100, 250),
+        storage.getMatchesStartedBetween(START_TIME.plusSeconds(6_000), START_TIME.plusSeconds(15_000)));
+  }
+
+  @Test
+  void shouldEvictMatches_whenTheyLeaveHotWindow() {
+    storage = new TieredFinishedMatchStorage(
+        new TieredStorageConfig(segmentDirectory, 1_000, Duration.ofHours(1), 4, 16));
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      matches.add(match(i % 3, 0, START_TIME.plus(Duration.ofMinutes(10L * i))));
+      storage.addMatch(matches.getLast());
+    }
+
+    var stats = storage.stats();
+    assertEquals(12, stats.coldMatches());
+    assertEquals(8, stats.hotMatches());
+    assertEquals(matches.stream().sorted(Match.SUMMARY_ORDER).toList(), storage.getMatchSummary());
+    assertEquals(matches.subList(5, 15), storage.getMatchesStartedBetween(matches.get(5).startTime(),
+        matches.get(15).startTime()));
+  }
+
+  @Test
+  void shouldNotReadColdPages_whenTopMatchesAreInMemory() {
+    storage = new TieredFinishedMatchStorage(new TieredStorageConfig(segmentDirectory, 10, Duration.ZERO, 10, 16));
+    for (int i = 0; i < 100; i++) {
+      storage.addMatch(match(0, 0, START_TIME.plusSeconds(i)));
+    }
+    List<Match> highScoringMatches = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      highScoringMatches.add(match(5, i, START_TIME.plusSeconds(1_000 + i)));
+      storage.addMatch(highScoringMatches.getLast());
+    }
+    long misses = storage.stats().pageCacheMisses();
+
+    List<Match> topMatches = storage.getTopMatches(3);
+
+    assertEquals(highScoringMatches.reversed().subList(0, 3), topMatches);
+    assertEquals(misses, storage.stats().pageCacheMisses());
+  }
+
+  @Test
+  void shouldServeColdPagesFromCache_whenTheyAreReadAgain() {
+    storage = new TieredFinishedMatchStorage(new TieredStorageConfig(segmentDirectory, 10, Duration.ZERO, 10, 16));
+    for (int i = 0; i < 100; i++) {
+      storage.addMatch(match(i % 4, 0, START_TIME.plusSeconds(i)));
+    }
+
+    storage.getMatchSummary();
+    long misses = storage.stats().pageCacheMisses();
+    storage.getMatchSummary();
+
+    assertEquals(misses, storage.stats().pageCacheMisses());
+    assertTrue(storage.stats().pageCacheHits() > 0);
+  }
+
+  @Test
+  void shouldDeleteSegmentFiles_whenStorageIsCreatedAndClosed() throws IOException {
+    Files.createFile(segmentDirectory.resolve(MatchSegment.fileName(1)));
+    storage = new TieredFinishedMatchStorage(new TieredStorageConfig(segmentDirectory, 10, Duration.ZERO, 10, 16));
+    assertFalse(Files.exists(segmentDirectory.resolve(MatchSegment.fileName(1))));
+    for (int i = 0; i < 100; i++) {
+      storage.addMatch(match(0, 0, START_TIME.plusSeconds(i)));
+    }
+    assertTrue(hasSegmentFiles());
+
+    storage.close();
+
+    assertFalse(hasSegmentFiles());
+  }
+
+  @Test
+  void shouldDecodeOnlyTheHighestScoringPages_whenSummaryStreamIsReadPartially() {
+    storage = new TieredFinishedMatchStorage(new TieredStorageConfig(segmentDirectory, 10, Duration.ZERO, 10, 16));
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      matches.add(match(i == 42 ? 9 : 0, i % 2, START_TIME.plusSeconds(i)));
+      storage.addMatch(matches.getLast());
+    }
+    long misses = storage.stats().pageCacheMisses();
+
+    assertEquals(List.of(matches.get(42)), storage.streamMatchSummary().limit(1).toList());
+    assertEquals(misses + 1, storage.stats().pageCacheMisses());
+    assertEquals(matches.stream().sorted(Match.SUMMARY_ORDER).toList(), storage.streamMatchSummary().toList());
+    assertEquals(matches.stream().sorted(Match.SUMMARY_ORDER).toList(), storage.getMatchSummary());
+  }
+
+  @Test
+  void shouldKeepMatchesInMemory_whenEvictionFails() throws IOException {
+    storage = new TieredFinishedMatchStorage(new TieredStorageConfig(segmentDirectory, 10, Duration.ZERO, 10, 16));
+    // the segments cannot be created in a regular file
+    Files.delete(segmentDirectory);
+    Files.createFile(segmentDirectory);
+    List<Match> matches = new ArrayList<>();
+    try {
+      for (int i = 0; i < 30; i++) {
+        matches.add(match(i % 3, 0, START_TIME.plusSeconds(i)));
+        storage.addMatch(matches.getLast());
+      }
+    } finally {
+      Files.delete(segmentDirectory);
+      Files.createDirectory(segmentDirectory);
+    }
+
+    var stats = storage.stats();
+    assertTrue(stats.evictionFailures() > 0);
+    assertEquals(30, stats.hotMatches());
+    assertEquals(0, stats.coldMatches());
+    assertEquals(matches.stream().sorted(Match.SUMMARY_ORDER).toList(), storage.getMatchSummary());
+  }
+
+  private boolean hasSegmentFiles() throws IOException {
+    try (Stream<Path> files = Files.list(segmentDirectory)) {
+      return files.anyMatch(MatchSegment::isSegmentFile);
+    }
+  }
+
+  private Match match(int homeTeamScore, int visitorTeamScore, Instant startTime) {
+    int home = Math.floorMod(startTime.hashCode(), teams.size());
+    return new Match(UUID.randomUUID(), teams.get(home), teams.get((home + 1) % teams.size()), homeTeamScore,
+        visitorTeamScore, startTime);
+  }
+}
@@ -0,0 +1,173 @@
+package org.example.infrastructure.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.example.domain.Match;
+import org.example.domain.ScoreBoardService;
+import org.example.domain.ScoreBoardServiceImpl;
+import org.example.domain.Team;
+import org.example.infrastructure.InMemoryAvailableTeamStorage;
+import org.example.infrastructure.InMemoryFinishedMatchStorage;
+import org.example.infrastructure.InMemoryOngoingMatchStorage;
+import org.example.infrastructure.persistence.JournaledAvailableTeamStorage;
+import org.example.infrastructure.persistence.JournaledFinishedMatchStorage;
+import org.example.infrastructure.persistence.JournaledOngoingMatchStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ReplicationFollowerTest {
+
+  private static final Instant START_TIME = Instant.parse("2024-10-07T12:00:00Z");
+  private static final ReplicationConfig CONFIG = new ReplicationConfig(Duration.ofMillis(10), Duration.ofMillis(200));
+
+  private final InMemoryAvailableTeamStorage availableTeamStorage = new InMemoryAvailableTeamStorage();
+  private final InMemoryOngoingMatchStorage ongoingMatchStorage = new InMemoryOngoingMatchStorage();
+  private final InMemoryFinishedMatchStorage finishedMatchStorage = new InMemoryFinishedMatchStorage();
+  private ReplicationLog log;
+  private ScoreBoardService leaderScoreBoardService;
+  private ReplicationLeader leader;
+  private ReplicationFollower follower;
+
+  @AfterEach
+  void cleanUp() {
+    follower.close();
+    if (leader != null) {
+      leader.close();
+    }
+  }
+
+  @Test
+  void shouldServeLeaderState_whenMutationsAreReplicated() {
+    startLeader(1024);
+    List<Match> matches = startMatches(5);
+    follower = new ReplicationFollower(leader.address(), CONFIG);
+    awaitCaughtUp();
+    leaderScoreBoardService.updateOngoingMatch(matches.get(0).id(), 2, 1);
+    leaderScoreBoardService.updateOngoingMatch(matches.get(1).id(), 1, 0, 3);
+    leaderScoreBoardService.finishMatch(matches.get(2).id());
+
+    awaitCaughtUp();
+
+    var followerScoreBoardService = follower.scoreBoardService();
+    assertEquals(leaderScoreBoardService.getOngoingMatchSummary(), followerScoreBoardService.getOngoingMatchSummary());
+    assertEquals(leaderScoreBoardService.getFinishedMatchSummary(),
+        followerScoreBoardService.getFinishedMatchSummary());
+    assertEquals(0, follower.stats().offsetLag());
+    assertTrue(follower.stats().applyLag().count() > 0);
+    assertThrows(UnsupportedOperationException.class,
+        () -> followerScoreBoardService.finishMatch(matches.get(0).id()));
+  }
+
+  @Test
+  void shouldContinueFromOffset_whenFollowerReconnects() {
+    startLeader(1024);
+    List<Match> matches = startMatches(3);
+    follower = new ReplicationFollower(leader.address(), CONFIG);
+    awaitCaughtUp();
+
+    leader.disconnectFollowers();
+    leaderScoreBoardService.updateOngoingMatch(matches.get(0).id(), 1, 0);
+    leaderScoreBoardService.finishMatch(matches.get(1).id());
+    await(() -> follower.stats().connections() == 2);
+    awaitCaughtUp();
+
+    assertEquals(1, follower.stats().snapshots());
+    assertEquals(leaderScoreBoardService.getOngoingMatchSummary(),
+        follower.scoreBoardService().getOngoingMatchSummary());
+    assertEquals(leaderScoreBoardService.getFinishedMatchSummary(),
+        follower.scoreBoardService().getFinishedMatchSummary());
+  }
+
+  @Test
+  void shouldCatchUpFromSnapshot_whenLeaderLogDoesNotHaveOffset() {
+    startLeader(4);
+    List<Match> matches = startMatches(3);
+    follower = new ReplicationFollower(leader.address(), CONFIG);
+    awaitCaughtUp();
+
+    leader.disconnectFollowers();
+    for (int score = 1; score <= 10; score++) {
+      leaderScoreBoardService.updateOngoingMatch(matches.get(0).id(), score, 0);
+    }
+    leaderScoreBoardService.finishMatch(matches.get(1).id());
+    await(() -> follower.stats().snapshots() == 2);
+    awaitCaughtUp();
+
+    assertEquals(leaderScoreBoardService.getOngoingMatchSummary(),
+        follower.scoreBoardService().getOngoingMatchSummary());
+    assertEquals(leaderScoreBoardService.getFinishedMatchSummary(),
+        follower.scoreBoardService().getFinishedMatchSummary());
+    assertEquals(10, follower.scoreBoardService().getOngoingMatchSummary().getFirst().homeTeamScore());
+  }
+
+  @Test
+  void shouldReconnect_whenLeaderSendsNothing() throws IOException, InterruptedException {
+    try (var silentLeader = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+      List<Socket> connections = new CopyOnWriteArrayList<>();
+      Thread acceptor = Thread.ofVirtual().start(() -> {
+        try {
+          while (true) {
+            connections.add(silentLeader.accept());
+          }
+        } catch (IOException e) {
+          // the server socket is closed
+        }
+      });
+      follower = new ReplicationFollower((InetSocketAddress) silentLeader.getLocalSocketAddress(), CONFIG);
+
+      await(() -> follower.stats().connections() >= 2);
+      silentLeader.close();
+      acceptor.join();
+      for (Socket connection : connections) {
+        connection.close();
+      }
+    }
+  }
+
+  private void startLeader(int logCapacity) {
+    log = new ReplicationLog(logCapacity);
+    leaderScoreBoardService = new ScoreBoardServiceImpl(new JournaledOngoingMatchStorage(ongoingMatchStorage, log),
+        new JournaledAvailableTeamStorage(availableTeamStorage, log),
+        new JournaledFinishedMatchStorage(finishedMatchStorage, log));
+    leader = ReplicationLeader.start(log, availableTeamStorage, ongoingMatchStorage, finishedMatchStorage, CONFIG,
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+  }
+
+  private List<Match> startMatches(int count) {
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      var homeTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "Home " + i));
+      var visitorTeam = availableTeamStorage.put(new Team(UUID.randomUUID(), "Visitor " + i));
+      matches.add(leaderScoreBoardService.startNewMatch(homeTeam.id(), visitorTeam.id(),
+          START_TIME.plusSeconds(60L * i)));
+    }
+    return matches;
+  }
+
+  private void awaitCaughtUp() {
+    await(() -> follower.stats().connected() && follower.stats().appliedOffset() == log.endOffset());
+  }
+
+  private static void await(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Condition was not met in time.");
+      Thread.onSpinWait();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package org.example.infrastructure.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.example.domain.Match;
+import org.example.domain.Team;
+import org.example.infrastructure.replication.Mutation.MatchStarted;
+import org.example.infrastructure.replication.Mutation.MatchFinished;
+import org.junit.jupiter.api.Test;
+
+class ReplicationLogTest {
+
+  @Test
+  void shouldReadEntriesInOffsetOrder() {
+    var log = new ReplicationLog(8);
+    List<Match> matches = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      matches.add(newMatch());
+      log.matchFinished(matches.getLast());
+    }
+
+    List<ReplicationLog.Entry> entries = new ArrayList<>();
+    assertTrue(log.read(1, 3, entries));
+
+    assertEquals(List.of(1L, 2L, 3L), entries.stream().map(ReplicationLog.Entry::offset).toList());
+    assertEquals(new MatchFinished(matches.get(1).id()),
+        ReplicationProtocol.decodeMutation(ByteBuffer.wrap(entries.getFirst().mutation())));
+    assertEquals(5, log.endOffset());
+  }
+
+  @Test
+  void shouldNotReadOverwrittenEntries() {
+    var log = new ReplicationLog(4);
+    for (int i = 0; i < 10; i++) {
+      log.matchFinished(newMatch());
+    }
+    List<ReplicationLog.Entry> entries = new ArrayList<>();
+
+    assertEquals(6, log.firstOffset());
+    assertFalse(log.read(5, 10, entries));
+    assertFalse(log.read(11, 10, entries));
+    assertTrue(log.read(6, 10, entries));
+    assertEquals(4, entries.size());
+    assertTrue(log.read(10, 10, entries));
+    assertEquals(4, entries.size());
+  }
+
+  @Test
+  void shouldWaitForAppend() throws InterruptedException {
+    var log = new ReplicationLog(4);
+
+    assertFalse(log.awaitAppend(0, 1, TimeUnit.MILLISECONDS));
+    Thread.ofVirtual().start(() -> log.matchFinished(newMatch()));
+    assertTrue(log.awaitAppend(0, 10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void shouldReadEveryEntry_whenWritersAppendConcurrently() throws InterruptedException {
+    var log = new ReplicationLog(1 << 12);
+    int writers = 4;
+    int appendsPerWriter = 500;
+    var start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < writers; i++) {
+      threads.add(Thread.ofPlatform().start(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+        for (int j = 0; j < appendsPerWriter; j++) {
+          // a match is larger than the initial slot buffer once the names are long enough
+          String name = "team " + j + "x".repeat(j % 200);
+          log.matchStarted(new Match(UUID.randomUUID(), new Team(UUID.randomUUID(), name),
+              new Team(UUID.randomUUID(), name), 0, 0, Instant.now()));
+        }
+      }));
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    List<ReplicationLog.Entry> entries = new ArrayList<>();
+    assertTrue(log.read(0, writers * appendsPerWriter, entries));
+    assertEquals(writers * appendsPerWriter, entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      assertEquals(i, (int) entries.get(i).offset());
+      Mutation mutation = ReplicationProtocol.decodeMutation(ByteBuffer.wrap(entries.get(i).mutation()));
+      assertTrue(mutation instanceof MatchStarted);
+    }
+  }
+
+  private static Match newMatch() {
+    return new Match(new Team(UUID.randomUUID(), "Austria"), new Team(UUID.randomUUID(), "England"), Instant.now());
+  }
+}
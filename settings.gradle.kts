@@ -12,4 +12,4 @@ plugins {
 }
 
 rootProject.name = "world-cup-score-board"
-include("lib")
+include("lib", "http")